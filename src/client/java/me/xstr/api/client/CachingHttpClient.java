@@ -0,0 +1,308 @@
+package me.xstr.api.client;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link HttpClient} that answers {@code GET} requests from a {@link ResponseCache} where it can,
+ * delegating everything else.
+ * <p>
+ * Concurrent identical requests (same URI and headers) share one exchange. A {@code 200} is
+ * cached for the configured TTL, or for its {@code Cache-Control: max-age} when there is none,
+ * unless it is {@code no-store}. Once stale, a response with an {@code ETag} is revalidated with
+ * {@code If-None-Match} and a {@code 304} renews it; callers then get the cached {@code 200}.
+ * Bodies are read as bytes and replayed into each caller's {@link HttpResponse.BodyHandler}.
+ * Requests that carry their own {@code If-None-Match} bypass the cache.
+ */
+public class CachingHttpClient extends HttpClient {
+
+    private static final Pattern MAX_AGE = Pattern.compile("(?:^|,)\\s*max-age\\s*=\\s*(\\d+)", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern NO_STORE = Pattern.compile("(?:^|,)\\s*no-store\\s*(?:,|$)", Pattern.CASE_INSENSITIVE);
+
+    private final HttpClient delegate;
+
+    private final ResponseCache cache;
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, CompletableFuture<ResponseCache.CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttl how long responses are served without asking the server, or {@code null} to
+     *            use their {@code max-age}
+     */
+    public CachingHttpClient(HttpClient delegate, ResponseCache cache, Duration ttl) {
+        this(delegate, cache, ttl, Clock.systemUTC());
+    }
+
+    CachingHttpClient(HttpClient delegate, ResponseCache cache, Duration ttl, Clock clock) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+        if (!"GET".equals(request.method()) || request.headers().firstValue("If-None-Match").isPresent()) {
+            return delegate.sendAsync(request, responseBodyHandler);
+        }
+        String key = request.uri() + " " + request.headers().map();
+        ResponseCache.CachedResponse cached = cache.get(key);
+        if (cached != null && cached.isFresh(clock.instant())) {
+            return replay(request, cached, responseBodyHandler);
+        }
+        CompletableFuture<ResponseCache.CachedResponse> created = new CompletableFuture<>();
+        CompletableFuture<ResponseCache.CachedResponse> pending = inFlight.putIfAbsent(key, created);
+        if (pending == null) {
+            pending = created;
+            fetch(request, key, cached).whenComplete((response, failure) -> {
+                inFlight.remove(key, created);
+                if (failure != null) {
+                    created.completeExceptionally(failure);
+                } else {
+                    created.complete(response);
+                }
+            });
+        }
+        return pending.thenCompose(response -> replay(request, response, responseBodyHandler));
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler,
+                                                            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        return delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        try {
+            return sendAsync(request, responseBodyHandler).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private CompletableFuture<ResponseCache.CachedResponse> fetch(HttpRequest request, String key, ResponseCache.CachedResponse cached) {
+        HttpRequest sent = request;
+        if (cached != null && cached.etag() != null) {
+            sent = HttpRequest.newBuilder(request, (name, value) -> true).header("If-None-Match", cached.etag()).build();
+        }
+        return delegate.sendAsync(sent, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+            HttpHeaders headers = response.headers();
+            if (cached != null && response.statusCode() == 304) {
+                String etag = headers.firstValue("ETag").orElse(cached.etag());
+                HttpHeaders freshness = headers.firstValue("Cache-Control").isPresent() ? headers : cached.headers();
+                ResponseCache.CachedResponse renewed = new ResponseCache.CachedResponse(cached.statusCode(), cached.headers(),
+                        cached.body(), cached.version(), etag, expires(freshness));
+                cache.put(key, renewed);
+                return renewed;
+            }
+            String etag = headers.firstValue("ETag").orElse(null);
+            ResponseCache.CachedResponse fresh = new ResponseCache.CachedResponse(response.statusCode(), headers,
+                    response.body(), response.version(), etag, expires(headers));
+            String cacheControl = headers.firstValue("Cache-Control").orElse("");
+            if (response.statusCode() == 200 && !NO_STORE.matcher(cacheControl).find()
+                    && (etag != null || fresh.isFresh(clock.instant()))) {
+                cache.put(key, fresh);
+            } else {
+                cache.remove(key);
+            }
+            return fresh;
+        });
+    }
+
+    private Instant expires(HttpHeaders headers) {
+        if (ttl != null) {
+            return clock.instant().plus(ttl);
+        }
+        Matcher maxAge = MAX_AGE.matcher(headers.firstValue("Cache-Control").orElse(""));
+        return maxAge.find() ? clock.instant().plusSeconds(Long.parseLong(maxAge.group(1))) : clock.instant();
+    }
+
+    private static <T> CompletableFuture<HttpResponse<T>> replay(HttpRequest request, ResponseCache.CachedResponse cached,
+                                                                 HttpResponse.BodyHandler<T> handler) {
+        try {
+            HttpResponse.BodySubscriber<T> subscriber = handler.apply(new HttpResponse.ResponseInfo() {
+                @Override
+                public int statusCode() {
+                    return cached.statusCode();
+                }
+
+                @Override
+                public HttpHeaders headers() {
+                    return cached.headers();
+                }
+
+                @Override
+                public Version version() {
+                    return cached.version();
+                }
+            });
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (!done && n > 0) {
+                        done = true;
+                        subscriber.onNext(List.of(ByteBuffer.wrap(cached.body())));
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+            return subscriber.getBody().toCompletableFuture()
+                    .thenApply(body -> new ReplayedResponse<>(request, cached, body));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return delegate.newWebSocketBuilder();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return delegate.awaitTermination(duration);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private record ReplayedResponse<T>(HttpRequest request, ResponseCache.CachedResponse cached, T body) implements HttpResponse<T> {
+
+        @Override
+        public int statusCode() {
+            return cached.statusCode();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return cached.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public Version version() {
+            return cached.version();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.xstr.api.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ResponseCache} holding up to {@code maxEntries} responses on the heap, evicting the
+ * least recently used one first.
+ */
+public class InMemoryResponseCache implements ResponseCache {
+
+    private final Map<String, CachedResponse> entries;
+
+    public InMemoryResponseCache() {
+        this(256);
+    }
+
+    public InMemoryResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(String key, CachedResponse response) {
+        entries.put(key, response);
+    }
+
+    @Override
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
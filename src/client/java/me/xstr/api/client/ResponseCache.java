@@ -0,0 +1,37 @@
+package me.xstr.api.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.time.Instant;
+
+/**
+ * Storage behind {@link CachingHttpClient}: successful {@code GET} responses by request key.
+ * The client decides what is cached and for how long; an implementation only keeps entries,
+ * e.g. in memory ({@link InMemoryResponseCache}) or in a store shared between instances.
+ * Implementations must be thread-safe.
+ */
+public interface ResponseCache {
+
+    /**
+     * The cached response for {@code key}, fresh or not, or {@code null}.
+     */
+    CachedResponse get(String key);
+
+    void put(String key, CachedResponse response);
+
+    void remove(String key);
+
+    /**
+     * A response body with what is needed to replay and revalidate it.
+     *
+     * @param etag    validator sent back as {@code If-None-Match}, or {@code null}
+     * @param expires until when the response is served without asking the server
+     */
+    record CachedResponse(int statusCode, HttpHeaders headers, byte[] body, HttpClient.Version version,
+                          String etag, Instant expires) {
+
+        public boolean isFresh(Instant now) {
+            return now.isBefore(expires);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.xstr.api.client;
+
+import me.xstr.api.model.ApiModelsModule;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * {@link ApiClient} for JVM services. Unlike the generated one, which builds a new
+ * {@link HttpClient} for every API object, it builds one and shares it, so all APIs created from
+ * it reuse the same connections. That client prefers HTTP/2, falling back to HTTP/1.1 when the
+ * server does not upgrade. Models are read and written by the generated serializers of
+ * {@link ApiModelsModule}, and {@code GET} responses can be cached with
+ * {@link #setResponseCache(ResponseCache, Duration)}.
+ * <p>
+ * Like {@link ApiClient}, configure it before creating the APIs; it is not thread-safe.
+ */
+public class XstrApiClient extends ApiClient {
+
+    private ResponseCache responseCache;
+
+    private Duration responseCacheTtl;
+
+    private HttpClient httpClient;
+
+    public XstrApiClient() {
+        this(null);
+    }
+
+    /**
+     * @param baseUri the server's base URI, or {@code null} for the spec's first server
+     */
+    public XstrApiClient(String baseUri) {
+        super(HttpClient.newBuilder().version(HttpClient.Version.HTTP_2),
+                createDefaultObjectMapper().registerModule(new ApiModelsModule()), baseUri);
+    }
+
+    /**
+     * Caches {@code GET} responses in {@code cache} through a {@link CachingHttpClient}.
+     *
+     * @param ttl how long responses are served without asking the server, or {@code null} to
+     *            use their {@code Cache-Control: max-age}
+     */
+    public XstrApiClient setResponseCache(ResponseCache cache, Duration ttl) {
+        this.responseCache = cache;
+        this.responseCacheTtl = ttl;
+        this.httpClient = null;
+        return this;
+    }
+
+    @Override
+    public ApiClient setHttpClientBuilder(HttpClient.Builder builder) {
+        this.httpClient = null;
+        return super.setHttpClientBuilder(builder);
+    }
+
+    @Override
+    public ApiClient setConnectTimeout(Duration connectTimeout) {
+        this.httpClient = null;
+        return super.setConnectTimeout(connectTimeout);
+    }
+
+    /**
+     * The shared client, built on first use from the current builder and cache.
+     */
+    @Override
+    public HttpClient getHttpClient() {
+        if (httpClient == null) {
+            HttpClient client = super.getHttpClient();
+            httpClient = responseCache == null ? client : new CachingHttpClient(client, responseCache, responseCacheTtl);
+        }
+        return httpClient;
+    }
+}
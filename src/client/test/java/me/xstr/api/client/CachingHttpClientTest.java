@@ -0,0 +1,186 @@
+package me.xstr.api.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.xstr.api.client.api.InfoApi;
+import me.xstr.api.model.VersionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingHttpClientTest {
+
+    private static final String VERSION = "{\"version\":\"0.0.1-alpha\",\"build\":\"abc123\",\"timestamp\":\"2025-05-27T08:00:00Z\"}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final Map<String, String> ifNoneMatch = new ConcurrentHashMap<>();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private volatile String cacheControl = "no-cache";
+
+    private volatile boolean hold;
+
+    private HttpServer server;
+
+    private URI base;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/version", this::version);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        base = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void sharesOneExchangeBetweenConcurrentIdenticalRequests() {
+        hold = true;
+        HttpClient client = cachingClient(Duration.ZERO);
+
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, 8)
+                .mapToObj(i -> client.sendAsync(get("/version"), HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        release.countDown();
+
+        responses.forEach(response -> assertEquals(VERSION, response.join().body()));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void servesFreshResponsesFromTheCache() throws Exception {
+        HttpClient client = cachingClient(Duration.ofMinutes(1));
+
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> cached = client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, cached.statusCode());
+        assertEquals(VERSION, cached.body());
+        assertEquals("\"v1\"", cached.headers().firstValue("ETag").orElseThrow());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void usesMaxAgeWithoutTtl() throws Exception {
+        cacheControl = "public, max-age=60";
+        HttpClient client = cachingClient(null);
+
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void revalidatesStaleResponsesWithTheirETag() throws Exception {
+        HttpClient client = cachingClient(null);
+
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<byte[]> revalidated = client.send(get("/version"), HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(2, requests.get());
+        assertEquals("\"v1\"", ifNoneMatch.get("last"));
+        assertEquals(200, revalidated.statusCode());
+        assertEquals(VERSION, new String(revalidated.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doesNotCacheNoStoreResponses() throws Exception {
+        cacheControl = "no-store";
+        HttpClient client = cachingClient(Duration.ofMinutes(1));
+
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(2, requests.get());
+        assertFalse(ifNoneMatch.containsKey("last"));
+    }
+
+    @Test
+    void keepsRequestsWithDifferentHeadersApart() throws Exception {
+        HttpClient client = cachingClient(Duration.ofMinutes(1));
+
+        client.send(get("/version"), HttpResponse.BodyHandlers.ofString());
+        client.send(HttpRequest.newBuilder(URI.create(base + "/version")).header("Accept", "application/json").build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void apisShareOneCachingClient() throws Exception {
+        XstrApiClient apiClient = new XstrApiClient(base.toString());
+        apiClient.setResponseCache(new InMemoryResponseCache(), Duration.ofMinutes(1));
+
+        VersionResponse first = new InfoApi(apiClient).getVersion().get(5, TimeUnit.SECONDS);
+        VersionResponse second = new InfoApi(apiClient).getVersion().get(5, TimeUnit.SECONDS);
+
+        assertSame(apiClient.getHttpClient(), apiClient.getHttpClient());
+        assertInstanceOf(CachingHttpClient.class, apiClient.getHttpClient());
+        assertEquals("0.0.1-alpha", first.getVersion());
+        assertEquals(first, second);
+        assertEquals(1, requests.get());
+    }
+
+    private HttpClient cachingClient(Duration ttl) {
+        return new CachingHttpClient(HttpClient.newHttpClient(), new InMemoryResponseCache(), ttl);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).build();
+    }
+
+    private void version(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (etag != null) {
+            ifNoneMatch.put("last", etag);
+        }
+        if (hold) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        exchange.getResponseHeaders().set("ETag", "\"v1\"");
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        if ("\"v1\"".equals(etag)) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            byte[] body = VERSION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,90 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result ({@code -rf json}) against a stored baseline.
+ * <p>
+ * Usage: {@code BenchmarkComparator <result.json> <baseline.json> [thresholdPercent]}.
+ * A benchmark is a regression when it is worse than the baseline by more than the threshold
+ * (default 10%) and by more than the two scores' combined error. For throughput, worse means
+ * lower; for time-based modes it means higher. Exits with status 1 if any regression is found,
+ * and 0 when there is no baseline yet.
+ */
+public final class BenchmarkComparator {
+
+    private BenchmarkComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparator <result.json> <baseline.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        File baselineFile = new File(args[1]);
+        if (!baselineFile.isFile()) {
+            System.out.println("No baseline at " + baselineFile + ", nothing to compare. Copy " + args[0] + " there to create one.");
+            return;
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100.0d : 0.10d;
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> results = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> baseline = index(mapper.readTree(baselineFile));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            JsonNode current = entry.getValue();
+            if (previous == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", score(current), "new");
+                continue;
+            }
+            double change = (score(current) - score(previous)) / score(previous);
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+            double worsening = higherIsBetter ? -change : change;
+            boolean beyondError = Math.abs(score(current) - score(previous)) > error(current) + error(previous);
+            boolean regression = worsening > threshold && beyondError;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), score(previous), score(current),
+                    change * 100.0d, regression ? "  REGRESSION" : "");
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) beyond " + Math.round(threshold * 100.0d) + "%");
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + Math.round(threshold * 100.0d) + "%");
+    }
+
+    private static Map<String, JsonNode> index(JsonNode runs) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText()).append(" [").append(run.path("mode").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            byKey.put(key.append(']').toString(), run);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonNode run) {
+        return run.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode run) {
+        double error = run.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0.0d : error;
+    }
+}
@@ -0,0 +1,103 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.xstr.api.RFC3339DateFormat;
+import me.xstr.api.XstrMEApiApplication;
+import me.xstr.api.model.ApiModelsModule;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.model.VersionResponse;
+import me.xstr.api.time.CachedClock;
+import me.xstr.api.time.RFC3339Module;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Fixtures shared by the benchmarks.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Mapper configured like the application's: RFC 3339 dates, no numeric timestamps and the
+     * generated model serializers.
+     */
+    static ObjectMapper applicationObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .dateFormat(new RFC3339DateFormat())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new RFC3339Module(new CachedClock()), new ApiModelsModule())
+                .build();
+    }
+
+    /**
+     * The application's mapper without the generated model serializers, so models go through
+     * bean introspection.
+     */
+    static ObjectMapper introspectingObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .dateFormat(new RFC3339DateFormat())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new RFC3339Module(new CachedClock()))
+                .build();
+    }
+
+    /**
+     * Mapper with only Jackson's stock java.time support, for comparison.
+     */
+    static ObjectMapper jsr310ObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static HealthResponse healthResponse() {
+        return new HealthResponse()
+                .status(HealthResponse.StatusEnum.HEALTHY)
+                .timestamp(OffsetDateTime.parse("2025-05-27T10:30:00Z"))
+                .version("0.0.1-alpha")
+                .uptime("2d 5h 30m");
+    }
+
+    static VersionResponse versionResponse() {
+        return new VersionResponse("0.0.1-alpha", "abc123def")
+                .timestamp(OffsetDateTime.parse("2025-05-27T08:00:00.123Z"));
+    }
+
+    static ErrorResponse errorResponse() {
+        return new ErrorResponse("SERVICE_UNAVAILABLE", "The service is temporarily unavailable")
+                .details(Map.of("retryAfterSeconds", 5))
+                .timestamp(OffsetDateTime.parse("2025-05-27T10:30:00Z"));
+    }
+
+    /**
+     * Starts the application on an ephemeral port with quiet logging.
+     */
+    static ConfigurableApplicationContext startApplication(String... properties) {
+        return startApplication(new Class<?>[0], properties);
+    }
+
+    /**
+     * Starts the application with additional bean classes, e.g. benchmark-only filters. They are
+     * registered explicitly because the benchmark package is not meant to be component-scanned.
+     */
+    static ConfigurableApplicationContext startApplication(Class<?>[] sources, String... properties) {
+        // Passed as command-line arguments so they take precedence over application.properties
+        String[] args = Stream.concat(
+                        // Benchmarks drive bursts from one address: measure the dispatch, not 429s and 503s
+                        Stream.of("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                                "xstr.rate-limit.enabled=false", "xstr.concurrency-limit.enabled=false"),
+                        Stream.of(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(XstrMEApiApplication.class).sources(sources).run(args);
+    }
+}
@@ -0,0 +1,90 @@
+package me.xstr.api.benchmark;
+
+import me.xstr.api.client.InMemoryResponseCache;
+import me.xstr.api.client.XstrApiClient;
+import me.xstr.api.client.api.InfoApi;
+import me.xstr.api.model.VersionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Java client against the application on a local socket, with h2c enabled on the server.
+ * <p>
+ * {@code getVersion} is the latency of one call; {@code getVersionFanOut} is throughput with
+ * {@value #FAN_OUT} calls in flight, which HTTP/1.1 spreads over as many connections and HTTP/2
+ * multiplexes over one. With {@code cache=etag} every call revalidates with {@code If-None-Match}
+ * and reads a {@code 304}; {@code cache=ttl} answers from memory.
+ */
+@State(Scope.Benchmark)
+public class ClientBenchmark {
+
+    private static final int FAN_OUT = 64;
+
+    @Param({"HTTP_1_1", "HTTP_2"})
+    public String protocol;
+
+    @Param({"none", "etag", "ttl"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private InfoApi infoApi;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startApplication("server.http2.enabled=true");
+        String port = context.getEnvironment().getProperty("local.server.port");
+        XstrApiClient apiClient = new XstrApiClient("http://localhost:" + port + "/v1");
+        apiClient.setHttpClientBuilder(HttpClient.newBuilder().version(HttpClient.Version.valueOf(protocol)));
+        switch (cache) {
+            case "etag" -> apiClient.setResponseCache(new InMemoryResponseCache(), Duration.ZERO);
+            case "ttl" -> apiClient.setResponseCache(new InMemoryResponseCache(), Duration.ofHours(1));
+            default -> {
+            }
+        }
+        httpClient = apiClient.getHttpClient();
+        infoApi = new InfoApi(apiClient);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public VersionResponse getVersion() throws Exception {
+        return infoApi.getVersion().get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(FAN_OUT)
+    public void getVersionFanOut() throws Exception {
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[FAN_OUT];
+        for (int i = 0; i < FAN_OUT; i++) {
+            calls[i] = infoApi.getVersion();
+        }
+        CompletableFuture.allOf(calls).get();
+    }
+}
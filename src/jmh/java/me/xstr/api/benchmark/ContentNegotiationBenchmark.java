@@ -0,0 +1,44 @@
+package me.xstr.api.benchmark;
+
+import me.xstr.api.controller.AcceptHeaderNegotiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accept-header negotiation as the generated delegates used to do it, versus the cached negotiator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContentNegotiationBenchmark {
+
+    @Param({
+        "application/json",
+        "*/*",
+        "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"
+    })
+    public String accept;
+
+    @Benchmark
+    public MediaType generatedLoop() {
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                return mediaType;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public MediaType cachedNegotiator() {
+        return AcceptHeaderNegotiator.forOperation("getHealth", "application/json").negotiate(accept);
+    }
+}
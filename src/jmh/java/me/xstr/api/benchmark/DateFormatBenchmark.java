@@ -0,0 +1,76 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import me.xstr.api.RFC3339DateFormat;
+import me.xstr.api.time.RFC3339;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RFC 3339 formatting and parsing from several threads at once.
+ * <p>
+ * {@code shared*} use one {@link RFC3339DateFormat} for all threads, as Jackson does.
+ * {@code stdPerThread*} use a private {@link StdDateFormat} per thread, which is what the
+ * previous implementation needed to be safe.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class DateFormatBenchmark {
+
+    private static final String TEXT = "2025-05-27T10:30:00.123Z";
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        final RFC3339DateFormat format = new RFC3339DateFormat();
+
+        final Date date = new Date(1748341800123L);
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+
+        final DateFormat std = new StdDateFormat()
+                .withTimeZone(TimeZone.getTimeZone("UTC"))
+                .withColonInTimeZone(true);
+
+        final char[] buf = new char[RFC3339.MAX_LENGTH];
+    }
+
+    @Benchmark
+    public String sharedFormat(Shared shared) {
+        return shared.format.format(shared.date);
+    }
+
+    @Benchmark
+    public Date sharedParse(Shared shared) throws ParseException {
+        return shared.format.parse(TEXT);
+    }
+
+    @Benchmark
+    public int engineFormatIntoBuffer(Shared shared, PerThread perThread) {
+        return RFC3339.formatEpochMilli(shared.date.getTime(), perThread.buf, 0);
+    }
+
+    @Benchmark
+    public String stdPerThreadFormat(Shared shared, PerThread perThread) {
+        return perThread.std.format(shared.date);
+    }
+
+    @Benchmark
+    public Date stdPerThreadParse(PerThread perThread) throws ParseException {
+        return perThread.std.parse(TEXT);
+    }
+}
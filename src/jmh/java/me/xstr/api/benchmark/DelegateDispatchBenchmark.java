@@ -0,0 +1,95 @@
+package me.xstr.api.benchmark;
+
+import me.xstr.api.controller.HealthApiController;
+import me.xstr.api.controller.InfoApiController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Request dispatch against the running application context.
+ * <p>
+ * {@code controller*} call {@link HealthApiController}/{@link InfoApiController} directly with
+ * a bound request, measuring controller → delegate → response writing. {@code mvc*} go through
+ * the full {@code DispatcherServlet} via {@link MockMvc}: handler lookup, content negotiation and
+ * return value handling, without a socket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DelegateDispatchBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private HealthApiController healthController;
+
+    private InfoApiController infoController;
+
+    private MockMvc mockMvc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startApplication();
+        healthController = context.getBean(HealthApiController.class);
+        infoController = context.getBean(InfoApiController.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int controllerGetHealth() {
+        return dispatch("/v1/health", healthController::getHealth);
+    }
+
+    @Benchmark
+    public int controllerGetVersion() {
+        return dispatch("/v1/version", infoController::getVersion);
+    }
+
+    @Benchmark
+    public int mvcGetHealth() throws Exception {
+        return mockMvc.perform(get("/v1/health").header("Accept", "application/json")).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int mvcGetVersion() throws Exception {
+        return mockMvc.perform(get("/v1/version").header("Accept", "application/json")).andReturn().getResponse().getStatus();
+    }
+
+    private static int dispatch(String path, Supplier<ResponseEntity<?>> operation) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            operation.get();
+            return response.getContentLength();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package me.xstr.api.benchmark;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform-thread vs virtual-thread request execution ({@code spring.threads.virtual.enabled})
+ * when every request blocks on a slow downstream call.
+ * <p>
+ * Each invocation sends {@code concurrency} requests to {@code /v1/health} at once over real
+ * sockets and waits for all of them. A {@link DownstreamLatencyFilter} sleeps
+ * {@code latencyMillis} per request to simulate the blocking call. Platform threads are capped by
+ * {@code server.tomcat.threads.max} (default 200), so higher concurrency queues in rounds of
+ * that size. Virtual threads park during the sleep, so the whole batch should take about one
+ * latency period.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 4)
+@Measurement(iterations = 5, time = 4)
+public class ExecutionModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"100", "400"})
+    public int concurrency;
+
+    @Param({"100"})
+    public int latencyMillis;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkSupport.startApplication(new Class<?>[] {DownstreamLatencyFilter.class},
+                "spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                "benchmark.downstream-latency-ms=" + latencyMillis);
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/v1/health"))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int blockingBatch() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    /**
+     * Blocks the request thread for {@code benchmark.downstream-latency-ms}, like a synchronous
+     * call to a slow dependency would.
+     */
+    public static class DownstreamLatencyFilter implements Filter {
+
+        @Value("${benchmark.downstream-latency-ms}")
+        private long latencyMillis;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            }
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.model.HealthResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First serialization through a fresh mapper, i.e. the per-mapper serializer construction the
+ * first request after startup pays. {@code generated} uses the generated model serializers,
+ * {@code introspected} builds bean serializers by reflection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 100)
+public class FirstSerializationBenchmark {
+
+    @Param({"generated", "introspected"})
+    public String codec;
+
+    private ObjectMapper mapper;
+
+    private HealthResponse health;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        mapper = "generated".equals(codec)
+                ? BenchmarkSupport.applicationObjectMapper()
+                : BenchmarkSupport.introspectingObjectMapper();
+        health = BenchmarkSupport.healthResponse();
+    }
+
+    @Benchmark
+    public byte[] serializeHealth() throws IOException {
+        return mapper.writeValueAsBytes(health);
+    }
+}
@@ -0,0 +1,89 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.model.VersionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding the API models as JSON, CBOR and Smile with the application's mapper
+ * configuration. The payload sizes are printed once per fork, as {@code payload bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public ModelFormat format;
+
+    private ObjectMapper mapper;
+
+    private HealthResponse health;
+
+    private VersionResponse version;
+
+    private ErrorResponse error;
+
+    private byte[] healthBytes;
+
+    private byte[] versionBytes;
+
+    private byte[] errorBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ModelCodecs(BenchmarkSupport.applicationObjectMapper()).getMapper(format);
+        health = BenchmarkSupport.healthResponse();
+        version = BenchmarkSupport.versionResponse();
+        error = BenchmarkSupport.errorResponse();
+        healthBytes = mapper.writeValueAsBytes(health);
+        versionBytes = mapper.writeValueAsBytes(version);
+        errorBytes = mapper.writeValueAsBytes(error);
+        System.out.printf("%n%s payload bytes: health %d, version %d, error %d%n", format, healthBytes.length,
+                versionBytes.length, errorBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeHealth() throws IOException {
+        return mapper.writeValueAsBytes(health);
+    }
+
+    @Benchmark
+    public byte[] encodeVersion() throws IOException {
+        return mapper.writeValueAsBytes(version);
+    }
+
+    @Benchmark
+    public byte[] encodeError() throws IOException {
+        return mapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public HealthResponse decodeHealth() throws IOException {
+        return mapper.readValue(healthBytes, HealthResponse.class);
+    }
+
+    @Benchmark
+    public VersionResponse decodeVersion() throws IOException {
+        return mapper.readValue(versionBytes, VersionResponse.class);
+    }
+
+    @Benchmark
+    public ErrorResponse decodeError() throws IOException {
+        return mapper.readValue(errorBytes, ErrorResponse.class);
+    }
+}
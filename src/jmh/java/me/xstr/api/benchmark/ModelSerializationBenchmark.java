@@ -0,0 +1,93 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.model.VersionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization and deserialization of the API models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ModelSerializationBenchmark {
+
+    /**
+     * {@code generated}: the application's mapper (generated model serializers, RFC 3339 dates);
+     * {@code rfc3339}: RFC 3339 dates with bean introspection; {@code jsr310}: bean introspection
+     * with Jackson's stock java.time handling.
+     */
+    @Param({"generated", "rfc3339", "jsr310"})
+    public String codec;
+
+    private ObjectMapper mapper;
+
+    private HealthResponse health;
+
+    private VersionResponse version;
+
+    private ErrorResponse error;
+
+    private byte[] healthJson;
+
+    private byte[] versionJson;
+
+    private byte[] errorJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (codec) {
+            case "generated" -> BenchmarkSupport.applicationObjectMapper();
+            case "rfc3339" -> BenchmarkSupport.introspectingObjectMapper();
+            default -> BenchmarkSupport.jsr310ObjectMapper();
+        };
+        health = BenchmarkSupport.healthResponse();
+        version = BenchmarkSupport.versionResponse();
+        error = BenchmarkSupport.errorResponse();
+        healthJson = mapper.writeValueAsBytes(health);
+        versionJson = mapper.writeValueAsBytes(version);
+        errorJson = mapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] serializeHealth() throws IOException {
+        return mapper.writeValueAsBytes(health);
+    }
+
+    @Benchmark
+    public byte[] serializeVersion() throws IOException {
+        return mapper.writeValueAsBytes(version);
+    }
+
+    @Benchmark
+    public byte[] serializeError() throws IOException {
+        return mapper.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public HealthResponse deserializeHealth() throws IOException {
+        return mapper.readValue(healthJson, HealthResponse.class);
+    }
+
+    @Benchmark
+    public VersionResponse deserializeVersion() throws IOException {
+        return mapper.readValue(versionJson, VersionResponse.class);
+    }
+
+    @Benchmark
+    public ErrorResponse deserializeError() throws IOException {
+        return mapper.readValue(errorJson, ErrorResponse.class);
+    }
+}
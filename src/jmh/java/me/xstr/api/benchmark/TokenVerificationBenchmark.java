@@ -0,0 +1,104 @@
+package me.xstr.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.auth.CachingTokenVerifier;
+import me.xstr.api.auth.JwtClaims;
+import me.xstr.api.auth.JwtVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer token verification with and without {@link CachingTokenVerifier}.
+ * <p>
+ * {@code uncached} checks the signature of every token, as {@link JwtVerifier} alone would on
+ * every request. {@code cached} goes through the cache; each call picks one of {@code callers}
+ * distinct tokens at random, so with more callers than {@code cacheEntries} part of the calls miss
+ * and pay for the signature too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class TokenVerificationBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    @Param({"1", "10000"})
+    public int callers;
+
+    @Param({"65536"})
+    public int cacheEntries;
+
+    private JwtVerifier verifier;
+
+    private CachingTokenVerifier cachingVerifier;
+
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        boolean rsa = algorithm.startsWith("RS");
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(rsa ? "RSA" : "EC");
+        if (rsa) {
+            generator.initialize(2048);
+        } else {
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        }
+        KeyPair keys = generator.generateKeyPair();
+        Clock clock = Clock.systemUTC();
+        verifier = new JwtVerifier(Map.of("bench", keys.getPublic()), "https://issuer.example", "xstr-api",
+                Duration.ofSeconds(60), new ObjectMapper(), clock);
+        cachingVerifier = new CachingTokenVerifier(verifier, cacheEntries, Duration.ofHours(1), clock);
+
+        Base64.Encoder base64url = Base64.getUrlEncoder().withoutPadding();
+        String header = base64url.encodeToString(("{\"alg\":\"" + algorithm + "\",\"kid\":\"bench\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        long exp = Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+        Signature signature = Signature.getInstance(rsa ? "SHA256withRSA" : "SHA256withECDSAinP1363Format");
+        tokens = new String[callers];
+        for (int i = 0; i < callers; i++) {
+            String claims = "{\"sub\":\"caller-" + i + "\",\"iss\":\"https://issuer.example\",\"aud\":\"xstr-api\",\"exp\":" + exp + "}";
+            String signingInput = header + "." + base64url.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+            signature.initSign(keys.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            tokens[i] = signingInput + "." + base64url.encodeToString(signature.sign());
+        }
+    }
+
+    @Benchmark
+    public JwtClaims uncached() {
+        return verifier.verify(token());
+    }
+
+    @Benchmark
+    public JwtClaims cached() {
+        return cachingVerifier.verify(token());
+    }
+
+    private String token() {
+        return tokens.length == 1 ? tokens[0] : tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+}
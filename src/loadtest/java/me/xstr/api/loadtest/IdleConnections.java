@@ -0,0 +1,244 @@
+package me.xstr.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds many mostly idle keep-alive connections, each polling one path at a fixed interval, and
+ * measures what they cost the process: resident memory, heap and live threads per connection,
+ * plus the poll latency.
+ * <p>
+ * Client connections run on virtual threads with plain blocking sockets, so their own footprint
+ * is small and the same for every server variant. Comparing runs against the servlet and
+ * reactive variants therefore isolates the server's per-connection cost.
+ */
+final class IdleConnections {
+
+    private static final long MAX_TRACKABLE = TimeUnit.MINUTES.toNanos(5);
+
+    /** {@code \r\n\r\n} as the last four bytes read. */
+    private static final int END_OF_HEAD = 0x0D0A0D0A;
+
+    private final InetSocketAddress address;
+
+    private final byte[] request;
+
+    private final int connections;
+
+    private final long pollIntervalNanos;
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE, 3);
+
+    private final LongAdder polls = new LongAdder();
+
+    private final LongAdder reconnects = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private volatile boolean measuring;
+
+    private volatile boolean running = true;
+
+    IdleConnections(URI baseUri, String path, String accept, int connections, Duration pollInterval) {
+        this.address = new InetSocketAddress(baseUri.getHost(), baseUri.getPort());
+        this.request = ("GET " + path + " HTTP/1.1\r\n"
+                + "Host: " + baseUri.getHost() + ":" + baseUri.getPort() + "\r\n"
+                + "Accept: " + accept + "\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        this.connections = connections;
+        this.pollIntervalNanos = pollInterval.toNanos();
+    }
+
+    /**
+     * Opens all connections, lets them settle for {@code settle}, then polls for {@code duration}.
+     */
+    Result run(Duration settle, Duration duration) throws InterruptedException {
+        Footprint before = Footprint.take();
+        CountDownLatch connected = new CountDownLatch(connections);
+        List<Thread> clients = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            clients.add(Thread.ofVirtual().name("idle-client-" + i).start(() -> poll(connected)));
+        }
+        if (!connected.await(2, TimeUnit.MINUTES)) {
+            throw new IllegalStateException((connected.getCount()) + " connections not established after 2 minutes");
+        }
+        TimeUnit.NANOSECONDS.sleep(settle.toNanos());
+        Footprint loaded = Footprint.take();
+
+        measuring = true;
+        long start = System.nanoTime();
+        TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        long elapsed = System.nanoTime() - start;
+        measuring = false;
+
+        running = false;
+        for (Thread client : clients) {
+            client.interrupt();
+        }
+        for (Thread client : clients) {
+            client.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        return new Result(connections, before, loaded, histogram, polls.sum(), reconnects.sum(), failures.sum(), elapsed);
+    }
+
+    private void poll(CountDownLatch connected) {
+        boolean counted = false;
+        long next = System.nanoTime() + ThreadLocalRandom.current().nextLong(pollIntervalNanos);
+        while (running) {
+            try (Socket socket = new Socket()) {
+                socket.connect(address, 10_000);
+                socket.setSoTimeout(30_000);
+                if (!counted) {
+                    connected.countDown();
+                    counted = true;
+                }
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                boolean keepAlive = true;
+                while (running && keepAlive) {
+                    parkUntil(next);
+                    next += pollIntervalNanos;
+                    long sent = System.nanoTime();
+                    out.write(request);
+                    out.flush();
+                    keepAlive = readResponse(in);
+                    if (measuring) {
+                        histogram.recordValue(Math.min(Math.max(System.nanoTime() - sent, 1L), MAX_TRACKABLE));
+                        polls.increment();
+                    }
+                }
+                if (running) {
+                    reconnects.increment();
+                }
+            } catch (IOException e) {
+                if (!running) {
+                    return;
+                }
+                failures.increment();
+                if (!counted) {
+                    connected.countDown();
+                    counted = true;
+                }
+                parkUntil(System.nanoTime() + pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Reads one response with a {@code Content-Length} body and returns whether the server
+     * keeps the connection open.
+     */
+    private static boolean readResponse(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder(256);
+        int last4 = 0;
+        while (last4 != END_OF_HEAD) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Connection closed by server");
+            }
+            head.append((char) b);
+            last4 = (last4 << 8) | b;
+        }
+        long length = 0;
+        boolean keepAlive = true;
+        for (String line : head.toString().split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim();
+            String value = line.substring(colon + 1).trim();
+            if (name.equalsIgnoreCase("Content-Length")) {
+                length = Long.parseLong(value);
+            } else if (name.equalsIgnoreCase("Connection") && value.equalsIgnoreCase("close")) {
+                keepAlive = false;
+            }
+        }
+        in.skipNBytes(length);
+        return keepAlive;
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Process footprint after a full GC: resident set size (Linux only, -1 elsewhere), used heap,
+     * and live platform threads.
+     */
+    record Footprint(long rssBytes, long heapBytes, int threads) {
+
+        static Footprint take() {
+            System.gc();
+            return new Footprint(rss(), ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                    ManagementFactory.getThreadMXBean().getThreadCount());
+        }
+
+        private static long rss() {
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024L;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // Not Linux; RSS is reported as unknown
+            }
+            return -1L;
+        }
+    }
+
+    record Result(int connections, Footprint before, Footprint loaded, Histogram histogram,
+                  long polls, long reconnects, long failures, long elapsedNanos) {
+
+        double rssPerConnection() {
+            return before.rssBytes() < 0 ? -1d : (double) (loaded.rssBytes() - before.rssBytes()) / connections;
+        }
+
+        double heapPerConnection() {
+            return (double) (loaded.heapBytes() - before.heapBytes()) / connections;
+        }
+
+        int addedThreads() {
+            return loaded.threads() - before.threads();
+        }
+
+        String summary() {
+            return String.format(Locale.ROOT,
+                    "connections %d, polls %d, reconnects %d, failures %d%n"
+                            + "RSS/connection %.1f KiB, heap/connection %.1f KiB, threads +%d%n"
+                            + "poll latency p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms",
+                    connections, polls, reconnects, failures,
+                    rssPerConnection() / 1024d, heapPerConnection() / 1024d, addedThreads(),
+                    histogram.getValueAtPercentile(50) / 1e6, histogram.getValueAtPercentile(99) / 1e6,
+                    histogram.getValueAtPercentile(99.9) / 1e6, histogram.getMaxValue() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package me.xstr.api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives scenarios against a base URL with {@link HttpClient}.
+ * <ul>
+ *   <li><b>Closed loop</b>: {@code concurrency} workers each send a request, wait for the response,
+ *   then send the next one, optionally paced to {@code rate / concurrency} requests per second.</li>
+ *   <li><b>Open loop</b>: requests are started at a fixed {@code rate} regardless of how fast
+ *   responses come back, up to {@code maxInFlight} outstanding requests.</li>
+ * </ul>
+ * Scenarios are interleaved round-robin. Each run warms up first, then resets the stats and measures.
+ */
+public final class LoadGenerator {
+
+    public enum Mode { CLOSED, OPEN }
+
+    private final HttpClient client;
+
+    private final URI baseUri;
+
+    private final List<ScenarioStats> stats = new ArrayList<>();
+
+    private final List<HttpRequest> requests = new ArrayList<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LoadGenerator(URI baseUri, List<Scenario> scenarios, Duration requestTimeout) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool(daemon("loadtest-http")))
+                .build();
+        for (Scenario scenario : scenarios) {
+            stats.add(new ScenarioStats(scenario));
+            requests.add(toRequest(scenario, requestTimeout));
+        }
+    }
+
+    public List<ScenarioStats> getStats() {
+        return stats;
+    }
+
+    /**
+     * Runs warm-up then measurement.
+     *
+     * @param rate requests per second; required for open loop, optional pacing (0 = none) for closed loop
+     * @return measured wall-clock duration in nanoseconds
+     */
+    public long run(Mode mode, int concurrency, double rate, int maxInFlight, Duration warmup, Duration duration)
+            throws InterruptedException {
+        if (!warmup.isZero()) {
+            execute(mode, concurrency, rate, maxInFlight, warmup);
+            stats.forEach(ScenarioStats::reset);
+        }
+        long start = System.nanoTime();
+        execute(mode, concurrency, rate, maxInFlight, duration);
+        return System.nanoTime() - start;
+    }
+
+    private void execute(Mode mode, int concurrency, double rate, int maxInFlight, Duration duration)
+            throws InterruptedException {
+        if (mode == Mode.OPEN) {
+            openLoop(rate, maxInFlight, duration);
+        } else {
+            closedLoop(concurrency, rate, duration);
+        }
+    }
+
+    private void closedLoop(int concurrency, double rate, Duration duration) throws InterruptedException {
+        long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * concurrency / rate) : 0L;
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, daemon("loadtest-worker"));
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                long next = System.nanoTime();
+                while (System.nanoTime() < deadline) {
+                    int index = nextScenario();
+                    // Paced workers time each request from its slot in the schedule, so a slow
+                    // response also counts against the requests it delayed
+                    long intended = intervalNanos > 0 ? next : System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(requests.get(index), HttpResponse.BodyHandlers.ofByteArray());
+                        stats.get(index).record(System.nanoTime() - intended, response.statusCode());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        stats.get(index).recordFailure(System.nanoTime() - intended);
+                    }
+                    if (intervalNanos > 0) {
+                        next += intervalNanos;
+                        parkUntil(next);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private void openLoop(double rate, int maxInFlight, Duration duration) throws InterruptedException {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Open-loop runs need a positive rate");
+        }
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) (duration.toNanos() / intervalNanos);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            parkUntil(intended);
+            int index = nextScenario();
+            if (!inFlight.tryAcquire()) {
+                // Saturated: count it as failed, timed from when it should have been sent
+                stats.get(index).recordFailure(System.nanoTime() - intended);
+                continue;
+            }
+            client.sendAsync(requests.get(index), HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        if (error != null) {
+                            stats.get(index).recordFailure(latency);
+                        } else {
+                            stats.get(index).record(latency, response.statusCode());
+                        }
+                        inFlight.release();
+                    });
+        }
+        if (!inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Requests still in flight one minute after the run ended");
+        }
+    }
+
+    private int nextScenario() {
+        return (int) (sequence.getAndIncrement() % requests.size());
+    }
+
+    private HttpRequest toRequest(Scenario scenario, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(baseUri.getPath().replaceAll("/+$", "") + scenario.getPath()))
+                .timeout(timeout)
+                .method(scenario.getMethod(), scenario.getBody() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(scenario.getBody()));
+        for (Map.Entry<String, String> header : scenario.getHeaders().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        return builder.build();
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemon(String prefix) {
+        AtomicLong counter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
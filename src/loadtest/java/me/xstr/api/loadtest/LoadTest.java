@@ -0,0 +1,225 @@
+package me.xstr.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import me.xstr.api.XstrMEApiApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the {@code loadtest} profile.
+ * <p>
+ * Boots {@link XstrMEApiApplication} on a random local port (unless {@code loadtest.url} points at a
+ * running instance), drives every scenario derived from {@code api-spec.yml}, prints a summary table
+ * and writes the full result as JSON. Configured through system properties:
+ * <ul>
+ *   <li>{@code loadtest.spec} - OpenAPI document (default {@code api-spec.yml})</li>
+ *   <li>{@code loadtest.url} - base URL of an already running server (default: start one in-process)</li>
+ *   <li>{@code loadtest.main-class} - application to start in-process (default {@link XstrMEApiApplication};
+ *   {@code me.xstr.api.reactive.XstrMEReactiveApiApplication} with the {@code reactive} profile)</li>
+ *   <li>{@code loadtest.mode} - {@code closed}, {@code open} or {@code idle} (default {@code closed})</li>
+ *   <li>{@code loadtest.concurrency} - closed-loop workers (default 16)</li>
+ *   <li>{@code loadtest.rate} - requests/second; open-loop target or closed-loop pacing (default 0 = unpaced)</li>
+ *   <li>{@code loadtest.max-in-flight} - open-loop cap on outstanding requests (default 1024)</li>
+ *   <li>{@code loadtest.warmup} / {@code loadtest.duration} - ISO-8601 or {@code 10s} style (defaults 10s / 30s)</li>
+ *   <li>{@code loadtest.timeout} - per-request timeout (default 10s)</li>
+ *   <li>{@code loadtest.connections} / {@code loadtest.poll-interval} - idle mode: keep-alive connections
+ *   and how often each polls (defaults 2000 / 5s)</li>
+ *   <li>{@code loadtest.result} - JSON output file (default {@code target/loadtest-result.json})</li>
+ * </ul>
+ * Any other {@code loadtest.app.*} property is passed to the in-process application with the prefix
+ * stripped, e.g. {@code -Dloadtest.app.spring.threads.virtual.enabled=true}.
+ */
+public final class LoadTest {
+
+    private static final String APP_PREFIX = "loadtest.app.";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path spec = Path.of(System.getProperty("loadtest.spec", "api-spec.yml"));
+        String mode = System.getProperty("loadtest.mode", "closed").toLowerCase(Locale.ROOT);
+        String mainClass = System.getProperty("loadtest.main-class", XstrMEApiApplication.class.getName());
+        Duration warmup = duration("loadtest.warmup", "10s");
+        Duration measured = duration("loadtest.duration", "30s");
+        Path result = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json"));
+
+        List<Scenario> scenarios = new ScenarioLoader().load(spec);
+        String url = System.getProperty("loadtest.url");
+        ConfigurableApplicationContext context = url == null ? startApplication(mainClass) : null;
+        try {
+            URI baseUri = URI.create(url != null ? url : "http://127.0.0.1:" + port(context.getEnvironment()));
+            ObjectNode root = "idle".equals(mode)
+                    ? runIdle(baseUri, scenarios, warmup, measured)
+                    : runLoad(baseUri, scenarios, LoadGenerator.Mode.valueOf(mode.toUpperCase(Locale.ROOT)), warmup, measured);
+            root.put("server", url != null ? url : mainClass);
+            writeResult(result, root);
+            System.out.println("Result written to " + result.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ObjectNode runLoad(URI baseUri, List<Scenario> scenarios, LoadGenerator.Mode mode,
+                                      Duration warmup, Duration measured) throws InterruptedException {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "0"));
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 1024);
+        Duration timeout = duration("loadtest.timeout", "10s");
+        LoadGenerator generator = new LoadGenerator(baseUri, scenarios, timeout);
+        System.out.printf(Locale.ROOT, "Load test: %s loop against %s, %d scenarios, warmup %s, duration %s%n",
+                mode.name().toLowerCase(Locale.ROOT), baseUri, scenarios.size(), warmup, measured);
+        long elapsed = generator.run(mode, concurrency, rate, maxInFlight, warmup, measured);
+        printSummary(generator.getStats(), elapsed);
+        return toJson(mode, concurrency, rate, elapsed, generator.getStats());
+    }
+
+    /**
+     * Idle keep-alive connections polling one operation ({@code loadtest.idle-operation}, default
+     * {@code getHealth}); {@code loadtest.warmup} is the settle time after all are connected.
+     */
+    private static ObjectNode runIdle(URI baseUri, List<Scenario> scenarios, Duration settle, Duration measured)
+            throws InterruptedException {
+        String operationId = System.getProperty("loadtest.idle-operation", "getHealth");
+        int connections = Integer.getInteger("loadtest.connections", 2000);
+        Duration pollInterval = duration("loadtest.poll-interval", "5s");
+        Scenario scenario = scenarios.stream()
+                .filter(s -> operationId.equals(s.getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No scenario for operation " + operationId));
+        System.out.printf(Locale.ROOT, "Idle connections: %d to %s%s polling every %s, settle %s, duration %s%n",
+                connections, baseUri, scenario.getPath(), pollInterval, settle, measured);
+        IdleConnections.Result r = new IdleConnections(baseUri, scenario.getPath(),
+                scenario.getHeaders().getOrDefault("Accept", "*/*"), connections, pollInterval).run(settle, measured);
+        System.out.println(r.summary());
+
+        ObjectNode root = new ObjectMapper().createObjectNode()
+                .put("mode", "idle")
+                .put("path", scenario.getPath())
+                .put("connections", connections)
+                .put("pollIntervalMs", pollInterval.toMillis())
+                .put("durationMs", TimeUnit.NANOSECONDS.toMillis(r.elapsedNanos()))
+                .put("polls", r.polls())
+                .put("reconnects", r.reconnects())
+                .put("failures", r.failures())
+                .put("rssPerConnectionBytes", r.rssPerConnection())
+                .put("heapPerConnectionBytes", r.heapPerConnection())
+                .put("addedThreads", r.addedThreads())
+                .put("p50Ms", millis(r.histogram().getValueAtPercentile(50)))
+                .put("p99Ms", millis(r.histogram().getValueAtPercentile(99)))
+                .put("p999Ms", millis(r.histogram().getValueAtPercentile(99.9)))
+                .put("maxMs", millis(r.histogram().getMaxValue()));
+        return root;
+    }
+
+    private static ConfigurableApplicationContext startApplication(String mainClass) throws ClassNotFoundException {
+        // Command-line arguments so they win over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=ERROR"));
+        // All load comes from one address; per-caller rate limiting stays off unless asked for
+        if (System.getProperty(APP_PREFIX + "xstr.rate-limit.enabled") == null) {
+            args.add("--xstr.rate-limit.enabled=false");
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(APP_PREFIX)) {
+                args.add("--" + name.substring(APP_PREFIX.length()) + "=" + System.getProperty(name));
+            }
+        }
+        // Loaded by name: the reactive variant is only on the classpath with -Preactive
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Class.forName(mainClass));
+        if (mainClass.contains(".reactive.")) {
+            builder.web(WebApplicationType.REACTIVE);
+        }
+        return builder.run(args.toArray(new String[0]));
+    }
+
+    private static int port(Environment environment) {
+        return Integer.parseInt(environment.getRequiredProperty("local.server.port"));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        String value = System.getProperty(property, defaultValue).trim();
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    private static void printSummary(List<ScenarioStats> stats, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf(Locale.ROOT, "%-32s %9s %7s %7s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "unexp", "failed", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (ScenarioStats s : stats) {
+            Histogram h = s.getHistogram();
+            System.out.printf(Locale.ROOT, "%-32s %9d %7d %7d %10.1f %9.3f %9.3f %9.3f %9.3f%n",
+                    s.getScenario().getName(), s.getTotal(), s.getUnexpectedStatus(), s.getFailed(),
+                    s.getTotal() / seconds, millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        }
+    }
+
+    private static ObjectNode toJson(LoadGenerator.Mode mode, int concurrency, double rate,
+                                     long elapsedNanos, List<ScenarioStats> stats) {
+        ObjectNode root = new ObjectMapper().createObjectNode()
+                .put("mode", mode.name().toLowerCase(Locale.ROOT))
+                .put("concurrency", concurrency)
+                .put("rate", rate)
+                .put("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        ArrayNode scenarios = root.putArray("scenarios");
+        for (ScenarioStats s : stats) {
+            Histogram h = s.getHistogram();
+            scenarios.addObject()
+                    .put("name", s.getScenario().getName())
+                    .put("method", s.getScenario().getMethod())
+                    .put("path", s.getScenario().getPath())
+                    .put("requests", s.getTotal())
+                    .put("ok", s.getOk())
+                    .put("unexpectedStatus", s.getUnexpectedStatus())
+                    .put("failed", s.getFailed())
+                    .put("throughput", s.getTotal() / (elapsedNanos / 1e9))
+                    .put("p50Ms", millis(h.getValueAtPercentile(50)))
+                    .put("p99Ms", millis(h.getValueAtPercentile(99)))
+                    .put("p999Ms", millis(h.getValueAtPercentile(99.9)))
+                    .put("maxMs", millis(h.getMaxValue()));
+        }
+        return root;
+    }
+
+    private static void writeResult(Path file, ObjectNode root) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,74 @@
+package me.xstr.api.loadtest;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One request shape to drive: an operation from the spec plus the response statuses it may return.
+ */
+public final class Scenario {
+
+    private final String name;
+
+    private final String operationId;
+
+    private final String method;
+
+    private final String path;
+
+    private final Map<String, String> headers;
+
+    private final String body;
+
+    private final Set<Integer> expectedStatuses;
+
+    public Scenario(String name, String operationId, String method, String path,
+                    Map<String, String> headers, String body, Set<Integer> expectedStatuses) {
+        this.name = name;
+        this.operationId = operationId;
+        this.method = method;
+        this.path = path;
+        this.headers = Map.copyOf(headers);
+        this.body = body;
+        this.expectedStatuses = Set.copyOf(expectedStatuses);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Path relative to the server base URL, e.g. {@code /v1/health}.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Request body, or {@code null} for none.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    public Set<Integer> getExpectedStatuses() {
+        return expectedStatuses;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + method + " " + path + ")";
+    }
+}
@@ -0,0 +1,159 @@
+package me.xstr.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives load-test scenarios from the OpenAPI document, so new operations are covered
+ * without touching the harness.
+ * <p>
+ * For every operation without required parameters the loader emits:
+ * <ul>
+ *   <li>{@code <operationId>}: the operation as documented, with the first response media type
+ *   as {@code Accept} and the {@code application/json} request example as body, if any;
+ *   any documented status is expected.</li>
+ *   <li>{@code <operationId>:not-acceptable}: same request with an {@code Accept} the operation
+ *   cannot produce, expecting {@code 406}.</li>
+ * </ul>
+ * Operations that only produce {@code text/event-stream} are skipped, as their responses never
+ * end. One {@code unknown-path} scenario expecting {@code 404} is added as well.
+ */
+public final class ScenarioLoader {
+
+    private static final List<String> METHODS = List.of("get", "post", "put", "patch", "delete");
+
+    private static final String EVENT_STREAM = "text/event-stream";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public List<Scenario> load(Path spec) throws IOException {
+        try (Reader reader = Files.newBufferedReader(spec)) {
+            Map<String, Object> document = new Yaml().load(reader);
+            return load(document);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Scenario> load(Map<String, Object> document) throws IOException {
+        String basePath = basePath(document);
+        List<Scenario> scenarios = new ArrayList<>();
+        Map<String, Object> paths = (Map<String, Object>) document.getOrDefault("paths", Map.of());
+        for (Map.Entry<String, Object> pathEntry : paths.entrySet()) {
+            Map<String, Object> pathItem = (Map<String, Object>) pathEntry.getValue();
+            for (String method : METHODS) {
+                Map<String, Object> operation = (Map<String, Object>) pathItem.get(method);
+                if (operation == null || hasRequiredParameters(pathItem, operation)) {
+                    continue;
+                }
+                String operationId = (String) operation.getOrDefault("operationId", method + pathEntry.getKey());
+                String path = basePath + pathEntry.getKey();
+                Map<String, Object> responses = (Map<String, Object>) operation.getOrDefault("responses", Map.of());
+
+                Set<Integer> statuses = new LinkedHashSet<>();
+                Set<String> produces = new LinkedHashSet<>();
+                for (Map.Entry<String, Object> response : responses.entrySet()) {
+                    if (response.getKey().matches("\\d{3}")) {
+                        statuses.add(Integer.parseInt(response.getKey()));
+                    }
+                    Object content = ((Map<String, Object>) response.getValue()).get("content");
+                    if (content instanceof Map) {
+                        produces.addAll(((Map<String, Object>) content).keySet());
+                    }
+                }
+                if (!produces.isEmpty() && produces.stream().allMatch(EVENT_STREAM::equals)) {
+                    continue;
+                }
+                String upperMethod = method.toUpperCase(Locale.ROOT);
+                String body = requestExample(document, operation);
+                Map<String, String> headers = new LinkedHashMap<>();
+                if (!produces.isEmpty()) {
+                    headers.put("Accept", produces.iterator().next());
+                }
+                if (body != null) {
+                    headers.put("Content-Type", "application/json");
+                }
+                scenarios.add(new Scenario(operationId, operationId, upperMethod, path, headers, body, statuses));
+
+                if (!produces.isEmpty()) {
+                    Map<String, String> notAcceptable = new LinkedHashMap<>(headers);
+                    notAcceptable.put("Accept", "application/x-not-produced");
+                    scenarios.add(new Scenario(operationId + ":not-acceptable", operationId, upperMethod, path,
+                            notAcceptable, body, Set.of(406)));
+                }
+            }
+        }
+        scenarios.add(new Scenario("unknown-path", null, "GET", basePath + "/__loadtest_unknown_path__",
+                Map.of("Accept", "application/json"), null, Set.of(404)));
+        return scenarios;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String basePath(Map<String, Object> document) {
+        List<Map<String, Object>> servers = (List<Map<String, Object>>) document.getOrDefault("servers", List.of());
+        if (servers.isEmpty()) {
+            return "";
+        }
+        String path = URI.create((String) servers.get(0).get("url")).getPath();
+        return path == null || "/".equals(path) ? "" : path.replaceAll("/+$", "");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean hasRequiredParameters(Map<String, Object> pathItem, Map<String, Object> operation) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.addAll((List<Object>) pathItem.getOrDefault("parameters", List.of()));
+        parameters.addAll((List<Object>) operation.getOrDefault("parameters", List.of()));
+        for (Object parameter : parameters) {
+            if (Boolean.TRUE.equals(((Map<String, Object>) parameter).get("required"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String requestExample(Map<String, Object> document, Map<String, Object> operation) throws IOException {
+        Map<String, Object> requestBody = (Map<String, Object>) operation.get("requestBody");
+        if (requestBody == null) {
+            return null;
+        }
+        Map<String, Object> content = (Map<String, Object>) requestBody.getOrDefault("content", Map.of());
+        Map<String, Object> json = (Map<String, Object>) content.get("application/json");
+        if (json == null) {
+            return null;
+        }
+        Object example = json.get("example");
+        if (example == null && json.get("schema") instanceof Map) {
+            example = resolve(document, (Map<String, Object>) json.get("schema")).get("example");
+        }
+        return example == null ? null : objectMapper.writeValueAsString(example);
+    }
+
+    /**
+     * Follows a local {@code $ref} such as {@code #/components/schemas/BatchRequest}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> resolve(Map<String, Object> document, Map<String, Object> schema) {
+        Object ref = schema.get("$ref");
+        if (!(ref instanceof String pointer) || !pointer.startsWith("#/")) {
+            return schema;
+        }
+        Object node = document;
+        for (String segment : pointer.substring(2).split("/")) {
+            node = node instanceof Map ? ((Map<String, Object>) node).get(segment.replace("~1", "/").replace("~0", "~")) : null;
+        }
+        return node instanceof Map ? resolve(document, (Map<String, Object>) node) : schema;
+    }
+}
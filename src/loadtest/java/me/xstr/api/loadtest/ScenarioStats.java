@@ -0,0 +1,79 @@
+package me.xstr.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for one scenario. Safe for concurrent recording.
+ * <p>
+ * Latencies are in nanoseconds. Open-loop and paced closed-loop runs measure them from the
+ * intended send time rather than the actual one, so a stall is charged to every request it held
+ * back and the histogram is free of coordinated omission. Unpaced closed-loop runs have no
+ * schedule and record service time only.
+ */
+public final class ScenarioStats {
+
+    private static final long MAX_TRACKABLE = TimeUnit.MINUTES.toNanos(5);
+
+    private final Scenario scenario;
+
+    private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE, 3);
+
+    private final LongAdder ok = new LongAdder();
+
+    private final LongAdder unexpectedStatus = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    public ScenarioStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    void record(long latencyNanos, int status) {
+        histogram.recordValue(Math.min(Math.max(latencyNanos, 1L), MAX_TRACKABLE));
+        if (scenario.getExpectedStatuses().contains(status)) {
+            ok.increment();
+        } else {
+            unexpectedStatus.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        histogram.recordValue(Math.min(Math.max(latencyNanos, 1L), MAX_TRACKABLE));
+        failed.increment();
+    }
+
+    void reset() {
+        histogram.reset();
+        ok.reset();
+        unexpectedStatus.reset();
+        failed.reset();
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public long getOk() {
+        return ok.sum();
+    }
+
+    public long getUnexpectedStatus() {
+        return unexpectedStatus.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getTotal() {
+        return getOk() + getUnexpectedStatus() + getFailed();
+    }
+}
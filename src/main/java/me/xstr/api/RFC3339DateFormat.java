@@ -1,38 +1,72 @@
 package me.xstr.api;
 
-import com.fasterxml.jackson.databind.util.StdDateFormat;
+import me.xstr.api.time.RFC3339;
 
 import java.text.DateFormat;
 import java.text.FieldPosition;
+import java.text.NumberFormat;
 import java.text.ParsePosition;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
 
+/**
+ * Immutable RFC 3339 {@link DateFormat} backed by the stateless {@link RFC3339} engine.
+ * <p>
+ * Output is always UTC ({@code Z}). The inherited calendar and number format are never used,
+ * and the mutators that would change them are no-ops, so one instance can be shared freely
+ * and {@link #clone()} can return {@code this}.
+ */
 public class RFC3339DateFormat extends DateFormat {
   private static final long serialVersionUID = 1L;
   private static final TimeZone TIMEZONE_Z = TimeZone.getTimeZone("UTC");
 
-  private final StdDateFormat fmt = new StdDateFormat()
-          .withTimeZone(TIMEZONE_Z)
-          .withColonInTimeZone(true);
-
   public RFC3339DateFormat() {
-    this.calendar = new GregorianCalendar();
+    this.calendar = new GregorianCalendar(TIMEZONE_Z);
+    this.numberFormat = NumberFormat.getIntegerInstance();
   }
 
   @Override
   public Date parse(String source, ParsePosition pos) {
-    return fmt.parse(source, pos);
+    int end = RFC3339.parseTo(source, pos.getIndex());
+    if (end < 0) {
+      pos.setErrorIndex(-end - 1);
+      return null;
+    }
+    Date date = Date.from(RFC3339.parsed(source, pos.getIndex(), end).toInstant());
+    pos.setIndex(end);
+    return date;
   }
 
   @Override
   public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
-    return fmt.format(date, toAppendTo, fieldPosition);
+    char[] buf = RFC3339.buffer();
+    return toAppendTo.append(buf, 0, RFC3339.formatEpochMilli(date.getTime(), buf, 0));
+  }
+
+  @Override
+  public void setTimeZone(TimeZone zone) {
+    // Always UTC
+  }
+
+  @Override
+  public void setLenient(boolean lenient) {
+    // Parsing is always strict RFC 3339
+  }
+
+  @Override
+  public void setCalendar(Calendar newCalendar) {
+    // Immutable
+  }
+
+  @Override
+  public void setNumberFormat(NumberFormat newNumberFormat) {
+    // Immutable
   }
 
   @Override
   public Object clone() {
     return this;
   }
-}
\ No newline at end of file
+}
@@ -1,17 +1,23 @@
 package me.xstr.api;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.FullyQualifiedAnnotationBeanNameGenerator;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication(
-    nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class
-)
+// @SpringBootApplication spelled out, so that the single component scan can leave out the
+// WebFlux variant (reactive profile) under me.xstr.api.reactive
+@SpringBootConfiguration
+@EnableAutoConfiguration
 @ComponentScan(
-    basePackages = {"me.xstr.api", "me.xstr.api.controller" , "me.xstr.api.configuration"},
-    nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class
+    basePackages = {"me.xstr.api", "me.xstr.api.controller" , "me.xstr.api.configuration", "me.xstr.api.service"},
+    nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class,
+    excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = "me\\.xstr\\.api\\.reactive\\..*")
 )
+@EnableScheduling
 public class XstrMEApiApplication {
 
     public static void main(String[] args) {
@@ -19,4 +25,4 @@ public class XstrMEApiApplication {
     }
 
 
-}
\ No newline at end of file
+}
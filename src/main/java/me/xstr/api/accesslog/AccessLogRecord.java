@@ -0,0 +1,55 @@
+package me.xstr.api.accesslog;
+
+/**
+ * One request, as handed from a request thread to the writer. Instances are slots of an
+ * {@link AccessLogRingBuffer}, reused for every record that passes through them: fill them only
+ * between {@link AccessLogRingBuffer#claim()} and {@link AccessLogRingBuffer#publish}, and read
+ * them only inside {@link AccessLogRingBuffer#drain}.
+ */
+public final class AccessLogRecord {
+
+    /**
+     * Wall-clock time the request started, in epoch milliseconds.
+     */
+    public long timestamp;
+
+    public String method;
+
+    public String path;
+
+    /**
+     * Operation that served the request, or {@code null} if it matched none.
+     */
+    public String operationId;
+
+    public int status;
+
+    public long durationNanos;
+
+    /**
+     * Response body length, or {@code -1} if unknown, e.g. for a streamed response.
+     */
+    public long bytes;
+
+    /**
+     * Verified token subject or remote address.
+     */
+    public String caller;
+
+    // Vyukov bounded queue sequence: slot index when free for that position, index + 1 when published
+    volatile long sequence;
+
+    // Position claimed by the producer filling the slot
+    long position;
+
+    AccessLogRecord(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void clear() {
+        method = null;
+        path = null;
+        operationId = null;
+        caller = null;
+    }
+}
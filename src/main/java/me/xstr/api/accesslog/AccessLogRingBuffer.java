@@ -0,0 +1,105 @@
+package me.xstr.api.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer queue of pre-allocated {@link AccessLogRecord}s
+ * (Dmitry Vyukov's bounded queue).
+ * <p>
+ * Producers claim a position with one CAS, fill the slot in place and publish it by advancing its
+ * sequence; nothing is allocated per record. When the consumer has fallen a whole buffer behind,
+ * {@link #claim()} gives up at once and counts a drop instead of blocking the request thread.
+ */
+public final class AccessLogRingBuffer {
+
+    private final AccessLogRecord[] slots;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    // Only touched by the consumer
+    private long head;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public AccessLogRingBuffer(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AccessLogRecord[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogRecord(i);
+        }
+        this.mask = size - 1;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Records dropped because the buffer was full.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Claims the next free slot. Fill it and hand it to {@link #publish} right away: the consumer
+     * waits for slots in order, so an unpublished one holds up every record behind it.
+     *
+     * @return the slot, or {@code null} if the buffer is full; the record is then dropped and counted
+     */
+    public AccessLogRecord claim() {
+        long position = tail.get();
+        while (true) {
+            AccessLogRecord slot = slots[(int) position & mask];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.position = position;
+                    return slot;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.increment();
+                return null;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Makes a slot returned by {@link #claim()} visible to the consumer.
+     */
+    public void publish(AccessLogRecord record) {
+        record.sequence = record.position + 1;
+    }
+
+    /**
+     * Hands up to {@code max} published records to {@code reader}, in order, then frees their
+     * slots. Must only be called from the single consumer thread.
+     *
+     * @return the number of records read
+     */
+    public int drain(Consumer<AccessLogRecord> reader, int max) {
+        int count = 0;
+        while (count < max) {
+            AccessLogRecord slot = slots[(int) head & mask];
+            if (slot.sequence != head + 1) {
+                break;
+            }
+            reader.accept(slot);
+            slot.clear();
+            slot.sequence = head + slots.length;
+            head++;
+            count++;
+        }
+        return count;
+    }
+}
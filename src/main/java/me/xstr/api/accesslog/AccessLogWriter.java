@@ -0,0 +1,353 @@
+package me.xstr.api.accesslog;
+
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.time.RFC3339;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Single background consumer of an {@link AccessLogRingBuffer}, writing one JSON object per line:
+ * <pre>
+ * {"ts":"2025-05-27T10:30:00.123Z","method":"GET","path":"/v1/health","operation":"getHealth","status":200,"durationMs":0.412,"bytes":97,"caller":"alice"}
+ * </pre>
+ * Records are encoded in batches straight into a direct buffer of {@code writeBufferSize} bytes,
+ * without intermediate strings, and the buffer goes to the {@link FileChannel} in one write when
+ * it is full or the ring buffer runs dry. When the file would grow past {@code maxFileSize} it is
+ * rotated: {@code access.log} becomes {@code access.log.1}, {@code access.log.1} becomes
+ * {@code access.log.2} and so on, keeping {@code maxFiles} old files. While there is nothing to
+ * write the thread polls, backing off from one millisecond to {@value #MAX_IDLE_PARK_MILLIS}, so
+ * request threads never have to signal it and an idle server does not wake it a thousand times a
+ * second.
+ * <p>
+ * A failed write or rotation is logged once, the records it held are counted as dropped, and the
+ * file is closed and reopened on the next round; the thread keeps running, so logging resumes as
+ * soon as the file can be written again.
+ */
+public final class AccessLogWriter implements AutoCloseable, MetricsCollector {
+
+    private static final int BATCH = 256;
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long MAX_IDLE_PARK_MILLIS = 50;
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_IDLE_PARK_MILLIS);
+
+    // Longer strings are cut, so one record always fits in the buffer
+    private static final int MAX_STRING_LENGTH = 2048;
+
+    private static final int MAX_RECORD_LENGTH = 4 * 6 * MAX_STRING_LENGTH + 256;
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private static final byte[] RECORDS_HEADER = PrometheusTextWriter.header("xstr_access_log_records_total",
+            "counter", "Access log records written, or dropped because the buffer was full or the file could not be written.");
+
+    private static final byte[] WRITTEN = PrometheusTextWriter.ascii("xstr_access_log_records_total{result=\"written\"} ");
+
+    private static final byte[] DROPPED = PrometheusTextWriter.ascii("xstr_access_log_records_total{result=\"dropped\"} ");
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    private final Path file;
+
+    private final long maxFileSize;
+
+    private final int maxFiles;
+
+    private final ByteBuffer buffer;
+
+    private final char[] timestamp = new char[RFC3339.MAX_LENGTH];
+
+    private final Consumer<AccessLogRecord> encoder = this::encode;
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder lost = new LongAdder();
+
+    private final Thread thread;
+
+    private FileChannel channel;
+
+    private long fileSize;
+
+    // Records encoded into the buffer since it was last written out
+    private int pending;
+
+    private boolean failing;
+
+    private volatile boolean running = true;
+
+    public AccessLogWriter(AccessLogRingBuffer ringBuffer, Path file, long maxFileSize, int maxFiles, int writeBufferSize) {
+        this.ringBuffer = ringBuffer;
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(writeBufferSize, MAX_RECORD_LENGTH));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open access log " + file, e);
+        }
+        this.thread = new Thread(this::run, "access-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public AccessLogRingBuffer getRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Records dropped because the ring buffer was full or because writing them failed.
+     */
+    public long getDropped() {
+        return ringBuffer.getDropped() + lost.sum();
+    }
+
+    /**
+     * Writes {@code xstr_access_log_records_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(RECORDS_HEADER)
+                .write(WRITTEN).write(written.sum()).write('\n')
+                .write(DROPPED).write(getDropped()).write('\n');
+    }
+
+    /**
+     * Writes what is left in the ring buffer and closes the file.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void run() {
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+        while (running) {
+            if (writeOrRecover()) {
+                idleParkNanos = MIN_IDLE_PARK_NANOS;
+            } else {
+                LockSupport.parkNanos(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+            }
+        }
+        writeOrRecover();
+        closeChannel();
+    }
+
+    /**
+     * {@link #writeAvailable()}, reopening the file first if an earlier write failed.
+     *
+     * @return whether anything was written
+     */
+    private boolean writeOrRecover() {
+        try {
+            if (channel == null) {
+                open();
+            }
+            boolean wrote = writeAvailable();
+            if (failing) {
+                failing = false;
+                logger.info("Access log {} is being written again", file);
+            }
+            return wrote;
+        } catch (IOException | RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                logger.error("Unable to write access log {}; dropping records until it can be reopened", file, e);
+            }
+            lost.add(pending);
+            pending = 0;
+            buffer.clear();
+            closeChannel();
+            return false;
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+        channel = null;
+    }
+
+    /**
+     * Drains the ring buffer to the file.
+     *
+     * @return whether there was anything to write
+     */
+    boolean writeAvailable() throws IOException {
+        int total = 0;
+        while (true) {
+            // Only take as many records as are sure to fit
+            int room = buffer.remaining() / MAX_RECORD_LENGTH;
+            if (room == 0) {
+                flush();
+                continue;
+            }
+            int drained = ringBuffer.drain(encoder, Math.min(room, BATCH));
+            if (drained == 0) {
+                break;
+            }
+            total += drained;
+            pending += drained;
+        }
+        flush();
+        return total > 0;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            return;
+        }
+        if (fileSize > 0 && fileSize + buffer.remaining() > maxFileSize) {
+            rotate();
+        }
+        while (buffer.hasRemaining()) {
+            fileSize += channel.write(buffer);
+        }
+        buffer.clear();
+        written.add(pending);
+        pending = 0;
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        if (maxFiles < 1) {
+            Files.delete(file);
+        } else {
+            Files.deleteIfExists(rotated(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path older = rotated(i);
+                if (Files.exists(older)) {
+                    Files.move(older, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void encode(AccessLogRecord record) {
+        ByteBuffer out = buffer;
+        out.put((byte) '{');
+        ascii(out, "\"ts\":\"");
+        int length = RFC3339.formatEpochMilli(record.timestamp, timestamp, 0);
+        for (int i = 0; i < length; i++) {
+            out.put((byte) timestamp[i]);
+        }
+        ascii(out, "\",\"method\":");
+        string(out, record.method);
+        ascii(out, ",\"path\":");
+        string(out, record.path);
+        ascii(out, ",\"operation\":");
+        string(out, record.operationId);
+        ascii(out, ",\"status\":");
+        number(out, record.status);
+        ascii(out, ",\"durationMs\":");
+        long micros = record.durationNanos / 1000;
+        number(out, micros / 1000);
+        out.put((byte) '.');
+        long fraction = micros % 1000;
+        out.put((byte) ('0' + fraction / 100)).put((byte) ('0' + fraction / 10 % 10)).put((byte) ('0' + fraction % 10));
+        ascii(out, ",\"bytes\":");
+        number(out, record.bytes);
+        ascii(out, ",\"caller\":");
+        string(out, record.caller);
+        out.put((byte) '}').put((byte) '\n');
+    }
+
+    private static void ascii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            out.put((byte) text.charAt(i));
+        }
+    }
+
+    private static void number(ByteBuffer out, long value) {
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * JSON string in UTF-8, or {@code null}.
+     */
+    private static void string(ByteBuffer out, String value) {
+        if (value == null) {
+            ascii(out, "null");
+            return;
+        }
+        out.put((byte) '"');
+        int end = Math.min(value.length(), MAX_STRING_LENGTH);
+        for (int i = 0; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.put((byte) '\\').put((byte) c);
+            } else if (c < 0x20) {
+                out.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(HEX[c >> 4]).put(HEX[c & 0xf]);
+            } else if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xc0 | c >> 6)).put((byte) (0x80 | c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xf0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3f))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3f)).put((byte) (0x80 | codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?');
+            } else {
+                out.put((byte) (0xe0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3f)).put((byte) (0x80 | c & 0x3f));
+            }
+        }
+        out.put((byte) '"');
+    }
+}
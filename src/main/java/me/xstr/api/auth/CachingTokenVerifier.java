@@ -0,0 +1,134 @@
+package me.xstr.api.auth;
+
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the claims of verified tokens, so a caller presenting the same token again skips the
+ * signature check.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token, so the cache never holds a usable credential.
+ * They are valid until the token's {@code exp}, capped at {@code maxTtl} (which also bounds
+ * tokens without {@code exp}), and are never served after that. Rejected tokens are not cached.
+ * Like {@code TokenBucketRateLimiter}, the cache is a fixed table of sets of {@value #WAYS}
+ * slots, updated without locks: a new entry takes an empty or expired slot of its set, or else
+ * replaces the entry expiring first. Memory stays at {@code maxEntries} however many tokens are
+ * seen.
+ */
+public final class CachingTokenVerifier implements TokenVerifier, MetricsCollector {
+
+    private static final int WAYS = 4;
+
+    private static final byte[] REQUESTS_HEADER = PrometheusTextWriter.header("xstr_auth_token_cache_requests_total",
+            "counter", "Bearer token verifications answered from the cache (hit) or by checking the signature (miss).");
+
+    private static final byte[] HITS = PrometheusTextWriter.ascii("xstr_auth_token_cache_requests_total{result=\"hit\"} ");
+
+    private static final byte[] MISSES = PrometheusTextWriter.ascii("xstr_auth_token_cache_requests_total{result=\"miss\"} ");
+
+    private final TokenVerifier delegate;
+
+    private final long maxTtlMillis;
+
+    private final Clock clock;
+
+    private final AtomicReferenceArray<Entry> slots;
+
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public CachingTokenVerifier(TokenVerifier delegate, int maxEntries, Duration maxTtl, Clock clock) {
+        this.delegate = delegate;
+        this.maxTtlMillis = maxTtl.toMillis();
+        this.clock = clock;
+        int minSets = (maxEntries + WAYS - 1) / WAYS;
+        int sets = minSets <= 1 ? 1 : Integer.highestOneBit(minSets - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+    }
+
+    @Override
+    public JwtClaims verify(String token) {
+        ByteBuffer hash = ByteBuffer.wrap(sha256(token));
+        long h0 = hash.getLong();
+        long h1 = hash.getLong();
+        long h2 = hash.getLong();
+        long h3 = hash.getLong();
+        int base = ((int) h0 & setMask) * WAYS;
+        long now = clock.millis();
+        for (int i = base; i < base + WAYS; i++) {
+            Entry entry = slots.get(i);
+            if (entry != null && entry.matches(h0, h1, h2, h3) && now < entry.expiresAt) {
+                hits.increment();
+                return entry.claims;
+            }
+        }
+        misses.increment();
+        JwtClaims claims = delegate.verify(token);
+        long expiresAt = now + maxTtlMillis;
+        if (claims.expiresAt() != null) {
+            expiresAt = Math.min(expiresAt, claims.expiresAt().toEpochMilli());
+        }
+        if (expiresAt > now) {
+            store(base, new Entry(h0, h1, h2, h3, claims, expiresAt), now);
+        }
+        return claims;
+    }
+
+    /**
+     * Writes {@code xstr_auth_token_cache_requests_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(REQUESTS_HEADER)
+                .write(HITS).write(hits.sum()).write('\n')
+                .write(MISSES).write(misses.sum()).write('\n');
+    }
+
+    private void store(int base, Entry created, long now) {
+        int victim = base;
+        Entry evicted = slots.get(base);
+        for (int i = base; i < base + WAYS; i++) {
+            Entry entry = slots.get(i);
+            if (entry == null || now >= entry.expiresAt || entry.matches(created.h0, created.h1, created.h2, created.h3)) {
+                victim = i;
+                evicted = entry;
+                break;
+            }
+            if (entry.expiresAt < evicted.expiresAt) {
+                victim = i;
+                evicted = entry;
+            }
+        }
+        // Losing the race to another insert only means this token is verified again next time
+        slots.compareAndSet(victim, evicted, created);
+    }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(long h0, long h1, long h2, long h3, JwtClaims claims, long expiresAt) {
+
+        boolean matches(long h0, long h1, long h2, long h3) {
+            return this.h0 == h0 && this.h1 == h1 && this.h2 == h2 && this.h3 == h3;
+        }
+    }
+}
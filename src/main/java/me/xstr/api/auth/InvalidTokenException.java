@@ -0,0 +1,15 @@
+package me.xstr.api.auth;
+
+/**
+ * A bearer token was rejected. The message says why and is not meant for the caller.
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package me.xstr.api.auth;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Claims of a verified token.
+ *
+ * @param subject   {@code sub}, or {@code null}
+ * @param expiresAt {@code exp}, or {@code null} if the token does not expire
+ * @param claims    the whole claims set, unmodifiable
+ */
+public record JwtClaims(String subject, Instant expiresAt, Map<String, Object> claims) {
+
+    /**
+     * Request attribute holding the {@link JwtClaims} of an authenticated request.
+     */
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+}
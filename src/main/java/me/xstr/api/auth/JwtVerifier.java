@@ -0,0 +1,185 @@
+package me.xstr.api.auth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies compact JWS tokens signed with {@code RS256/384/512} or {@code ES256/384/512} against
+ * local public keys, and checks {@code exp}, {@code nbf}, {@code iss} and {@code aud}.
+ * <p>
+ * A token naming a {@code kid} is only checked against that key; one without is tried against
+ * every key. The key type must match the algorithm, so an RSA key can never validate an
+ * {@code ES*} token or vice versa, and {@code none} and the HMAC algorithms are refused. The
+ * signature check dominates the cost of a request; put a {@link CachingTokenVerifier} in front.
+ */
+public final class JwtVerifier implements TokenVerifier {
+
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private static final Map<String, String> ALGORITHMS = Map.of(
+            "RS256", "SHA256withRSA",
+            "RS384", "SHA384withRSA",
+            "RS512", "SHA512withRSA",
+            // JWS carries ECDSA signatures as R || S, which is what the P1363 format reads
+            "ES256", "SHA256withECDSAinP1363Format",
+            "ES384", "SHA384withECDSAinP1363Format",
+            "ES512", "SHA512withECDSAinP1363Format");
+
+    private final Map<String, PublicKey> keys;
+
+    private final String issuer;
+
+    private final String audience;
+
+    private final Duration clockSkew;
+
+    private final ObjectMapper objectMapper;
+
+    private final Clock clock;
+
+    /**
+     * @param keys      trusted keys by {@code kid}
+     * @param issuer    required {@code iss}, or {@code null} to accept any
+     * @param audience  value required in {@code aud}, or {@code null} to accept any
+     * @param clockSkew tolerance when checking {@code exp} and {@code nbf}
+     */
+    public JwtVerifier(Map<String, PublicKey> keys, String issuer, String audience, Duration clockSkew,
+                       ObjectMapper objectMapper, Clock clock) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one public key is required");
+        }
+        this.keys = Map.copyOf(keys);
+        this.issuer = issuer;
+        this.audience = audience;
+        this.clockSkew = clockSkew;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public JwtClaims verify(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new InvalidTokenException("Not a compact JWS");
+        }
+        Map<String, Object> header = json(token.substring(0, headerEnd));
+        if (header.containsKey("crit")) {
+            throw new InvalidTokenException("Unsupported critical header parameters " + header.get("crit"));
+        }
+        String algorithm = ALGORITHMS.get(String.valueOf(header.get("alg")));
+        if (algorithm == null) {
+            throw new InvalidTokenException("Unsupported algorithm " + header.get("alg"));
+        }
+        byte[] signingInput = token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII);
+        byte[] signature = decode(token.substring(payloadEnd + 1));
+        Object kid = header.get("kid");
+        Collection<PublicKey> candidates;
+        if (kid != null) {
+            PublicKey key = keys.get(kid.toString());
+            if (key == null) {
+                throw new InvalidTokenException("Unknown key " + kid);
+            }
+            candidates = List.of(key);
+        } else {
+            candidates = keys.values();
+        }
+        if (!verifySignature(algorithm, candidates, signingInput, signature)) {
+            throw new InvalidTokenException("Invalid signature");
+        }
+        return claims(json(token.substring(headerEnd + 1, payloadEnd)));
+    }
+
+    private JwtClaims claims(Map<String, Object> claims) {
+        Instant now = clock.instant();
+        Instant expiresAt = numericDate(claims, "exp");
+        if (expiresAt != null && !now.isBefore(expiresAt.plus(clockSkew))) {
+            throw new InvalidTokenException("Expired at " + expiresAt);
+        }
+        Instant notBefore = numericDate(claims, "nbf");
+        if (notBefore != null && now.isBefore(notBefore.minus(clockSkew))) {
+            throw new InvalidTokenException("Not valid before " + notBefore);
+        }
+        if (issuer != null && !issuer.equals(claims.get("iss"))) {
+            throw new InvalidTokenException("Unexpected issuer " + claims.get("iss"));
+        }
+        if (audience != null) {
+            Object aud = claims.get("aud");
+            boolean matches = aud instanceof Collection<?> values ? values.contains(audience) : audience.equals(aud);
+            if (!matches) {
+                throw new InvalidTokenException("Unexpected audience " + aud);
+            }
+        }
+        Object subject = claims.get("sub");
+        return new JwtClaims(subject instanceof String s ? s : null, expiresAt, Collections.unmodifiableMap(claims));
+    }
+
+    private static boolean verifySignature(String algorithm, Collection<PublicKey> candidates, byte[] signingInput,
+                                           byte[] signature) {
+        boolean rsa = algorithm.endsWith("RSA");
+        for (PublicKey key : candidates) {
+            if (rsa ? !(key instanceof RSAPublicKey) : !(key instanceof ECPublicKey)) {
+                continue;
+            }
+            try {
+                Signature verifier = Signature.getInstance(algorithm);
+                verifier.initVerify(key);
+                verifier.update(signingInput);
+                if (verifier.verify(signature)) {
+                    return true;
+                }
+            } catch (GeneralSecurityException e) {
+                // Wrong curve or malformed signature for this key; try the next one
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Object> json(String part) {
+        try {
+            Map<String, Object> value = objectMapper.readValue(decode(part), JSON_OBJECT);
+            if (value == null) {
+                throw new InvalidTokenException("Not a JSON object");
+            }
+            return value;
+        } catch (IOException e) {
+            throw new InvalidTokenException("Malformed JSON", e);
+        }
+    }
+
+    private static byte[] decode(String part) {
+        try {
+            return Base64.getUrlDecoder().decode(part);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("Malformed base64url", e);
+        }
+    }
+
+    private static Instant numericDate(Map<String, Object> claims, String name) {
+        Object value = claims.get(name);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Number number)) {
+            throw new InvalidTokenException("Claim " + name + " is not a NumericDate");
+        }
+        return Instant.ofEpochSecond(number.longValue());
+    }
+}
@@ -0,0 +1,44 @@
+package me.xstr.api.auth;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Reads PEM-encoded public keys ({@code -----BEGIN PUBLIC KEY-----}, i.e. X.509
+ * SubjectPublicKeyInfo), as written by {@code openssl pkey -pubout}.
+ */
+public final class PublicKeys {
+
+    private static final String BEGIN = "-----BEGIN PUBLIC KEY-----";
+
+    private static final String END = "-----END PUBLIC KEY-----";
+
+    private PublicKeys() {
+    }
+
+    /**
+     * RSA or EC key in {@code pem}.
+     *
+     * @throws IllegalArgumentException if it holds no such key
+     */
+    public static PublicKey fromPem(String pem) {
+        int begin = pem.indexOf(BEGIN);
+        int end = pem.indexOf(END);
+        if (begin < 0 || end < begin) {
+            throw new IllegalArgumentException("Expected a PEM " + BEGIN + " block");
+        }
+        byte[] der = Base64.getMimeDecoder().decode(pem.substring(begin + BEGIN.length(), end));
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(der);
+        for (String algorithm : new String[] {"RSA", "EC"}) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(spec);
+            } catch (GeneralSecurityException e) {
+                // Not this key type
+            }
+        }
+        throw new IllegalArgumentException("Not an RSA or EC public key");
+    }
+}
@@ -0,0 +1,14 @@
+package me.xstr.api.auth;
+
+/**
+ * Checks a bearer token and returns its claims.
+ */
+@FunctionalInterface
+public interface TokenVerifier {
+
+    /**
+     * @throws InvalidTokenException if the token is malformed, not signed by a trusted key, or
+     *                               not valid at this time
+     */
+    JwtClaims verify(String token);
+}
@@ -0,0 +1,50 @@
+package me.xstr.api.configuration;
+
+import me.xstr.api.accesslog.AccessLogRingBuffer;
+import me.xstr.api.accesslog.AccessLogWriter;
+import me.xstr.api.controller.AccessLogFilter;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Writes a JSON-lines access log to {@code xstr.access-log.path} through {@link AccessLogFilter}.
+ * Enable with {@code xstr.access-log.enabled=true}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "xstr.access-log.enabled", havingValue = "true")
+public class AccessLogConfiguration {
+
+    /**
+     * Closed with the context, writing the records still buffered. Its counters are exported
+     * through the {@link MetricsRegistry}.
+     */
+    @Bean(name = "me.xstr.api.configuration.AccessLogConfiguration.accessLogWriter", destroyMethod = "close")
+    AccessLogWriter accessLogWriter(MetricsRegistry metricsRegistry,
+                                    @Value("${xstr.access-log.path:logs/access.log}") Path path,
+                                    @Value("${xstr.access-log.max-size:100MB}") DataSize maxSize,
+                                    @Value("${xstr.access-log.max-files:5}") int maxFiles,
+                                    @Value("${xstr.access-log.buffer-size:8192}") int bufferSize,
+                                    @Value("${xstr.access-log.write-buffer:256KB}") DataSize writeBuffer) {
+        AccessLogWriter writer = new AccessLogWriter(new AccessLogRingBuffer(bufferSize), path, maxSize.toBytes(),
+                maxFiles, Math.toIntExact(writeBuffer.toBytes()));
+        metricsRegistry.register(writer);
+        return writer;
+    }
+
+    /**
+     * Registered by Spring Boot as a servlet filter, ordered by {@link AccessLogFilter#ORDER}.
+     */
+    @Bean(name = "me.xstr.api.configuration.AccessLogConfiguration.accessLogFilter")
+    AccessLogFilter accessLogFilter(OperationRoutes operationRoutes, AccessLogWriter accessLogWriter) {
+        return new AccessLogFilter(operationRoutes, accessLogWriter.getRingBuffer());
+    }
+}
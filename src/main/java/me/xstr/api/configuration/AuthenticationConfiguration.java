@@ -0,0 +1,85 @@
+package me.xstr.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.auth.CachingTokenVerifier;
+import me.xstr.api.auth.JwtVerifier;
+import me.xstr.api.auth.PublicKeys;
+import me.xstr.api.auth.TokenVerifier;
+import me.xstr.api.controller.BearerTokenFilter;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.time.CachedClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Enforces {@code BearerAuth} with {@link BearerTokenFilter} once {@code xstr.auth.enabled=true}.
+ * Tokens are verified against the PEM public keys configured as
+ * {@code xstr.auth.keys.<kid>=<resource>}, e.g. {@code file:/etc/xstr/signing.pem}, and their
+ * claims are cached by a {@link CachingTokenVerifier}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "xstr.auth.enabled", havingValue = "true")
+public class AuthenticationConfiguration {
+
+    @Bean(name = "me.xstr.api.configuration.AuthenticationConfiguration.tokenVerifier")
+    CachingTokenVerifier tokenVerifier(Environment environment, ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                                       MetricsRegistry metricsRegistry,
+                                       @Value("${xstr.auth.issuer:#{null}}") String issuer,
+                                       @Value("${xstr.auth.audience:#{null}}") String audience,
+                                       @Value("${xstr.auth.clock-skew:60s}") Duration clockSkew,
+                                       @Value("${xstr.auth.cache.max-entries:65536}") int maxEntries,
+                                       @Value("${xstr.auth.cache.max-ttl:1h}") Duration maxTtl) {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        Binder.get(environment).bind("xstr.auth.keys", Bindable.mapOf(String.class, String.class))
+                .orElseGet(Map::of)
+                .forEach((kid, location) -> {
+                    try {
+                        String pem = resourceLoader.getResource(location).getContentAsString(StandardCharsets.US_ASCII);
+                        keys.put(kid, PublicKeys.fromPem(pem));
+                    } catch (IOException | IllegalArgumentException e) {
+                        throw new IllegalStateException("Unable to read public key " + kid + " from " + location, e);
+                    }
+                });
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("xstr.auth.enabled=true requires at least one xstr.auth.keys.<kid>");
+        }
+        Clock clock = Clock.systemUTC();
+        TokenVerifier verifier = new JwtVerifier(keys, issuer, audience, clockSkew, objectMapper, clock);
+        CachingTokenVerifier cache = new CachingTokenVerifier(verifier, maxEntries, maxTtl, clock);
+        metricsRegistry.register(cache);
+        return cache;
+    }
+
+    /**
+     * Registered by Spring Boot as a servlet filter, ordered by {@link BearerTokenFilter#ORDER}.
+     * Its counters are exported through the {@link MetricsRegistry}.
+     */
+    @Bean(name = "me.xstr.api.configuration.AuthenticationConfiguration.bearerTokenFilter")
+    BearerTokenFilter bearerTokenFilter(OperationRoutes operationRoutes, TokenVerifier tokenVerifier,
+                                        MetricsRegistry metricsRegistry, ModelCodecs modelCodecs, CachedClock clock,
+                                        @Value("${xstr.auth.anonymous-operations:}") Set<String> anonymousOperations) {
+        BearerTokenFilter filter = new BearerTokenFilter(operationRoutes, tokenVerifier, anonymousOperations,
+                modelCodecs, clock);
+        metricsRegistry.register(filter);
+        return filter;
+    }
+}
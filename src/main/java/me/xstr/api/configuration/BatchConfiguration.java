@@ -0,0 +1,54 @@
+package me.xstr.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import me.xstr.api.controller.AccessLogFilter;
+import me.xstr.api.controller.BatchExecutor;
+import me.xstr.api.controller.BearerTokenFilter;
+import me.xstr.api.controller.ConcurrencyLimitFilter;
+import me.xstr.api.controller.OperationMetricsFilter;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.controller.RateLimitFilter;
+import me.xstr.api.time.CachedClock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the operations of {@code POST /batch} on Spring Boot's {@code applicationTaskExecutor}:
+ * a bounded platform pool, or virtual threads with {@code spring.threads.virtual.enabled=true}.
+ * Each operation goes through whichever per-operation filters are enabled, in their servlet
+ * order, and gets a {@code 504} result after {@code xstr.batch.timeout}.
+ */
+@Configuration
+public class BatchConfiguration {
+
+    @Bean(name = "me.xstr.api.configuration.BatchConfiguration.batchExecutor")
+    BatchExecutor batchExecutor(OperationRoutes operationRoutes,
+                                @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor taskExecutor,
+                                ObjectProvider<AccessLogFilter> accessLogFilter,
+                                ObjectProvider<OperationMetricsFilter> operationMetricsFilter,
+                                ObjectProvider<BearerTokenFilter> bearerTokenFilter,
+                                ObjectProvider<RateLimitFilter> rateLimitFilter,
+                                ObjectProvider<ConcurrencyLimitFilter> concurrencyLimitFilter,
+                                @Value("${xstr.batch.timeout:30s}") Duration timeout,
+                                ObjectMapper objectMapper, CachedClock clock) {
+        List<Filter> filters = new ArrayList<>();
+        accessLogFilter.ifAvailable(filters::add);
+        operationMetricsFilter.ifAvailable(filters::add);
+        bearerTokenFilter.ifAvailable(filters::add);
+        rateLimitFilter.ifAvailable(filters::add);
+        concurrencyLimitFilter.ifAvailable(filters::add);
+        AnnotationAwareOrderComparator.sort(filters);
+        return new BatchExecutor(operationRoutes, taskExecutor, filters, timeout, objectMapper, clock);
+    }
+}
@@ -0,0 +1,51 @@
+package me.xstr.api.configuration;
+
+import me.xstr.api.controller.ConcurrencyLimitFilter;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.limit.GradientConcurrencyLimit;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.time.CachedClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Puts {@link ConcurrencyLimitFilter} in front of the servlet server, shedding requests over an
+ * adaptive limit with {@code 503}. Off unless {@code xstr.concurrency-limit.enabled=true}: until
+ * the limit has learned from traffic it starts at {@code xstr.concurrency-limit.initial}, which
+ * should be sized for the deployment.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "xstr.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Registered by Spring Boot as a servlet filter, ordered by {@link ConcurrencyLimitFilter#ORDER}.
+     * Its limits and counters are exported through the {@link MetricsRegistry}.
+     */
+    @Bean(name = "me.xstr.api.configuration.ConcurrencyLimitConfiguration.concurrencyLimitFilter")
+    ConcurrencyLimitFilter concurrencyLimitFilter(OperationRoutes operationRoutes, MetricsRegistry metricsRegistry,
+                                                  ModelCodecs modelCodecs, CachedClock clock,
+                                                  @Value("${xstr.concurrency-limit.initial:20}") int initialLimit,
+                                                  @Value("${xstr.concurrency-limit.min:10}") int minLimit,
+                                                  @Value("${xstr.concurrency-limit.max:200}") int maxLimit,
+                                                  @Value("${xstr.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+                                                  @Value("${xstr.concurrency-limit.window:100ms}") Duration window,
+                                                  @Value("${xstr.concurrency-limit.retry-after:1s}") Duration retryAfter,
+                                                  @Value("${xstr.concurrency-limit.priority.operations:getHealth}") Set<String> priorityOperations,
+                                                  @Value("${xstr.concurrency-limit.priority.limit:16}") int priorityLimit) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, rttTolerance,
+                window.toNanos());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(operationRoutes, limit, priorityOperations,
+                priorityLimit, retryAfter.toSeconds(), modelCodecs, clock);
+        metricsRegistry.register(filter);
+        return filter;
+    }
+}
@@ -0,0 +1,96 @@
+package me.xstr.api.configuration;
+
+import io.swagger.v3.oas.annotations.Operation;
+import me.xstr.api.controller.AcceptHeaderNegotiator;
+import me.xstr.api.controller.OperationRoutes;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes all {@code Accept} header parsing through {@link AcceptHeaderNegotiator}'s cache and
+ * pre-resolves the {@code produces} media types of every {@link Operation} once the handler
+ * mappings are known. The same pass fills {@link OperationRoutes}, which lets filters find a
+ * request's operation before dispatch and the batch endpoint invoke an operation by id.
+ */
+@Configuration
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+
+    private final OperationRoutes operationRoutes = new OperationRoutes();
+
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.strategies(List.of(new CachingHeaderContentNegotiationStrategy()));
+    }
+
+    @Bean(name = "me.xstr.api.configuration.ContentNegotiationConfiguration.operationRoutes")
+    OperationRoutes operationRoutes() {
+        return operationRoutes;
+    }
+
+    @EventListener
+    public void registerOperations(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        List<OperationRoutes.Route> routes = new ArrayList<>();
+        for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+                Operation operation = entry.getValue().getMethodAnnotation(Operation.class);
+                if (operation == null || operation.operationId().isEmpty()) {
+                    continue;
+                }
+                RequestMappingInfo info = entry.getKey();
+                AcceptHeaderNegotiator negotiator = AcceptHeaderNegotiator.register(operation.operationId(),
+                        info.getProducesCondition().getProducibleMediaTypes());
+                HandlerMethod handler = entry.getValue().createWithResolvedBean();
+                for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                    for (String pattern : info.getPatternValues()) {
+                        routes.add(new OperationRoutes.Route(operation.operationId(), method.name(),
+                                PathPatternParser.defaultInstance.parse(pattern), negotiator, handler));
+                    }
+                }
+            }
+        }
+        operationRoutes.register(routes);
+    }
+
+    /**
+     * {@code Accept} header strategy equivalent to Spring's {@code HeaderContentNegotiationStrategy},
+     * but returning the cached, pre-sorted list for headers seen before.
+     */
+    static class CachingHeaderContentNegotiationStrategy implements ContentNegotiationStrategy {
+
+        @Override
+        public List<MediaType> resolveMediaTypes(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+            String[] headerValues = request.getHeaderValues(HttpHeaders.ACCEPT);
+            if (headerValues == null) {
+                return MEDIA_TYPE_ALL_LIST;
+            }
+            String header = headerValues.length == 1 ? headerValues[0] : String.join(",", headerValues);
+            try {
+                return AcceptHeaderNegotiator.acceptedMediaTypes(header);
+            } catch (InvalidMediaTypeException e) {
+                throw new HttpMediaTypeNotAcceptableException(
+                        "Could not parse 'Accept' header " + header + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.xstr.api.configuration;
+
+import me.xstr.api.health.DiskSpaceHealthContributor;
+import me.xstr.api.health.HealthAggregator;
+import me.xstr.api.health.HealthContributor;
+import me.xstr.api.health.HeapHealthContributor;
+import me.xstr.api.health.ThreadPoolHealthContributor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Built-in {@link HealthContributor}s and the {@link HealthAggregator} that runs every
+ * contributor bean for {@code GET /health}.
+ */
+@Configuration
+public class HealthConfiguration {
+
+    @Bean(name = "me.xstr.api.configuration.HealthConfiguration.diskSpaceHealthContributor")
+    DiskSpaceHealthContributor diskSpaceHealthContributor(@Value("${xstr.health.disk.path:.}") File path,
+                                                          @Value("${xstr.health.disk.min-free:10MB}") DataSize minFree) {
+        return new DiskSpaceHealthContributor(path, minFree);
+    }
+
+    @Bean(name = "me.xstr.api.configuration.HealthConfiguration.heapHealthContributor")
+    HeapHealthContributor heapHealthContributor(@Value("${xstr.health.heap.max-usage:0.9}") double maxUsage) {
+        return new HeapHealthContributor(maxUsage);
+    }
+
+    /**
+     * Saturation of the executor behind MVC async requests and {@code @Async} work.
+     */
+    @Bean(name = "me.xstr.api.configuration.HealthConfiguration.taskExecutorHealthContributor")
+    ThreadPoolHealthContributor taskExecutorHealthContributor(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> taskExecutor,
+            @Value("${xstr.health.executor.max-queued:100}") int maxQueued) {
+        return new ThreadPoolHealthContributor("taskExecutor", taskExecutor.getIfAvailable(), maxQueued);
+    }
+
+    @Bean(name = "me.xstr.api.configuration.HealthConfiguration.healthAggregator")
+    HealthAggregator healthAggregator(ObjectProvider<HealthContributor> contributors, Environment environment,
+                                      @Value("${xstr.health.check-timeout:500ms}") Duration defaultTimeout,
+                                      @Value("${xstr.health.check-ttl:5s}") Duration defaultTtl,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        List<HealthAggregator.Check> checks = contributors.orderedStream()
+                .map(contributor -> {
+                    String prefix = "xstr.health.checks." + contributor.getName() + ".";
+                    return new HealthAggregator.Check(contributor,
+                            environment.getProperty(prefix + "timeout", Duration.class, defaultTimeout),
+                            environment.getProperty(prefix + "ttl", Duration.class, defaultTtl));
+                })
+                .toList();
+        // Not a bean: an Executor bean would make Spring Boot back off its applicationTaskExecutor.
+        // No pool either, the aggregator never runs a check twice at once.
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("health-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setDaemon(true);
+        return new HealthAggregator(executor, checks);
+    }
+}
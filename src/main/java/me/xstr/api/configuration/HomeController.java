@@ -1,5 +1,7 @@
 package me.xstr.api.configuration;
 
+import me.xstr.api.controller.StaticDocsController;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,14 +9,21 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.GetMapping;
 
 /**
- * Home redirection to OpenAPI api documentation
+ * Home redirection to OpenAPI api documentation: swagger-ui, or the prebuilt docs page when
+ * {@link StaticDocsController} serves the docs
  */
 @Controller
 public class HomeController {
 
+    private final boolean staticDocs;
+
+    public HomeController(@Value("${xstr.docs.static.enabled:false}") boolean staticDocs) {
+        this.staticDocs = staticDocs;
+    }
+
     @RequestMapping("/")
     public String index() {
-        return "redirect:swagger-ui.html";
+        return staticDocs ? "redirect:" + StaticDocsController.DOCS_PATH.substring(1) : "redirect:swagger-ui.html";
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package me.xstr.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.model.ApiModelsModule;
+import me.xstr.api.time.CachedClock;
+import me.xstr.api.time.RFC3339Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson customizations. {@link com.fasterxml.jackson.databind.Module} beans are picked up by
+ * Spring Boot and registered on the application {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean(name = "me.xstr.api.configuration.JacksonConfiguration.cachedClock")
+    CachedClock cachedClock() {
+        return new CachedClock();
+    }
+
+    @Bean(name = "me.xstr.api.configuration.JacksonConfiguration.rfc3339Module")
+    RFC3339Module rfc3339Module(CachedClock cachedClock) {
+        return new RFC3339Module(cachedClock);
+    }
+
+    /**
+     * Generated serializers/deserializers for the API models, replacing bean introspection.
+     */
+    @Bean(name = "me.xstr.api.configuration.JacksonConfiguration.apiModelsModule")
+    ApiModelsModule apiModelsModule() {
+        return new ApiModelsModule();
+    }
+
+    /**
+     * JSON, CBOR and Smile mappers sharing the application mapper's configuration.
+     */
+    @Bean(name = "me.xstr.api.configuration.JacksonConfiguration.modelCodecs")
+    ModelCodecs modelCodecs(ObjectMapper objectMapper) {
+        return new ModelCodecs(objectMapper);
+    }
+}
@@ -0,0 +1,34 @@
+package me.xstr.api.configuration;
+
+import me.xstr.api.controller.OperationMetricsFilter;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.metrics.MetricsRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The {@link MetricsRegistry} behind {@code GET /metrics} and, in the servlet server, the filter
+ * recording every operation into it.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean(name = "me.xstr.api.configuration.MetricsConfiguration.metricsRegistry")
+    MetricsRegistry metricsRegistry() {
+        return new MetricsRegistry();
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletMetricsConfiguration {
+
+        /**
+         * Registered by Spring Boot as a servlet filter, ordered by {@link OperationMetricsFilter#ORDER}.
+         */
+        @Bean(name = "me.xstr.api.configuration.MetricsConfiguration.operationMetricsFilter")
+        OperationMetricsFilter operationMetricsFilter(OperationRoutes operationRoutes, MetricsRegistry metricsRegistry) {
+            return new OperationMetricsFilter(operationRoutes, metricsRegistry);
+        }
+    }
+}
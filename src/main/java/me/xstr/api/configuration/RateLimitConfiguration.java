@@ -0,0 +1,61 @@
+package me.xstr.api.configuration;
+
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.controller.RateLimitFilter;
+import me.xstr.api.limit.RateLimitPolicy;
+import me.xstr.api.limit.TokenBucketRateLimiter;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.time.CachedClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Puts {@link RateLimitFilter} in front of the servlet server. Callers get
+ * {@code xstr.rate-limit.permits} requests per {@code xstr.rate-limit.period}, bursting up to
+ * {@code xstr.rate-limit.burst}, shared by all operations. An operation gets a budget of its own
+ * when any of these is set under {@code xstr.rate-limit.operations.<operationId>.}, the rest
+ * falling back to the shared values. Off unless {@code xstr.rate-limit.enabled=true}: without
+ * authentication callers are keyed by remote address, which is only meaningful once the real client
+ * address reaches the application.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "xstr.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfiguration {
+
+    /**
+     * Registered by Spring Boot as a servlet filter, ordered by {@link RateLimitFilter#ORDER}.
+     * Its counters are exported through the {@link MetricsRegistry}.
+     */
+    @Bean(name = "me.xstr.api.configuration.RateLimitConfiguration.rateLimitFilter")
+    RateLimitFilter rateLimitFilter(OperationRoutes operationRoutes, MetricsRegistry metricsRegistry,
+                                    ModelCodecs modelCodecs, CachedClock clock, Environment environment,
+                                    @Value("${xstr.rate-limit.permits:100}") long permits,
+                                    @Value("${xstr.rate-limit.period:1s}") Duration period,
+                                    @Value("${xstr.rate-limit.burst:200}") long burst,
+                                    @Value("${xstr.rate-limit.max-callers:65536}") int maxCallers) {
+        RateLimitPolicy defaultPolicy = new RateLimitPolicy(permits, period, burst);
+        RateLimitFilter filter = new RateLimitFilter(operationRoutes, new TokenBucketRateLimiter(defaultPolicy, maxCallers),
+                operationId -> {
+                    String prefix = "xstr.rate-limit.operations." + operationId + ".";
+                    if (!environment.containsProperty(prefix + "permits") && !environment.containsProperty(prefix + "period")
+                            && !environment.containsProperty(prefix + "burst")) {
+                        return null;
+                    }
+                    RateLimitPolicy policy = new RateLimitPolicy(
+                            environment.getProperty(prefix + "permits", Long.class, permits),
+                            environment.getProperty(prefix + "period", Duration.class, period),
+                            environment.getProperty(prefix + "burst", Long.class, burst));
+                    return new TokenBucketRateLimiter(policy, maxCallers);
+                }, modelCodecs, clock);
+        metricsRegistry.register(filter);
+        return filter;
+    }
+}
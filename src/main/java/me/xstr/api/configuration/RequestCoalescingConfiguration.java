@@ -0,0 +1,34 @@
+package me.xstr.api.configuration;
+
+import io.swagger.v3.oas.annotations.Operation;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.controller.RequestCoalescingFilter;
+import me.xstr.api.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Puts {@link RequestCoalescingFilter} in front of every {@code GET} {@link Operation}, so
+ * concurrent identical requests share one dispatch to the delegate. Disable with
+ * {@code xstr.coalescing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "xstr.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestCoalescingConfiguration {
+
+    /**
+     * Registered by Spring Boot as a servlet filter, ordered by {@link RequestCoalescingFilter#ORDER}.
+     * Its counters are exported through the {@link MetricsRegistry}.
+     */
+    @Bean(name = "me.xstr.api.configuration.RequestCoalescingConfiguration.requestCoalescingFilter")
+    RequestCoalescingFilter requestCoalescingFilter(OperationRoutes operationRoutes, MetricsRegistry metricsRegistry,
+                                                    @Value("${xstr.coalescing.max-wait:2s}") Duration maxWait) {
+        RequestCoalescingFilter filter = new RequestCoalescingFilter(operationRoutes, maxWait);
+        metricsRegistry.register(filter);
+        return filter;
+    }
+}
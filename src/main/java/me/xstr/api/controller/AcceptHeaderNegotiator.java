@@ -0,0 +1,138 @@
+package me.xstr.api.controller;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Content negotiation with per-{@code Accept}-header caching.
+ * <p>
+ * Each operation gets one negotiator holding its pre-resolved {@code produces} media types
+ * and a map from raw {@code Accept} header to the negotiated type. Parsed and sorted
+ * {@code Accept} headers are cached globally as well. Lookups are plain
+ * {@link ConcurrentHashMap} reads. Each map stops accepting new entries after
+ * {@link #MAX_CACHED_HEADERS} distinct headers, so a client sending random headers costs
+ * a parse per request but cannot grow the heap.
+ */
+public final class AcceptHeaderNegotiator {
+
+    static final int MAX_CACHED_HEADERS = 256;
+
+    private static final List<MediaType> ALL = List.of(MediaType.ALL);
+
+    private static final ConcurrentMap<String, List<MediaType>> ACCEPTED = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, AcceptHeaderNegotiator> OPERATIONS = new ConcurrentHashMap<>();
+
+    private final String operationId;
+
+    private final List<MediaType> produces;
+
+    private final ConcurrentMap<String, Optional<MediaType>> negotiated = new ConcurrentHashMap<>();
+
+    private AcceptHeaderNegotiator(String operationId, List<MediaType> produces) {
+        this.operationId = operationId;
+        this.produces = produces;
+    }
+
+    /**
+     * Registers the {@code produces} media types of an operation, replacing any earlier registration.
+     */
+    public static AcceptHeaderNegotiator register(String operationId, Collection<MediaType> produces) {
+        AcceptHeaderNegotiator negotiator = new AcceptHeaderNegotiator(operationId, List.copyOf(produces));
+        OPERATIONS.put(operationId, negotiator);
+        return negotiator;
+    }
+
+    /**
+     * Negotiator for an operation, registering it from {@code produces} if it was not
+     * pre-resolved at startup.
+     */
+    public static AcceptHeaderNegotiator forOperation(String operationId, String... produces) {
+        AcceptHeaderNegotiator negotiator = OPERATIONS.get(operationId);
+        if (negotiator == null) {
+            List<MediaType> mediaTypes = new ArrayList<>(produces.length);
+            for (String mediaType : produces) {
+                mediaTypes.add(MediaType.valueOf(mediaType));
+            }
+            OPERATIONS.putIfAbsent(operationId, new AcceptHeaderNegotiator(operationId, List.copyOf(mediaTypes)));
+            negotiator = OPERATIONS.get(operationId);
+        }
+        return negotiator;
+    }
+
+    /**
+     * Parsed {@code Accept} header, most specific and highest quality first. A missing or
+     * blank header yields {@link MediaType#ALL}. The returned list is shared and unmodifiable.
+     *
+     * @throws InvalidMediaTypeException if the header cannot be parsed
+     */
+    public static List<MediaType> acceptedMediaTypes(String acceptHeader) {
+        if (!StringUtils.hasText(acceptHeader)) {
+            return ALL;
+        }
+        List<MediaType> accepted = ACCEPTED.get(acceptHeader);
+        if (accepted == null) {
+            List<MediaType> parsed = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+            MimeTypeUtils.sortBySpecificity(parsed);
+            accepted = Collections.unmodifiableList(parsed);
+            if (ACCEPTED.size() < MAX_CACHED_HEADERS) {
+                ACCEPTED.putIfAbsent(acceptHeader, accepted);
+            }
+        }
+        return accepted;
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    public List<MediaType> getProduces() {
+        return produces;
+    }
+
+    /**
+     * The produced media type to respond with, or {@code null} if nothing the operation
+     * produces is acceptable (including an unparseable header).
+     */
+    public MediaType negotiate(String acceptHeader) {
+        String key = acceptHeader == null ? "" : acceptHeader;
+        Optional<MediaType> result = negotiated.get(key);
+        if (result == null) {
+            result = Optional.ofNullable(resolve(key));
+            if (negotiated.size() < MAX_CACHED_HEADERS) {
+                negotiated.putIfAbsent(key, result);
+            }
+        }
+        return result.orElse(null);
+    }
+
+    private MediaType resolve(String acceptHeader) {
+        List<MediaType> accepted;
+        try {
+            accepted = acceptedMediaTypes(acceptHeader);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        for (MediaType acceptable : accepted) {
+            if (acceptable.getQualityValue() == 0.0d) {
+                continue;
+            }
+            for (MediaType producible : produces) {
+                if (acceptable.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.accesslog.AccessLogRecord;
+import me.xstr.api.accesslog.AccessLogRingBuffer;
+import me.xstr.api.accesslog.AccessLogWriter;
+import me.xstr.api.auth.JwtClaims;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs every request, including those rejected by the limiting filters, to an
+ * {@link AccessLogRingBuffer} drained by an {@link AccessLogWriter}. The request thread only
+ * fills a pre-allocated record; when the buffer is full the record is dropped and counted. The
+ * operation id is resolved through {@link OperationRoutes} ({@code null} for other paths), the
+ * caller is the verified subject stored by {@link BearerTokenFilter} or else the remote address,
+ * and the size is the response's {@code Content-Length}, or {@code -1} when it was streamed.
+ */
+public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * Ahead of {@link OperationMetricsFilter}, so the duration covers all the other filters.
+     */
+    public static final int ORDER = OperationMetricsFilter.ORDER - 5;
+
+    private final OperationRoutes routes;
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    public AccessLogFilter(OperationRoutes routes, AccessLogRingBuffer ringBuffer) {
+        this.routes = routes;
+        this.ringBuffer = ringBuffer;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long duration = System.nanoTime() - start;
+            OperationRoutes.Route route = routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request));
+            long bytes = contentLength(response);
+            String caller = caller(request);
+            // Everything is at hand before claiming, so the slot is published right away
+            AccessLogRecord record = ringBuffer.claim();
+            if (record != null) {
+                record.timestamp = timestamp;
+                record.method = request.getMethod();
+                record.path = request.getRequestURI();
+                record.operationId = route != null ? route.getOperationId() : null;
+                record.status = status;
+                record.durationNanos = duration;
+                record.bytes = bytes;
+                record.caller = caller;
+                ringBuffer.publish(record);
+            }
+        }
+    }
+
+    private static long contentLength(HttpServletResponse response) {
+        String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String caller(HttpServletRequest request) {
+        if (request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE) instanceof JwtClaims claims && claims.subject() != null) {
+            return claims.subject();
+        }
+        return request.getRemoteAddr();
+    }
+}
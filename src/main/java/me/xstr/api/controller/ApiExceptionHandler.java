@@ -0,0 +1,51 @@
+package me.xstr.api.controller;
+
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Answers request bodies the generated controllers reject, e.g. a {@code POST /batch} whose
+ * {@code operations} list is empty or missing, with a {@code 400} {@link ErrorResponse} as the
+ * spec documents, instead of Spring Boot's default error body. Validation failures list the
+ * offending fields under {@code details}.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+    private final CachedClock clock;
+
+    public ApiExceptionHandler(CachedClock clock) {
+        this.clock = clock;
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> invalid(MethodArgumentNotValidException e) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (FieldError error : e.getBindingResult().getFieldErrors()) {
+            fields.putIfAbsent(error.getField(), error.getDefaultMessage());
+        }
+        return badRequest(new ErrorResponse(HttpStatus.BAD_REQUEST.name(), "Invalid request body").details(fields));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> unreadable(HttpMessageNotReadableException e) {
+        return badRequest(new ErrorResponse(HttpStatus.BAD_REQUEST.name(), "Malformed request body"));
+    }
+
+    private ResponseEntity<ErrorResponse> badRequest(ErrorResponse error) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error.timestamp(clock.now()));
+    }
+}
@@ -1,19 +1,40 @@
 package me.xstr.api.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.context.request.NativeWebRequest;
 
-import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ApiUtil {
+    /**
+     * Example bodies keyed by example text. The generator emits examples as constants, so this stays small.
+     */
+    private static final ConcurrentMap<String, EncodedBody> EXAMPLES = new ConcurrentHashMap<>();
+
     public static void setExampleResponse(NativeWebRequest req, String contentType, String example) {
-        try {
-            HttpServletResponse res = req.getNativeResponse(HttpServletResponse.class);
-            res.setCharacterEncoding("UTF-8");
-            res.addHeader("Content-Type", contentType);
-            res.getWriter().print(example);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        EncodedBody body = EXAMPLES.get(example);
+        if (body == null || !body.getContentType().equals(contentType)) {
+            body = EncodedBody.utf8(contentType, example);
+            EXAMPLES.put(example, body);
         }
+        ResponseBodyWriter.write(req, body);
+    }
+
+    /**
+     * Negotiates the {@link ModelFormat} of an operation that produces every format, JSON when
+     * nothing else is acceptable.
+     */
+    public static ModelFormat negotiateFormat(NativeWebRequest req, String operationId) {
+        return ModelFormat.of(negotiate(req, operationId, "application/json", "application/cbor", "application/x-jackson-smile"));
+    }
+
+    /**
+     * Negotiates the response media type of an operation against the request's
+     * {@code Accept} header, or returns {@code null} if none of {@code produces} is acceptable.
+     */
+    public static MediaType negotiate(NativeWebRequest req, String operationId, String... produces) {
+        return AcceptHeaderNegotiator.forOperation(operationId, produces).negotiate(req.getHeader(HttpHeaders.ACCEPT));
     }
 }
@@ -0,0 +1,55 @@
+package me.xstr.api.controller;
+
+import me.xstr.api.model.BatchRequest;
+import me.xstr.api.model.BatchResponse;
+import me.xstr.api.model.ErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.constraints.*;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+/**
+ * A delegate to be called by the {@link BatchApiController}}.
+ * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public interface BatchApiDelegate {
+
+    default Optional<NativeWebRequest> getRequest() {
+        return Optional.empty();
+    }
+
+    /**
+     * POST /batch : Execute several operations in one request
+     * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+     *
+     * @param batchRequest  (required)
+     * @return One result per requested operation (status code 200)
+     *         or Malformed batch request (status code 400)
+     * @see BatchApi#executeBatch
+     */
+    default ResponseEntity<BatchResponse> executeBatch(BatchRequest batchRequest) {
+        getRequest().ifPresent(request -> {
+            MediaType mediaType = ApiUtil.negotiate(request, "executeBatch", "application/json");
+            if (mediaType == null) {
+                return;
+            }
+            if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                String exampleString = "{ \"results\" : [ { \"headers\" : { \"key\" : \"headers\" }, \"operationId\" : \"operationId\", \"id\" : \"id\", \"body\" : \"\", \"error\" : { \"error\" : \"SERVICE_UNAVAILABLE\", \"message\" : \"The service is temporarily unavailable\", \"timestamp\" : \"2025-05-27T10:30:00Z\" }, \"status\" : 0 }, { \"headers\" : { \"key\" : \"headers\" }, \"operationId\" : \"operationId\", \"id\" : \"id\", \"body\" : \"\", \"error\" : { \"error\" : \"SERVICE_UNAVAILABLE\", \"message\" : \"The service is temporarily unavailable\", \"timestamp\" : \"2025-05-27T10:30:00Z\" }, \"status\" : 0 } ] }";
+                ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                return;
+            }
+        });
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
+}
@@ -0,0 +1,261 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.model.BatchOperation;
+import me.xstr.api.model.BatchResult;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.CompositeFilter;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the operations of a batch concurrently through their generated controllers, and so
+ * through the same delegates as individual requests.
+ * <p>
+ * Each operation sees a {@link BatchItemRequest} and writes into its own {@link BufferedResponse},
+ * bound to the worker thread through {@link RequestContextHolder} so that the request-scoped
+ * {@code NativeWebRequest} of the delegates resolves to them. Before reaching its controller, each
+ * operation passes through the per-operation filters (access log, metrics, authentication, rate
+ * and concurrency limits), so a batch item is authorized, limited and accounted for exactly like
+ * the individual request. The batch request holds one permit of the concurrency limiter while it
+ * waits for its operations, and each operation takes another, so a batch of n operations counts as
+ * n + 1 requests in flight. Only {@code GET} operations without parameters, and not event streams,
+ * can be batched. Results are embedded in the JSON batch response, so an operation cannot be asked
+ * for CBOR or Smile in a batch. Failures become a result with an {@link ErrorResponse}, never an
+ * exception, so one failing operation does not fail the batch. An operation still running after
+ * {@code timeout} gets a {@code 504} result but is not interrupted; it only reads the
+ * {@link BatchItemRequest.Snapshot} taken in {@link #submit}, so it is safe for it to outlive the
+ * batch request.
+ */
+public class BatchExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExecutor.class);
+
+    private final OperationRoutes routes;
+
+    private final Executor executor;
+
+    private final CompositeFilter filters = new CompositeFilter();
+
+    private final Duration timeout;
+
+    private final ObjectMapper objectMapper;
+
+    private final CachedClock clock;
+
+    /**
+     * @param filters per-operation filters each item runs through, in order
+     */
+    public BatchExecutor(OperationRoutes routes, Executor executor, List<? extends Filter> filters, Duration timeout,
+                         ObjectMapper objectMapper, CachedClock clock) {
+        this.routes = routes;
+        this.executor = executor;
+        this.filters.setFilters(filters);
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts every operation and returns their results in request order. Each result completes
+     * within {@code timeout}.
+     */
+    public List<CompletableFuture<BatchResult>> submit(HttpServletRequest request, HttpServletResponse response,
+                                                       List<BatchOperation> operations) {
+        List<CompletableFuture<BatchResult>> results = new ArrayList<>(operations.size());
+        BatchItemRequest.Snapshot batch = BatchItemRequest.Snapshot.of(request);
+        for (BatchOperation operation : operations) {
+            CompletableFuture<BatchResult> result;
+            try {
+                result = CompletableFuture.supplyAsync(() -> execute(request, batch, response, operation), executor)
+                        .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                        .exceptionally(e -> unfinished(operation, e));
+            } catch (RejectedExecutionException e) {
+                result = CompletableFuture.completedFuture(error(operation, HttpStatus.SERVICE_UNAVAILABLE,
+                        "No capacity to run the operation"));
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    BatchResult execute(HttpServletRequest request, BatchItemRequest.Snapshot batch, HttpServletResponse response,
+                        BatchOperation operation) {
+        OperationRoutes.Route route = routes.find(operation.getOperationId(), "GET");
+        if (route == null || route.getHandler() == null) {
+            return error(operation, HttpStatus.NOT_FOUND, "No batchable operation '" + operation.getOperationId() + "'");
+        }
+        HandlerMethod handler = route.getHandler();
+        if (handler.getMethodParameters().length > 0 || route.getPattern().hasPatternSyntax()) {
+            return error(operation, HttpStatus.BAD_REQUEST,
+                    "Operation '" + operation.getOperationId() + "' takes parameters and cannot be batched");
+        }
+        BatchItemRequest itemRequest = new BatchItemRequest(request, batch, route.getPattern().getPatternString(),
+                operation.getHeaders());
+        MediaType mediaType = route.getNegotiator().negotiate(itemRequest.getHeader(HttpHeaders.ACCEPT));
+        if (mediaType == null) {
+            return error(operation, HttpStatus.NOT_ACCEPTABLE,
+                    "Operation '" + operation.getOperationId() + "' cannot produce an acceptable representation");
+        }
+        if (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(mediaType)) {
+            return error(operation, HttpStatus.BAD_REQUEST,
+                    "Operation '" + operation.getOperationId() + "' streams events and cannot be batched");
+        }
+        if (ModelFormat.of(mediaType).isBinary()) {
+            return error(operation, HttpStatus.NOT_ACCEPTABLE,
+                    "Operation '" + operation.getOperationId() + "' can only be batched as JSON, not " + mediaType);
+        }
+        BufferedResponse itemResponse = new BufferedResponse(response);
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        ServletRequestAttributes attributes = new ServletRequestAttributes(itemRequest, itemResponse);
+        RequestContextHolder.setRequestAttributes(attributes);
+        Object[] returned = new Object[1];
+        try {
+            filters.doFilter(itemRequest, itemResponse, (req, res) -> returned[0] = invoke(handler, itemResponse));
+            return toResult(operation, itemResponse, returned[0]);
+        } catch (ServletException | IOException | RuntimeException e) {
+            return failed(operation, e instanceof ServletException && e.getCause() != null ? e.getCause() : e);
+        } finally {
+            attributes.requestCompleted();
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    /**
+     * Calls the controller method and applies a returned {@link ResponseEntity} to the response
+     * when nothing was written, so the filters see the final status.
+     */
+    private static Object invoke(HandlerMethod handler, BufferedResponse itemResponse) throws ServletException, IOException {
+        Object returned;
+        try {
+            returned = handler.getMethod().invoke(handler.getBean());
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ServletException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot invoke " + handler, e);
+        }
+        if (returned instanceof ResponseEntity<?> entity) {
+            entity.getHeaders().forEach((name, values) -> values.forEach(value -> itemResponse.addHeader(name, value)));
+            if (itemResponse.getBody().length == 0) {
+                itemResponse.setStatus(entity.getStatusCode().value());
+            }
+        }
+        return returned;
+    }
+
+    private BatchResult toResult(BatchOperation operation, BufferedResponse itemResponse, Object returned) throws IOException {
+        byte[] body = itemResponse.getBody();
+        int status = itemResponse.getStatus();
+        BatchResult result = new BatchResult()
+                .id(operation.getId())
+                .operationId(operation.getOperationId())
+                .status(status)
+                .headers(headers(itemResponse));
+        if (body.length == 0) {
+            Object entityBody = returned instanceof ResponseEntity<?> entity ? entity.getBody() : null;
+            return entityBody == null ? result : result.body(entityBody);
+        }
+        MediaType contentType = itemResponse.getContentType() != null
+                ? MediaType.parseMediaType(itemResponse.getContentType()) : MediaType.APPLICATION_OCTET_STREAM;
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            if (status >= 400) {
+                return result.error(objectMapper.readValue(body, ErrorResponse.class));
+            }
+            return result.body(new RawValue(new String(body, StandardCharsets.UTF_8)));
+        }
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return result.body(new String(body, charset));
+    }
+
+    private static Map<String, String> headers(BufferedResponse itemResponse) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        itemResponse.getHeaderMap().forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !values.isEmpty()) {
+                headers.put(name, String.join(", ", values));
+            }
+        });
+        return headers;
+    }
+
+    /**
+     * Maps an exception thrown by an operation the way Spring MVC would for the individual request:
+     * the status of a {@link org.springframework.web.ErrorResponse} or {@link ResponseStatus}, and
+     * {@code 500} for anything else, which is logged.
+     */
+    private BatchResult failed(BatchOperation operation, Throwable cause) {
+        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        String message = null;
+        ResponseStatus annotation = AnnotatedElementUtils.findMergedAnnotation(cause.getClass(), ResponseStatus.class);
+        if (cause instanceof org.springframework.web.ErrorResponse errorResponse) {
+            status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+            message = errorResponse.getBody().getDetail();
+        } else if (annotation != null) {
+            status = annotation.code();
+            message = annotation.reason();
+        }
+        if (status == null || status.is5xxServerError()) {
+            logger.error("Batch operation '{}' failed", operation.getOperationId(), cause);
+            return error(operation, status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR, "Operation failed");
+        }
+        return error(operation, status, message == null || message.isEmpty() ? status.getReasonPhrase() : message);
+    }
+
+    private BatchResult unfinished(BatchOperation operation, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            return error(operation, HttpStatus.GATEWAY_TIMEOUT,
+                    "Operation did not complete within " + timeout.toMillis() + " ms");
+        }
+        return failed(operation, cause);
+    }
+
+    private BatchResult error(BatchOperation operation, HttpStatus status, String message) {
+        return new BatchResult()
+                .id(operation.getId())
+                .operationId(operation.getOperationId())
+                .status(status.value())
+                .error(new ErrorResponse(status.name(), message).timestamp(clock.now()));
+    }
+}
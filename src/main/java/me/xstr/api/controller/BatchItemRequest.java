@@ -0,0 +1,410 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The batch request as seen by one of its operations: a {@code GET} of the operation's path,
+ * with the batch request's headers overridden by the item's own. Body and encoding headers of
+ * the batch request are hidden, and {@code Accept-Encoding} is dropped so that operations write
+ * identity bodies that can be embedded in the batch response. Request attributes are the item's
+ * own, so filters that mark a request as already filtered, or store its verified claims, handle
+ * each item separately from the batch request and from the other items.
+ * <p>
+ * Everything an operation reads about the batch request comes from a {@link Snapshot} taken on
+ * the request thread, never from the wrapped request: an item that outlives its timeout may still
+ * be running after the container has recycled the batch request for another caller. The item has
+ * no body, parameters, cookies, session or authenticated principal of the container.
+ */
+final class BatchItemRequest extends HttpServletRequestWrapper {
+
+    private static final Set<String> HIDDEN = Set.of(HttpHeaders.ACCEPT_ENCODING.toLowerCase(),
+            HttpHeaders.CONTENT_TYPE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.CONTENT_ENCODING.toLowerCase());
+
+    private static final ServletInputStream EMPTY_BODY = new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+            return true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read() {
+            return -1;
+        }
+    };
+
+    private final Snapshot batch;
+
+    private final String path;
+
+    private final Map<String, List<String>> headers;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    BatchItemRequest(HttpServletRequest request, Snapshot batch, String path, Map<String, String> headers) {
+        super(request);
+        this.batch = batch;
+        this.path = path;
+        this.headers = new LinkedCaseInsensitiveMap<>();
+        this.headers.putAll(batch.headers());
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                if (!HIDDEN.contains(name.toLowerCase())) {
+                    this.headers.put(name, List.of(value));
+                }
+            });
+        }
+    }
+
+    /**
+     * What the operations of a batch may see of the batch request, copied before they start.
+     */
+    record Snapshot(Map<String, List<String>> headers, String scheme, String serverName, int serverPort,
+                    String contextPath, String remoteAddr, String remoteHost, int remotePort, String localAddr,
+                    String localName, int localPort, boolean secure, String protocol, List<Locale> locales) {
+
+        static Snapshot of(HttpServletRequest request) {
+            Map<String, List<String>> headers = new LinkedCaseInsensitiveMap<>();
+            for (Enumeration<String> names = request.getHeaderNames(); names.hasMoreElements(); ) {
+                String name = names.nextElement();
+                if (!HIDDEN.contains(name.toLowerCase())) {
+                    headers.put(name, Collections.list(request.getHeaders(name)));
+                }
+            }
+            return new Snapshot(Collections.unmodifiableMap(headers), request.getScheme(), request.getServerName(),
+                    request.getServerPort(), request.getContextPath(), request.getRemoteAddr(), request.getRemoteHost(),
+                    request.getRemotePort(), request.getLocalAddr(), request.getLocalName(), request.getLocalPort(),
+                    request.isSecure(), request.getProtocol(), Collections.list(request.getLocales()));
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(Set.copyOf(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return getContextPath() + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer();
+        url.append(getScheme()).append("://").append(getServerName()).append(':').append(getServerPort());
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getContextPath() {
+        return batch.contextPath();
+    }
+
+    @Override
+    public String getServletPath() {
+        return path;
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getPathTranslated() {
+        return null;
+    }
+
+    @Override
+    public String getQueryString() {
+        return null;
+    }
+
+    @Override
+    public String getScheme() {
+        return batch.scheme();
+    }
+
+    @Override
+    public String getServerName() {
+        return batch.serverName();
+    }
+
+    @Override
+    public int getServerPort() {
+        return batch.serverPort();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return batch.secure();
+    }
+
+    @Override
+    public String getProtocol() {
+        return batch.protocol();
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return batch.remoteAddr();
+    }
+
+    @Override
+    public String getRemoteHost() {
+        return batch.remoteHost();
+    }
+
+    @Override
+    public int getRemotePort() {
+        return batch.remotePort();
+    }
+
+    @Override
+    public String getLocalAddr() {
+        return batch.localAddr();
+    }
+
+    @Override
+    public String getLocalName() {
+        return batch.localName();
+    }
+
+    @Override
+    public int getLocalPort() {
+        return batch.localPort();
+    }
+
+    @Override
+    public Locale getLocale() {
+        return batch.locales().isEmpty() ? Locale.getDefault() : batch.locales().get(0);
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(batch.locales().isEmpty() ? List.of(Locale.getDefault()) : batch.locales());
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return -1;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return EMPTY_BODY;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(Reader.nullReader());
+    }
+
+    @Override
+    public String getParameter(String name) {
+        return null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Map.of();
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.emptyEnumeration();
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return null;
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (create) {
+            throw new IllegalStateException("Batch operations have no session");
+        }
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return false;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return false;
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return null;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return false;
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Batch operations cannot be asynchronous");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("Batch operations cannot be asynchronous");
+    }
+
+    @Override
+    public String getAuthType() {
+        return null;
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return null;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return null;
+    }
+
+    @Override
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return values == null ? Collections.emptyEnumeration() : Collections.enumeration(values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(List.copyOf(headers.keySet()));
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        String value = getHeader(name);
+        if (value == null) {
+            return -1;
+        }
+        HttpHeaders parsed = new HttpHeaders();
+        parsed.set(name, value);
+        return parsed.getFirstDate(name);
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+}
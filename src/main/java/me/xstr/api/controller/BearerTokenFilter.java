@@ -0,0 +1,122 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.auth.InvalidTokenException;
+import me.xstr.api.auth.JwtClaims;
+import me.xstr.api.auth.TokenVerifier;
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enforces {@code BearerAuth} on the API operations: the request must carry
+ * {@code Authorization: Bearer <token>} with a token the {@link TokenVerifier} accepts. Its
+ * {@link JwtClaims} are then stored in the {@link JwtClaims#REQUEST_ATTRIBUTE} request attribute.
+ * <p>
+ * Other requests get a {@code 401} with {@code WWW-Authenticate} and an {@code UNAUTHORIZED}
+ * {@link ErrorResponse} serialized once per second. Operations listed as anonymous, and requests
+ * that match no operation (resolved through {@link OperationRoutes}), pass without a token.
+ */
+public class BearerTokenFilter extends OncePerRequestFilter implements Ordered, MetricsCollector {
+
+    /**
+     * Ahead of {@link RateLimitFilter}, so callers are limited by their verified subject.
+     */
+    public static final int ORDER = OperationMetricsFilter.ORDER + 3;
+
+    static final String UNAUTHORIZED_CODE = "UNAUTHORIZED";
+
+    private static final String BEARER = "Bearer ";
+
+    private static final String CHALLENGE = "Bearer realm=\"xstr\"";
+
+    private static final String INVALID_TOKEN_CHALLENGE = "Bearer realm=\"xstr\", error=\"invalid_token\"";
+
+    private static final byte[] UNAUTHORIZED_HEADER = PrometheusTextWriter.header("xstr_http_requests_unauthorized_total",
+            "counter", "Requests rejected with 401, by reason.");
+
+    private static final byte[] MISSING = PrometheusTextWriter.ascii("xstr_http_requests_unauthorized_total{reason=\"missing\"} ");
+
+    private static final byte[] INVALID = PrometheusTextWriter.ascii("xstr_http_requests_unauthorized_total{reason=\"invalid\"} ");
+
+    private final OperationRoutes routes;
+
+    private final TokenVerifier verifier;
+
+    private final Set<String> anonymousOperations;
+
+    private final CachedErrorBody rejection;
+
+    private final LongAdder missing = new LongAdder();
+
+    private final LongAdder invalid = new LongAdder();
+
+    public BearerTokenFilter(OperationRoutes routes, TokenVerifier verifier, Set<String> anonymousOperations,
+                             ModelCodecs codecs, CachedClock clock) {
+        this.routes = routes;
+        this.verifier = verifier;
+        this.anonymousOperations = Set.copyOf(anonymousOperations);
+        this.rejection = new CachedErrorBody(UNAUTHORIZED_CODE, "Missing or invalid bearer token", codecs, clock);
+    }
+
+    /**
+     * Writes {@code xstr_http_requests_unauthorized_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(UNAUTHORIZED_HEADER)
+                .write(MISSING).write(missing.sum()).write('\n')
+                .write(INVALID).write(invalid.sum()).write('\n');
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        OperationRoutes.Route route = routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request));
+        if (route == null || anonymousOperations.contains(route.getOperationId())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            missing.increment();
+            reject(request, response, route, CHALLENGE);
+            return;
+        }
+        JwtClaims claims;
+        try {
+            claims = verifier.verify(authorization.substring(BEARER.length()).trim());
+        } catch (InvalidTokenException e) {
+            invalid.increment();
+            reject(request, response, route, INVALID_TOKEN_CHALLENGE);
+            return;
+        }
+        request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, OperationRoutes.Route route,
+                        String challenge) {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        rejection.write(request, response, route);
+    }
+}
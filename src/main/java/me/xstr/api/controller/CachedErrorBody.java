@@ -0,0 +1,66 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed {@link ErrorResponse} for requests a filter turns away, serialized once per second of its
+ * timestamp and {@link ModelFormat}, and shared by every request within that second.
+ */
+final class CachedErrorBody {
+
+    private final String error;
+
+    private final String message;
+
+    private final ModelCodecs codecs;
+
+    private final CachedClock clock;
+
+    private final AtomicReferenceArray<Encoded> encoded = new AtomicReferenceArray<>(ModelFormat.values().length);
+
+    CachedErrorBody(String error, String message, ModelCodecs codecs, CachedClock clock) {
+        this.error = error;
+        this.message = message;
+        this.codecs = codecs;
+        this.clock = clock;
+    }
+
+    /**
+     * Writes the error in the format negotiated for the request's operation, or JSON when there is
+     * no operation or it produces no model format.
+     */
+    void write(HttpServletRequest request, HttpServletResponse response, OperationRoutes.Route route) {
+        ModelFormat format = route == null || route.getNegotiator() == null ? ModelFormat.JSON
+                : ModelFormat.of(route.getNegotiator().negotiate(request.getHeader(HttpHeaders.ACCEPT)));
+        ResponseBodyWriter.write(response, format.getContentType(), get(format));
+    }
+
+    /**
+     * The error at the current second in {@code format}. The array is shared and must not be
+     * modified.
+     */
+    byte[] get(ModelFormat format) {
+        CachedClock.Tick tick = clock.tick();
+        Encoded current = encoded.get(format.ordinal());
+        if (current == null || current.epochSecond != tick.getEpochSecond()) {
+            ErrorResponse response = new ErrorResponse(error, message).timestamp(tick.getDateTime());
+            try {
+                current = new Encoded(tick.getEpochSecond(), codecs.write(format, response));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Unable to serialize " + error, e);
+            }
+            encoded.set(format.ordinal(), current);
+        }
+        return current.body;
+    }
+
+    private record Encoded(long epochSecond, byte[] body) {
+    }
+}
@@ -0,0 +1,171 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.limit.GradientConcurrencyLimit;
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sheds load once more requests are in flight than a {@link GradientConcurrencyLimit} allows,
+ * instead of letting them queue for a worker thread.
+ * <p>
+ * A rejected request gets a {@code 503} with {@code Retry-After} and a {@code SERVICE_UNAVAILABLE}
+ * {@link ErrorResponse}. The body is serialized once per second of its timestamp and shared, so
+ * shedding costs no more than the cheapest request. Priority operations, {@code getHealth} by
+ * default, bypass the adaptive limit and have a fixed one of their own, so probes keep getting
+ * answered while other traffic is shed. Operations are resolved through {@link OperationRoutes};
+ * everything else, e.g. the static docs, counts against the adaptive limit. A request that goes
+ * async leaves the limit when its thread returns and is not sampled, since the time until then
+ * says nothing about its latency.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered, MetricsCollector {
+
+    /**
+     * Right after {@link OperationMetricsFilter}, so shed requests are recorded as {@code 503}s
+     * without spending anything else on them.
+     */
+    public static final int ORDER = OperationMetricsFilter.ORDER + 10;
+
+    static final String UNAVAILABLE_CODE = "SERVICE_UNAVAILABLE";
+
+    private static final byte[] LIMIT_HEADER = PrometheusTextWriter.header("xstr_concurrency_limit",
+            "gauge", "Requests allowed in flight, by lane.");
+
+    private static final byte[] IN_FLIGHT_HEADER = PrometheusTextWriter.header("xstr_concurrency_in_flight",
+            "gauge", "Requests admitted and in flight, by lane.");
+
+    private static final byte[] SHED_HEADER = PrometheusTextWriter.header("xstr_http_requests_shed_total",
+            "counter", "Requests rejected with 503 because the concurrency limit was reached, by lane.");
+
+    private static final byte[] LIMIT_DEFAULT = PrometheusTextWriter.ascii("xstr_concurrency_limit{lane=\"default\"} ");
+
+    private static final byte[] LIMIT_PRIORITY = PrometheusTextWriter.ascii("xstr_concurrency_limit{lane=\"priority\"} ");
+
+    private static final byte[] IN_FLIGHT_DEFAULT = PrometheusTextWriter.ascii("xstr_concurrency_in_flight{lane=\"default\"} ");
+
+    private static final byte[] IN_FLIGHT_PRIORITY = PrometheusTextWriter.ascii("xstr_concurrency_in_flight{lane=\"priority\"} ");
+
+    private static final byte[] SHED_DEFAULT = PrometheusTextWriter.ascii("xstr_http_requests_shed_total{lane=\"default\"} ");
+
+    private static final byte[] SHED_PRIORITY = PrometheusTextWriter.ascii("xstr_http_requests_shed_total{lane=\"priority\"} ");
+
+    private final OperationRoutes routes;
+
+    private final GradientConcurrencyLimit limit;
+
+    private final Set<String> priorityOperations;
+
+    private final int priorityLimit;
+
+    private final String retryAfter;
+
+    private final CachedErrorBody rejection;
+
+    private final AtomicInteger priorityInFlight = new AtomicInteger();
+
+    private final LongAdder shed = new LongAdder();
+
+    private final LongAdder priorityShed = new LongAdder();
+
+    /**
+     * @param retryAfterSeconds value of {@code Retry-After} on rejected requests
+     */
+    public ConcurrencyLimitFilter(OperationRoutes routes, GradientConcurrencyLimit limit, Set<String> priorityOperations,
+                                  int priorityLimit, long retryAfterSeconds, ModelCodecs codecs, CachedClock clock) {
+        this.routes = routes;
+        this.limit = limit;
+        this.priorityOperations = Set.copyOf(priorityOperations);
+        this.priorityLimit = priorityLimit;
+        this.retryAfter = Long.toString(Math.max(1L, retryAfterSeconds));
+        this.rejection = new CachedErrorBody(UNAVAILABLE_CODE, "The service is temporarily unavailable", codecs, clock);
+    }
+
+    public GradientConcurrencyLimit getLimit() {
+        return limit;
+    }
+
+    /**
+     * Writes {@code xstr_concurrency_limit}, {@code xstr_concurrency_in_flight} and
+     * {@code xstr_http_requests_shed_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(LIMIT_HEADER)
+                .write(LIMIT_DEFAULT).write(limit.getLimit()).write('\n')
+                .write(LIMIT_PRIORITY).write(priorityLimit).write('\n');
+        writer.write(IN_FLIGHT_HEADER)
+                .write(IN_FLIGHT_DEFAULT).write(limit.getInFlight()).write('\n')
+                .write(IN_FLIGHT_PRIORITY).write(priorityInFlight.get()).write('\n');
+        writer.write(SHED_HEADER)
+                .write(SHED_DEFAULT).write(shed.sum()).write('\n')
+                .write(SHED_PRIORITY).write(priorityShed.sum()).write('\n');
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!priorityOperations.isEmpty()) {
+            OperationRoutes.Route route = routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request));
+            if (route != null && priorityOperations.contains(route.getOperationId())) {
+                doFilterPriority(request, response, chain);
+                return;
+            }
+        }
+        long start = limit.tryAcquire();
+        if (start < 0) {
+            shed.increment();
+            reject(request, response);
+            return;
+        }
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            // An async request, e.g. an event stream, returns here long before it is done
+            completed = !request.isAsyncStarted();
+        } finally {
+            limit.release(start, completed);
+        }
+    }
+
+    private void doFilterPriority(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (priorityInFlight.incrementAndGet() > priorityLimit) {
+            priorityInFlight.decrementAndGet();
+            priorityShed.increment();
+            reject(request, response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            priorityInFlight.decrementAndGet();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        // Matched only now, so admitted requests in the default lane never pay for it
+        rejection.write(request, response, routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request)));
+    }
+}
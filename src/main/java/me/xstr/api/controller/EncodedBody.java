@@ -0,0 +1,64 @@
+package me.xstr.api.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable, pre-encoded response body with an optional precompressed gzip variant.
+ * <p>
+ * The gzip variant is only built for bodies of at least {@link #MIN_GZIP_LENGTH} bytes, and
+ * only kept if it is actually smaller. Below that the gzip header and trailer outweigh the
+ * savings. Byte arrays are shared between requests and must not be modified.
+ */
+public final class EncodedBody {
+
+    public static final int MIN_GZIP_LENGTH = 1024;
+
+    private final String contentType;
+
+    private final byte[] identity;
+
+    private final byte[] gzip;
+
+    private EncodedBody(String contentType, byte[] identity, byte[] gzip) {
+        this.contentType = contentType;
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    public static EncodedBody of(String contentType, byte[] identity) {
+        return new EncodedBody(contentType, identity, identity.length >= MIN_GZIP_LENGTH ? gzipIfSmaller(identity) : null);
+    }
+
+    public static EncodedBody utf8(String contentType, String text) {
+        return of(contentType, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Gzip variant, or {@code null} if the body is not worth compressing.
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    static byte[] gzipIfSmaller(byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.size() < identity.length ? out.toByteArray() : null;
+    }
+}
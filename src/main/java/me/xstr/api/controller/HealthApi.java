@@ -1,5 +1,5 @@
 /**
- * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.1.0).
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
  * https://openapi-generator.tech
  * Do not edit the class manually.
  */
@@ -18,6 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -30,7 +31,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 @Validated
 @Tag(name = "Health", description = "Health check operations")
 public interface HealthApi {
@@ -53,10 +54,14 @@ public interface HealthApi {
         tags = { "Health" },
         responses = {
             @ApiResponse(responseCode = "200", description = "API is healthy", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = HealthResponse.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = HealthResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = HealthResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = HealthResponse.class))
             }),
             @ApiResponse(responseCode = "503", description = "API is unhealthy", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = ErrorResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = ErrorResponse.class))
             })
         },
         security = {
@@ -66,7 +71,7 @@ public interface HealthApi {
     @RequestMapping(
         method = RequestMethod.GET,
         value = "/health",
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     
     default ResponseEntity<HealthResponse> getHealth(
@@ -75,4 +80,37 @@ public interface HealthApi {
         return getDelegate().getHealth();
     }
 
+
+    /**
+     * GET /health/stream : Stream health status changes
+     * Server-Sent Events stream of the API health, to use instead of polling &#x60;/health&#x60;. A &#x60;health&#x60; event with a &#x60;HealthResponse&#x60; as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     *
+     * @return Stream of health events (status code 200)
+     */
+    @Operation(
+        operationId = "streamHealth",
+        summary = "Stream health status changes",
+        description = "Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. ",
+        tags = { "Health" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Stream of health events", content = {
+                @Content(mediaType = "text/event-stream", schema = @Schema(implementation = String.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "BearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/health/stream",
+        produces = { "text/event-stream" }
+    )
+    
+    default ResponseEntity<String> streamHealth(
+        
+    ) {
+        return getDelegate().streamHealth();
+    }
+
 }
@@ -19,7 +19,7 @@ import jakarta.annotation.Generated;
  * A delegate to be called by the {@link HealthApiController}}.
  * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
  */
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 public interface HealthApiDelegate {
 
     default Optional<NativeWebRequest> getRequest() {
@@ -36,16 +36,30 @@ public interface HealthApiDelegate {
      */
     default ResponseEntity<HealthResponse> getHealth() {
         getRequest().ifPresent(request -> {
-            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
-                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"status\" : \"healthy\", \"timestamp\" : \"2025-05-27T10:30:00Z\", \"version\" : \"0.0.1-alpha\", \"uptime\" : \"2d 5h 30m\" }";
-                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
-                    break;
-                }
+            MediaType mediaType = ApiUtil.negotiate(request, "getHealth", "application/json", "application/cbor", "application/x-jackson-smile");
+            if (mediaType == null) {
+                return;
+            }
+            if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                String exampleString = "{ \"status\" : \"healthy\", \"timestamp\" : \"2025-05-27T10:30:00Z\", \"version\" : \"0.0.1-alpha\", \"uptime\" : \"2d 5h 30m\" }";
+                ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                return;
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
 
     }
 
+    /**
+     * GET /health/stream : Stream health status changes
+     * Server-Sent Events stream of the API health, to use instead of polling &#x60;/health&#x60;. A &#x60;health&#x60; event with a &#x60;HealthResponse&#x60; as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     *
+     * @return Stream of health events (status code 200)
+     * @see HealthApi#streamHealth
+     */
+    default ResponseEntity<String> streamHealth() {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+
+    }
+
 }
@@ -1,56 +0,0 @@
-package me.xstr.api.controller;
-
-import me.xstr.api.model.ErrorResponse;
-import me.xstr.api.model.HealthResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.context.request.NativeWebRequest;
-import org.springframework.web.multipart.MultipartFile;
-
-import jakarta.validation.constraints.*;
-import jakarta.validation.Valid;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import jakarta.annotation.Generated;
-
-/**
- * A delegate to be called by the {@link HealthControllerController}}.
- * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
- */
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
-public interface HealthControllerDelegate {
-
-    default Optional<NativeWebRequest> getRequest() {
-        return Optional.empty();
-    }
-
-    /**
-     * GET /health : Health check endpoint
-     * Returns the health status of the API
-     *
-     * @return API is healthy (status code 200)
-     *         or API is unhealthy (status code 503)
-     * @see HealthController#getHealth
-     */
-    default ResponseEntity<HealthResponse> getHealth() {
-        getRequest().ifPresent(request -> {
-            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
-                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"status\" : \"healthy\", \"timestamp\" : \"2025-05-27T10:30:00Z\", \"version\" : \"0.0.1-alpha\", \"uptime\" : \"2d 5h 30m\" }";
-                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
-                    break;
-                }
-                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"error\" : \"SERVICE_UNAVAILABLE\", \"message\" : \"The service is temporarily unavailable\", \"timestamp\" : \"2025-05-27T10:30:00Z\" }";
-                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
-                    break;
-                }
-            }
-        });
-        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
-
-    }
-
-}
@@ -1,5 +1,5 @@
 /**
- * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.1.0).
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
  * https://openapi-generator.tech
  * Do not edit the class manually.
  */
@@ -17,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -29,7 +30,7 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 @Validated
 @Tag(name = "Info", description = "API information operations")
 public interface InfoApi {
@@ -51,7 +52,9 @@ public interface InfoApi {
         tags = { "Info" },
         responses = {
             @ApiResponse(responseCode = "200", description = "API version information", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = VersionResponse.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = VersionResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = VersionResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = VersionResponse.class))
             })
         },
         security = {
@@ -61,7 +64,7 @@ public interface InfoApi {
     @RequestMapping(
         method = RequestMethod.GET,
         value = "/version",
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     
     default ResponseEntity<VersionResponse> getVersion(
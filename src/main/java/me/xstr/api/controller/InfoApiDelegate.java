@@ -18,7 +18,7 @@ import jakarta.annotation.Generated;
  * A delegate to be called by the {@link InfoApiController}}.
  * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
  */
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 public interface InfoApiDelegate {
 
     default Optional<NativeWebRequest> getRequest() {
@@ -34,12 +34,14 @@ public interface InfoApiDelegate {
      */
     default ResponseEntity<VersionResponse> getVersion() {
         getRequest().ifPresent(request -> {
-            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
-                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"version\" : \"0.0.1-alpha\", \"build\" : \"abc123def\", \"timestamp\" : \"2025-05-27T08:00:00Z\" }";
-                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
-                    break;
-                }
+            MediaType mediaType = ApiUtil.negotiate(request, "getVersion", "application/json", "application/cbor", "application/x-jackson-smile");
+            if (mediaType == null) {
+                return;
+            }
+            if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                String exampleString = "{ \"version\" : \"0.0.1-alpha\", \"build\" : \"abc123def\", \"timestamp\" : \"2025-05-27T08:00:00Z\" }";
+                ApiUtil.setExampleResponse(request, "application/json", exampleString);
+                return;
             }
         });
         return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
@@ -1,49 +0,0 @@
-package me.xstr.api.controller;
-
-import me.xstr.api.model.VersionResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.context.request.NativeWebRequest;
-import org.springframework.web.multipart.MultipartFile;
-
-import jakarta.validation.constraints.*;
-import jakarta.validation.Valid;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import jakarta.annotation.Generated;
-
-/**
- * A delegate to be called by the {@link InfoControllerController}}.
- * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
- */
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
-public interface InfoControllerDelegate {
-
-    default Optional<NativeWebRequest> getRequest() {
-        return Optional.empty();
-    }
-
-    /**
-     * GET /version : Get API version
-     * Returns the current version of the API
-     *
-     * @return API version information (status code 200)
-     * @see InfoController#getVersion
-     */
-    default ResponseEntity<VersionResponse> getVersion() {
-        getRequest().ifPresent(request -> {
-            for (MediaType mediaType: MediaType.parseMediaTypes(request.getHeader("Accept"))) {
-                if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
-                    String exampleString = "{ \"version\" : \"0.0.1-alpha\", \"build\" : \"abc123def\", \"timestamp\" : \"2025-05-27T08:00:00Z\" }";
-                    ApiUtil.setExampleResponse(request, "application/json", exampleString);
-                    break;
-                }
-            }
-        });
-        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
-
-    }
-
-}
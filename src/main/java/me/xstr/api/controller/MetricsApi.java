@@ -5,8 +5,6 @@
  */
 package me.xstr.api.controller;
 
-import me.xstr.api.model.ErrorResponse;
-import me.xstr.api.model.HealthResponse;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,31 +31,27 @@ import jakarta.annotation.Generated;
 
 @Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 @Validated
-@Tag(name = "Health", description = "Health check operations")
-public interface HealthController {
+@Tag(name = "Metrics", description = "Operational metrics")
+public interface MetricsApi {
 
-    default HealthControllerDelegate getDelegate() {
-        return new HealthControllerDelegate() {};
+    default MetricsApiDelegate getDelegate() {
+        return new MetricsApiDelegate() {};
     }
 
     /**
-     * GET /health : Health check endpoint
-     * Returns the health status of the API
+     * GET /metrics : Get operation metrics
+     * Returns request counts by status code, in-flight requests and latency histograms for every operation, in the Prometheus text exposition format (version 0.0.4). 
      *
-     * @return API is healthy (status code 200)
-     *         or API is unhealthy (status code 503)
+     * @return Metrics in Prometheus text format (status code 200)
      */
     @Operation(
-        operationId = "getHealth",
-        summary = "Health check endpoint",
-        description = "Returns the health status of the API",
-        tags = { "Health" },
+        operationId = "getMetrics",
+        summary = "Get operation metrics",
+        description = "Returns request counts by status code, in-flight requests and latency histograms for every operation, in the Prometheus text exposition format (version 0.0.4). ",
+        tags = { "Metrics" },
         responses = {
-            @ApiResponse(responseCode = "200", description = "API is healthy", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = HealthResponse.class))
-            }),
-            @ApiResponse(responseCode = "503", description = "API is unhealthy", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+            @ApiResponse(responseCode = "200", description = "Metrics in Prometheus text format", content = {
+                @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))
             })
         },
         security = {
@@ -66,14 +60,14 @@ public interface HealthController {
     )
     @RequestMapping(
         method = RequestMethod.GET,
-        value = "/health",
-        produces = { "application/json" }
+        value = "/metrics",
+        produces = { "text/plain" }
     )
     
-    default ResponseEntity<HealthResponse> getHealth(
+    default ResponseEntity<String> getMetrics(
         
     ) {
-        return getDelegate().getHealth();
+        return getDelegate().getMetrics();
     }
 
 }
@@ -0,0 +1,45 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link ObjectMapper} per {@link ModelFormat}. The CBOR and Smile mappers are copies of the
+ * application's JSON mapper on another {@link com.fasterxml.jackson.core.JsonFactory}, so they
+ * share its configuration and modules, including the generated model serializers and RFC 3339
+ * dates.
+ */
+public final class ModelCodecs {
+
+    private final Map<ModelFormat, ObjectMapper> mappers = new EnumMap<>(ModelFormat.class);
+
+    public ModelCodecs(ObjectMapper objectMapper) {
+        mappers.put(ModelFormat.JSON, objectMapper);
+        mappers.put(ModelFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(ModelFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    public ObjectMapper getMapper(ModelFormat format) {
+        return mappers.get(format);
+    }
+
+    public byte[] write(ModelFormat format, Object value) throws JsonProcessingException {
+        return mappers.get(format).writeValueAsBytes(value);
+    }
+
+    /**
+     * Encodes {@code value} once in every format.
+     */
+    public NegotiatedBody encode(Object value) throws JsonProcessingException {
+        Map<ModelFormat, EncodedBody> bodies = new EnumMap<>(ModelFormat.class);
+        for (ModelFormat format : ModelFormat.values()) {
+            bodies.put(format, EncodedBody.of(format.getContentType(), write(format, value)));
+        }
+        return new NegotiatedBody(bodies);
+    }
+}
@@ -0,0 +1,53 @@
+package me.xstr.api.controller;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings the API models are served in. JSON is the default; CBOR and Smile carry the same
+ * fields in a binary encoding, for callers that would rather not pay for JSON text.
+ */
+public enum ModelFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+
+    CBOR(MediaType.APPLICATION_CBOR),
+
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    private final String contentType;
+
+    ModelFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+        this.contentType = mediaType.toString();
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * Format to respond in for a negotiated media type: CBOR or Smile when that is what was
+     * negotiated, JSON for anything else, {@code null} included.
+     */
+    public static ModelFormat of(MediaType negotiated) {
+        if (negotiated != null) {
+            if (CBOR.mediaType.equalsTypeAndSubtype(negotiated)) {
+                return CBOR;
+            }
+            if (SMILE.mediaType.equalsTypeAndSubtype(negotiated)) {
+                return SMILE;
+            }
+        }
+        return JSON;
+    }
+}
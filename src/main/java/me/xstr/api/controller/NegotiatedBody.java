@@ -0,0 +1,24 @@
+package me.xstr.api.controller;
+
+import java.util.Map;
+
+/**
+ * Immutable model body pre-encoded in every {@link ModelFormat}, built by
+ * {@link ModelCodecs#encode(Object)}. The variant to write is picked per request from the
+ * negotiated media type.
+ */
+public final class NegotiatedBody {
+
+    private final EncodedBody[] bodies;
+
+    NegotiatedBody(Map<ModelFormat, EncodedBody> bodies) {
+        this.bodies = new EncodedBody[ModelFormat.values().length];
+        for (Map.Entry<ModelFormat, EncodedBody> entry : bodies.entrySet()) {
+            this.bodies[entry.getKey().ordinal()] = entry.getValue();
+        }
+    }
+
+    public EncodedBody get(ModelFormat format) {
+        return bodies[format.ordinal()];
+    }
+}
@@ -0,0 +1,58 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.metrics.OperationMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records count by status, in-flight requests and latency of every API operation in the
+ * {@link MetricsRegistry}. Requests that match no operation are not recorded, so unknown paths
+ * cannot grow the set of series. A request failing with an exception counts as {@code 500}.
+ */
+public class OperationMetricsFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * Early, so the latency covers the other filters and rejected requests are counted too.
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private final OperationRoutes routes;
+
+    private final MetricsRegistry registry;
+
+    public OperationMetricsFilter(OperationRoutes routes, MetricsRegistry registry) {
+        this.routes = routes;
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        OperationRoutes.Route route = routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request));
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        OperationMetrics metrics = registry.forOperation(route.getOperationId());
+        long start = metrics.start();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            metrics.stop(start, status);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps a request's method and path to the API operation that serves it, ahead of the handler
+ * mappings, so filters can work per {@code operationId}.
+ * <p>
+ * Routes are registered from the handler mappings once the context is refreshed. Paths without
+ * variables are matched by a {@link HashMap} lookup; only templated paths parse the request path.
+ */
+public final class OperationRoutes {
+
+    private volatile Table table = new Table(Map.of(), List.of(), List.of(), Map.of());
+
+    /**
+     * Replaces all routes.
+     */
+    public void register(Collection<Route> routes) {
+        Map<String, List<Route>> literal = new HashMap<>();
+        List<Route> patterns = new ArrayList<>();
+        Map<String, List<Route>> byOperation = new HashMap<>();
+        for (Route route : routes) {
+            byOperation.computeIfAbsent(route.operationId, id -> new ArrayList<>()).add(route);
+            if (route.pattern.hasPatternSyntax()) {
+                patterns.add(route);
+            } else {
+                literal.computeIfAbsent(route.pattern.getPatternString(), path -> new ArrayList<>()).add(route);
+            }
+        }
+        literal.replaceAll((path, list) -> List.copyOf(list));
+        byOperation.replaceAll((id, list) -> List.copyOf(list));
+        table = new Table(Map.copyOf(literal), List.copyOf(patterns), List.copyOf(routes), Map.copyOf(byOperation));
+    }
+
+    public List<Route> getRoutes() {
+        return table.all;
+    }
+
+    /**
+     * Route of operation {@code operationId} for {@code method}, or {@code null}.
+     */
+    public Route find(String operationId, String method) {
+        List<Route> candidates = table.byOperation.get(operationId);
+        if (candidates != null) {
+            for (Route route : candidates) {
+                if (route.method.equals(method)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Route of the operation serving {@code method} on {@code path} (within the application),
+     * or {@code null}.
+     */
+    public Route match(String method, String path) {
+        Table current = table;
+        List<Route> candidates = current.literal.get(path);
+        if (candidates != null) {
+            for (Route route : candidates) {
+                if (route.method.equals(method)) {
+                    return route;
+                }
+            }
+        }
+        if (current.patterns.isEmpty()) {
+            return null;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : current.patterns) {
+            if (route.method.equals(method) && route.pattern.matches(container)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Request path without the context path, as matched against the routes.
+     */
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+
+    /**
+     * One method and path pattern of an operation.
+     */
+    public static final class Route {
+
+        private final String operationId;
+
+        private final String method;
+
+        private final PathPattern pattern;
+
+        private final AcceptHeaderNegotiator negotiator;
+
+        private final HandlerMethod handler;
+
+        public Route(String operationId, String method, PathPattern pattern, AcceptHeaderNegotiator negotiator) {
+            this(operationId, method, pattern, negotiator, null);
+        }
+
+        public Route(String operationId, String method, PathPattern pattern, AcceptHeaderNegotiator negotiator,
+                     HandlerMethod handler) {
+            this.operationId = operationId;
+            this.method = method;
+            this.pattern = pattern;
+            this.negotiator = negotiator;
+            this.handler = handler;
+        }
+
+        public String getOperationId() {
+            return operationId;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public PathPattern getPattern() {
+            return pattern;
+        }
+
+        public AcceptHeaderNegotiator getNegotiator() {
+            return negotiator;
+        }
+
+        /**
+         * Controller method with its bean resolved, or {@code null} if the route was registered without one.
+         */
+        public HandlerMethod getHandler() {
+            return handler;
+        }
+    }
+
+    private record Table(Map<String, List<Route>> literal, List<Route> patterns, List<Route> all,
+                         Map<String, List<Route>> byOperation) {
+    }
+}
@@ -0,0 +1,165 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.auth.JwtClaims;
+import me.xstr.api.limit.TokenBucketRateLimiter;
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Limits the request rate of each caller with a {@link TokenBucketRateLimiter}, so one client
+ * polling in a hot loop cannot crowd out the others.
+ * <p>
+ * Callers are told apart by the {@code sub} claim of the bearer token {@link BearerTokenFilter}
+ * verified, or by remote address otherwise. An unverified token is never trusted for the key, so a
+ * client cannot get a fresh bucket by making up a subject for every request.
+ * Operations share one budget per caller unless they have a limiter of their own. Every limited
+ * response carries {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}
+ * (seconds until the bucket is full); a rejected one is a {@code 429} with {@code Retry-After} and
+ * a {@code TOO_MANY_REQUESTS} {@link ErrorResponse} serialized once per second. Requests that
+ * match no operation, resolved through {@link OperationRoutes}, are not limited.
+ */
+public class RateLimitFilter extends OncePerRequestFilter implements Ordered, MetricsCollector {
+
+    /**
+     * Ahead of {@link ConcurrencyLimitFilter}, so a caller over its rate does not take up
+     * concurrency that well-behaved callers could use.
+     */
+    public static final int ORDER = OperationMetricsFilter.ORDER + 5;
+
+    static final String RATE_LIMITED_CODE = "TOO_MANY_REQUESTS";
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final byte[] RATE_LIMITED_HEADER = PrometheusTextWriter.header("xstr_http_requests_rate_limited_total",
+            "counter", "Requests rejected with 429 because the caller exceeded its rate limit, by operation.");
+
+    private static final byte[] RATE_LIMITED = PrometheusTextWriter.ascii("xstr_http_requests_rate_limited_total{");
+
+    private final OperationRoutes routes;
+
+    private final TokenBucketRateLimiter defaultLimiter;
+
+    private final Function<String, TokenBucketRateLimiter> operationLimiters;
+
+    private final CachedErrorBody rejection;
+
+    private final ConcurrentMap<String, OperationLimit> operations = new ConcurrentHashMap<>();
+
+    /**
+     * @param operationLimiters limiter of an operation id, or {@code null} for the shared one
+     */
+    public RateLimitFilter(OperationRoutes routes, TokenBucketRateLimiter defaultLimiter,
+                           Function<String, TokenBucketRateLimiter> operationLimiters, ModelCodecs codecs,
+                           CachedClock clock) {
+        this.routes = routes;
+        this.defaultLimiter = defaultLimiter;
+        this.operationLimiters = operationLimiters;
+        this.rejection = new CachedErrorBody(RATE_LIMITED_CODE, "Rate limit exceeded", codecs, clock);
+    }
+
+    /**
+     * Writes {@code xstr_http_requests_rate_limited_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(RATE_LIMITED_HEADER);
+        for (OperationLimit operation : operations.values()) {
+            writer.write(RATE_LIMITED).write(operation.label).write('}').write(' ')
+                    .write(operation.rejected.sum()).write('\n');
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        OperationRoutes.Route route = routes.match(request.getMethod(), OperationRoutes.pathWithinApplication(request));
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        OperationLimit operation = operation(route.getOperationId());
+        TokenBucketRateLimiter limiter = operation.limiter;
+        long remaining = limiter.tryAcquire(callerKey(request));
+        response.setHeader(LIMIT_HEADER, Long.toString(limiter.getPolicy().burst()));
+        if (remaining < 0) {
+            operation.rejected.increment();
+            String retryAfter = Long.toString(seconds(-remaining));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(REMAINING_HEADER, "0");
+            response.setHeader(RESET_HEADER, retryAfter);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            rejection.write(request, response, route);
+            return;
+        }
+        response.setHeader(REMAINING_HEADER, Long.toString(remaining));
+        response.setHeader(RESET_HEADER, Long.toString(seconds(limiter.resetNanos(remaining))));
+        chain.doFilter(request, response);
+    }
+
+    private OperationLimit operation(String operationId) {
+        OperationLimit operation = operations.get(operationId);
+        if (operation == null) {
+            operation = operations.computeIfAbsent(operationId, id -> {
+                TokenBucketRateLimiter limiter = operationLimiters.apply(id);
+                return new OperationLimit(id, limiter != null ? limiter : defaultLimiter);
+            });
+        }
+        return operation;
+    }
+
+    /**
+     * {@code sub:} and the subject of the claims {@link BearerTokenFilter} verified, or
+     * {@code addr:} and the remote address.
+     */
+    String callerKey(HttpServletRequest request) {
+        if (request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE) instanceof JwtClaims claims && claims.subject() != null) {
+            return "sub:" + claims.subject();
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1L, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static final class OperationLimit {
+
+        final TokenBucketRateLimiter limiter;
+
+        final LongAdder rejected = new LongAdder();
+
+        final byte[] label;
+
+        OperationLimit(String operationId, TokenBucketRateLimiter limiter) {
+            this.limiter = limiter;
+            this.label = PrometheusTextWriter.ascii("operation=" + PrometheusTextWriter.quote(operationId));
+        }
+    }
+}
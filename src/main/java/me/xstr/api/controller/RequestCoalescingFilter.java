@@ -0,0 +1,188 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collapses concurrent identical {@code GET}s of an API operation into one dispatch.
+ * <p>
+ * Requests are identical when they hit the same path of an operation, so the same values of any
+ * path variables, present the same {@code Authorization} header and agree on the negotiated content type, gzip acceptance, query string and
+ * {@code If-None-Match}, i.e. everything the delegates vary their response on. Different callers
+ * therefore never share a response, even for an operation whose delegate ignores the caller. The
+ * first request runs the handler with its response buffered. Requests arriving meanwhile wait for
+ * it, up to {@code maxWait}, and get a copy of its status, headers and body; a request that waits
+ * longer dispatches on its own. Errors without a
+ * body, i.e. left to the container's error page, and exceptions are not shared: followers of such
+ * a leader dispatch on their own. Event streams are never coalesced. Operations are resolved
+ * through {@link OperationRoutes}.
+ */
+public class RequestCoalescingFilter extends OncePerRequestFilter implements Ordered, MetricsCollector {
+
+    /**
+     * Late, so filters that account for or limit each request still see every one of them.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private static final byte[] COALESCED_HEADER = PrometheusTextWriter.header("xstr_http_requests_coalesced_total",
+            "counter", "GET requests answered with the response of a concurrent identical request, by operation.");
+
+    private static final byte[] COALESCED = PrometheusTextWriter.ascii("xstr_http_requests_coalesced_total{");
+
+    private final OperationRoutes routes;
+
+    private final Duration maxWait;
+
+    private final ConcurrentMap<String, OperationFlights> flights = new ConcurrentHashMap<>();
+
+    public RequestCoalescingFilter(OperationRoutes routes, Duration maxWait) {
+        this.routes = routes;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * In-flight calls and counters by operation id, for operations that received a {@code GET}.
+     */
+    public Map<String, SingleFlight<?, ?>> getFlights() {
+        Map<String, SingleFlight<?, ?>> result = new TreeMap<>();
+        flights.forEach((operationId, operationFlights) -> result.put(operationId, operationFlights.calls));
+        return result;
+    }
+
+    /**
+     * Writes {@code xstr_http_requests_coalesced_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(COALESCED_HEADER);
+        for (OperationFlights operationFlights : flights.values()) {
+            writer.write(COALESCED).write(operationFlights.label).write('}').write(' ')
+                    .write(operationFlights.calls.getCoalesced()).write('\n');
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = "GET".equals(request.getMethod()) ? OperationRoutes.pathWithinApplication(request) : null;
+        OperationRoutes.Route route = path != null ? routes.match("GET", path) : null;
+        MediaType mediaType = route != null ? route.getNegotiator().negotiate(request.getHeader(HttpHeaders.ACCEPT)) : null;
+        if (mediaType == null || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(mediaType)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Key key = new Key(path, request.getHeader(HttpHeaders.AUTHORIZATION), mediaType,
+                ResponseBodyWriter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)),
+                request.getQueryString(), request.getHeader(HttpHeaders.IF_NONE_MATCH));
+        ContentCachingResponseWrapper[] led = new ContentCachingResponseWrapper[1];
+        Captured captured;
+        try {
+            captured = flights(route.getOperationId()).execute(key, () -> {
+                led[0] = new ContentCachingResponseWrapper(response);
+                return dispatch(request, led[0], chain);
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (led[0] != null) {
+                throw e;
+            }
+            // The leader failed; this request gets its own attempt
+            chain.doFilter(request, response);
+            return;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+        if (led[0] != null) {
+            led[0].copyBodyToResponse();
+        } else if (captured.shareable()) {
+            captured.writeTo(response);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private SingleFlight<Key, Captured> flights(String operationId) {
+        OperationFlights operationFlights = flights.get(operationId);
+        if (operationFlights == null) {
+            operationFlights = flights.computeIfAbsent(operationId, id -> new OperationFlights(id, maxWait));
+        }
+        return operationFlights.calls;
+    }
+
+    private static Captured dispatch(HttpServletRequest request, ContentCachingResponseWrapper response, FilterChain chain)
+            throws ServletException, IOException {
+        Set<String> before = new HashSet<>(response.getHeaderNames());
+        chain.doFilter(request, response);
+        List<String[]> headers = new ArrayList<>();
+        for (String name : response.getHeaderNames()) {
+            if (before.contains(name) || name.equalsIgnoreCase(HttpHeaders.CONTENT_TYPE)
+                    || name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+                continue;
+            }
+            for (String value : response.getHeaders(name)) {
+                headers.add(new String[] {name, value});
+            }
+        }
+        return new Captured(response.getStatus(), response.getContentType(), headers, response.getContentAsByteArray());
+    }
+
+    private static final class OperationFlights {
+
+        final SingleFlight<Key, Captured> calls;
+
+        final byte[] label;
+
+        OperationFlights(String operationId, Duration maxWait) {
+            this.calls = new SingleFlight<>(maxWait);
+            this.label = PrometheusTextWriter.ascii("operation=" + PrometheusTextWriter.quote(operationId));
+        }
+    }
+
+    private record Key(String path, String authorization, MediaType mediaType, boolean gzip, String query,
+                       String ifNoneMatch) {
+    }
+
+    private record Captured(int status, String contentType, List<String[]> headers, byte[] body) {
+
+        boolean shareable() {
+            return status < 400 || body.length > 0;
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            for (String[] header : headers) {
+                response.addHeader(header[0], header[1]);
+            }
+            if (contentType != null) {
+                ResponseBodyWriter.write(response, contentType, body);
+            } else if (body.length > 0) {
+                response.setContentLength(body.length);
+                response.getOutputStream().write(body);
+            }
+        }
+    }
+}
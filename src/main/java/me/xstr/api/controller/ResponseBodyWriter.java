@@ -0,0 +1,123 @@
+package me.xstr.api.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes pre-encoded bodies to the servlet response in a single call, with
+ * {@code Content-Length} set up front so the container never falls back to chunked encoding
+ * and never runs a {@code Writer} charset encoder.
+ */
+public final class ResponseBodyWriter {
+
+    private static final int COPY_CHUNK = 8192;
+
+    private ResponseBodyWriter() {
+    }
+
+    /**
+     * Writes {@code body}, picking the gzip variant when there is one and the request's
+     * {@code Accept-Encoding} allows it.
+     */
+    public static void write(NativeWebRequest request, EncodedBody body) {
+        HttpServletResponse res = request.getNativeResponse(HttpServletResponse.class);
+        byte[] gzip = body.getGzip();
+        if (gzip != null) {
+            res.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                res.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                write(res, body.getContentType(), gzip);
+                return;
+            }
+        }
+        write(res, body.getContentType(), body.getIdentity());
+    }
+
+    /**
+     * Writes the {@code format} variant of {@code body}, marking the response as varying with
+     * {@code Accept}.
+     */
+    public static void write(NativeWebRequest request, NegotiatedBody body, ModelFormat format) {
+        request.getNativeResponse(HttpServletResponse.class).addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        write(request, body.get(format));
+    }
+
+    public static void write(HttpServletResponse res, String contentType, byte[] body) {
+        res.setContentType(contentType);
+        res.setContentLength(body.length);
+        try {
+            res.getOutputStream().write(body);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of {@code body} without changing its position.
+     */
+    public static void write(HttpServletResponse res, String contentType, ByteBuffer body) {
+        ByteBuffer src = body.duplicate();
+        res.setContentType(contentType);
+        res.setContentLength(src.remaining());
+        try {
+            ServletOutputStream out = res.getOutputStream();
+            if (src.hasArray()) {
+                out.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+                return;
+            }
+            byte[] chunk = new byte[Math.min(COPY_CHUNK, src.remaining())];
+            while (src.hasRemaining()) {
+                int n = Math.min(chunk.length, src.remaining());
+                src.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header admits {@code gzip} (explicitly or through
+     * {@code *}) with a non-zero quality.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        int len = acceptEncoding.length();
+        int start = 0;
+        while (start < len) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = len;
+            }
+            int semicolon = acceptEncoding.indexOf(';', start);
+            int tokenEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            String coding = acceptEncoding.substring(start, tokenEnd).trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                return tokenEnd == end || !isZeroQuality(acceptEncoding.substring(tokenEnd + 1, end));
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            String p = param.trim();
+            if (p.startsWith("q=") || p.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(p.substring(2).trim()) == 0.0d;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
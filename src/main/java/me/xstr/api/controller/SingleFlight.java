@@ -0,0 +1,96 @@
+package me.xstr.api.controller;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent calls with the same key into one execution whose result is shared.
+ * <p>
+ * The first caller for a key (the leader) runs the work; callers arriving while it runs wait for
+ * its result instead of running the work again, for at most {@code maxWait}. A caller whose wait
+ * runs out runs the work itself, so a hung leader cannot hold every follower hostage. Nothing is
+ * cached afterwards: once the leader finishes, the next call runs the work again. Finding or
+ * publishing an in-flight call is a {@link ConcurrentHashMap} read or CAS, so uncontended calls
+ * never lock.
+ */
+public final class SingleFlight<K, V> {
+
+    private final long maxWaitNanos;
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Runs {@code work}, or waits for the identical call already in flight and runs {@code work}
+     * itself if that call has not finished within {@code maxWait}.
+     *
+     * @throws Exception what {@code work} threw, for the leader and for every caller that joined it
+     */
+    public V execute(K key, Callable<V> work) throws Exception {
+        CompletableFuture<V> running = inFlight.get(key);
+        if (running == null) {
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, flight);
+            if (running == null) {
+                return lead(key, flight, work);
+            }
+        }
+        coalesced.increment();
+        try {
+            return running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            // Did not share after all; run alone, without becoming the leader for later callers
+            coalesced.decrement();
+            executed.increment();
+            return work.call();
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> flight, Callable<V> work) throws Exception {
+        executed.increment();
+        try {
+            V value = work.call();
+            flight.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Calls that ran the work.
+     */
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * Calls that shared the result of a call already in flight. Callers that gave up waiting are
+     * counted as executed instead.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+}
@@ -0,0 +1,97 @@
+package me.xstr.api.controller;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Immutable static resource held outside the heap, with an optional precompressed gzip variant
+ * and a strong ETag per variant.
+ * <p>
+ * A resource that is a plain file (exploded classpath, {@code target/classes}) is memory-mapped;
+ * one inside a jar is copied once into a direct buffer. Either way its bytes stay off the heap
+ * and out of the young generation. The gzip variant follows the same rules as
+ * {@link EncodedBody}. Buffers are shared between requests and must only be read through
+ * {@link ByteBuffer#duplicate()}.
+ */
+public final class StaticAsset {
+
+    private final String contentType;
+
+    private final ByteBuffer identity;
+
+    private final ByteBuffer gzip;
+
+    private final String eTag;
+
+    private final String gzipETag;
+
+    private StaticAsset(String contentType, ByteBuffer identity, byte[] bytes) {
+        this.contentType = contentType;
+        this.identity = identity;
+        String digest = DigestUtils.md5DigestAsHex(bytes);
+        byte[] gzipped = bytes.length >= EncodedBody.MIN_GZIP_LENGTH ? EncodedBody.gzipIfSmaller(bytes) : null;
+        this.gzip = gzipped != null ? ByteBuffer.allocateDirect(gzipped.length).put(gzipped).flip() : null;
+        this.eTag = "\"" + digest + "\"";
+        this.gzipETag = "\"" + digest + "-gzip\"";
+    }
+
+    /**
+     * Loads {@code resource}, memory-mapping it when it is a file.
+     */
+    public static StaticAsset load(Resource resource, String contentType) {
+        try {
+            if (resource.isFile()) {
+                try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+                    ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    byte[] bytes = new byte[mapped.remaining()];
+                    mapped.duplicate().get(bytes);
+                    return new StaticAsset(contentType, mapped, bytes);
+                }
+            }
+            try (var in = resource.getInputStream()) {
+                return of(contentType, in.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load " + resource, e);
+        }
+    }
+
+    public static StaticAsset of(String contentType, byte[] bytes) {
+        return new StaticAsset(contentType, ByteBuffer.allocateDirect(bytes.length).put(bytes).flip(), bytes);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public ByteBuffer getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Gzip variant, or {@code null} if the asset is not worth compressing.
+     */
+    public ByteBuffer getGzip() {
+        return gzip;
+    }
+
+    /**
+     * Strong, quoted ETag of the identity variant.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Strong, quoted ETag of the gzip variant, distinct from {@link #getETag()} because the bytes differ.
+     */
+    public String getGzipETag() {
+        return gzipETag;
+    }
+}
@@ -0,0 +1,108 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Serves the OpenAPI document shipped in the build ({@code openapi.yaml}) and the prebuilt
+ * {@code docs/api-docs.html} as {@link StaticAsset}s, in place of springdoc's runtime-generated
+ * {@code /v3/api-docs}. The JSON variant is converted from the YAML once at startup.
+ * <p>
+ * Enabled by {@code xstr.docs.static.enabled=true}, which the {@code static-docs} profile sets
+ * together with turning springdoc off.
+ */
+@RestController
+@ConditionalOnProperty(name = "xstr.docs.static.enabled", havingValue = "true")
+public class StaticDocsController {
+
+    public static final String DOCS_PATH = "/api-docs.html";
+
+    static final String SPEC_RESOURCE = "openapi.yaml";
+
+    static final String DOCS_RESOURCE = "docs/api-docs.html";
+
+    private final StaticAsset yaml;
+
+    private final StaticAsset json;
+
+    private final StaticAsset docs;
+
+    private final String cacheControl;
+
+    public StaticDocsController(@Value("${xstr.docs.cache-max-age:7d}") Duration cacheMaxAge) {
+        this.yaml = StaticAsset.load(new ClassPathResource(SPEC_RESOURCE), "application/yaml");
+        this.json = StaticAsset.of(MediaType.APPLICATION_JSON_VALUE, toJson(yaml.getIdentity()));
+        this.docs = StaticAsset.load(new ClassPathResource(DOCS_RESOURCE), MediaType.TEXT_HTML_VALUE + ";charset=UTF-8");
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().getHeaderValue();
+    }
+
+    @GetMapping("/v3/api-docs")
+    public void getSpecJson(HttpServletRequest request, HttpServletResponse response) {
+        serve(request, response, json);
+    }
+
+    @GetMapping("/v3/api-docs.yaml")
+    public void getSpecYaml(HttpServletRequest request, HttpServletResponse response) {
+        serve(request, response, yaml);
+    }
+
+    @GetMapping(DOCS_PATH)
+    public void getDocs(HttpServletRequest request, HttpServletResponse response) {
+        serve(request, response, docs);
+    }
+
+    /**
+     * Writes the gzip variant when there is one and the request accepts it, the identity variant
+     * otherwise, or {@code 304 Not Modified} when {@code If-None-Match} matches the chosen variant.
+     */
+    void serve(HttpServletRequest request, HttpServletResponse response, StaticAsset asset) {
+        ByteBuffer body = asset.getIdentity();
+        String eTag = asset.getETag();
+        boolean gzip = false;
+        if (asset.getGzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (ResponseBodyWriter.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                body = asset.getGzip();
+                eTag = asset.getGzipETag();
+                gzip = true;
+            }
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        ResponseBodyWriter.write(response, asset.getContentType(), body);
+    }
+
+    private static byte[] toJson(ByteBuffer yaml) {
+        byte[] bytes = new byte[yaml.remaining()];
+        yaml.duplicate().get(bytes);
+        try {
+            JsonNode spec = new YAMLMapper().readTree(bytes);
+            return new ObjectMapper().writeValueAsBytes(spec);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to convert " + SPEC_RESOURCE + " to JSON", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package me.xstr.api.health;
+
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+
+/**
+ * Down when the file system holding {@code path} has less than {@code minFree} usable space.
+ */
+public class DiskSpaceHealthContributor implements HealthContributor {
+
+    private final File path;
+
+    private final DataSize minFree;
+
+    public DiskSpaceHealthContributor(File path, DataSize minFree) {
+        this.path = path;
+        this.minFree = minFree;
+    }
+
+    @Override
+    public String getName() {
+        return "disk";
+    }
+
+    @Override
+    public HealthCheckResult check() {
+        long usable = path.getUsableSpace();
+        String detail = DataSize.ofBytes(usable).toMegabytes() + "MB free at " + path.getAbsolutePath();
+        return usable >= minFree.toBytes() ? HealthCheckResult.up(detail) : HealthCheckResult.down(detail);
+    }
+}
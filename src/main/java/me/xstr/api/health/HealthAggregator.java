@@ -0,0 +1,185 @@
+package me.xstr.api.health;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs {@link HealthContributor}s in parallel and aggregates their results.
+ * <p>
+ * Each check has its own deadline: a caller waits at most that long for it and then records it as
+ * down, so one slow check cannot hold up the others. Each result is cached for the check's TTL,
+ * and while a check is running every caller joins that one run instead of starting another, so a
+ * burst of probes never runs a check more than once at a time. A check that overruns its deadline
+ * is interrupted and reported as timed out without caching anything. It keeps being reported as
+ * timed out, and is not started again, until the interrupted run has actually returned, so a
+ * contributor that ignores interrupts is never run concurrently with itself.
+ */
+public final class HealthAggregator {
+
+    private final Executor executor;
+
+    private final List<Check> checks;
+
+    public HealthAggregator(Executor executor, List<Check> checks) {
+        this.executor = executor;
+        this.checks = List.copyOf(checks);
+    }
+
+    public List<Check> getChecks() {
+        return checks;
+    }
+
+    /**
+     * Results of all checks by name, in registration order. Blocks for at most the longest check
+     * timeout.
+     */
+    public Map<String, HealthCheckResult> evaluate() {
+        long now = System.nanoTime();
+        List<CompletableFuture<HealthCheckResult>> pending = new ArrayList<>(checks.size());
+        for (Check check : checks) {
+            pending.add(check.result(now, executor));
+        }
+        Map<String, HealthCheckResult> results = new LinkedHashMap<>();
+        for (int i = 0; i < checks.size(); i++) {
+            results.put(checks.get(i).getName(), pending.get(i).join());
+        }
+        return results;
+    }
+
+    /**
+     * A contributor with its deadline and TTL, plus its cached result and in-flight run.
+     */
+    public static final class Check {
+
+        private static final int QUEUED = 0;
+
+        private static final int RUNNING = 1;
+
+        private static final int ABANDONED = 2;
+
+        private final HealthContributor contributor;
+
+        private final Duration timeout;
+
+        private final Duration ttl;
+
+        private final HealthCheckResult timedOut;
+
+        private final AtomicReference<CompletableFuture<HealthCheckResult>> running = new AtomicReference<>();
+
+        private volatile Cached cached;
+
+        public Check(HealthContributor contributor, Duration timeout, Duration ttl) {
+            this.contributor = contributor;
+            this.timeout = timeout;
+            this.ttl = ttl;
+            this.timedOut = HealthCheckResult.down("timed out after " + timeout.toMillis() + " ms");
+        }
+
+        public String getName() {
+            return contributor.getName();
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        CompletableFuture<HealthCheckResult> result(long now, Executor executor) {
+            Cached c = cached;
+            if (c != null && now - c.expiresAt < 0) {
+                return c.future;
+            }
+            CompletableFuture<HealthCheckResult> run = running.get();
+            while (run == null) {
+                CompletableFuture<HealthCheckResult> started = new CompletableFuture<>();
+                if (running.compareAndSet(null, started)) {
+                    run = started;
+                    AtomicInteger state = new AtomicInteger(QUEUED);
+                    FutureTask<Void> task = new FutureTask<>(() -> run(started, state), null);
+                    try {
+                        executor.execute(task);
+                        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                                .execute(() -> abandon(started, state, task));
+                    } catch (RejectedExecutionException e) {
+                        finish(started, HealthCheckResult.down("rejected: " + e.getMessage()));
+                    }
+                } else {
+                    run = running.get();
+                }
+            }
+            // Copy, so the deadline applies to this caller only and not to the shared run
+            return run.copy().completeOnTimeout(timedOut, timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private void run(CompletableFuture<HealthCheckResult> started, AtomicInteger state) {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                // Abandoned before it started, which already freed the run
+                return;
+            }
+            HealthCheckResult result = HealthCheckResult.down("check failed");
+            try {
+                result = contributor.check();
+                if (result == null) {
+                    result = HealthCheckResult.down("no result");
+                }
+            } catch (Exception e) {
+                result = HealthCheckResult.down(e.toString());
+            } finally {
+                finish(started, result);
+            }
+        }
+
+        private void finish(CompletableFuture<HealthCheckResult> started, HealthCheckResult result) {
+            if (started.isDone()) {
+                // Abandoned at its deadline; only now may the next evaluation start another run
+                running.compareAndSet(started, null);
+                return;
+            }
+            // Publish the cache before clearing the run, so callers in between see one or the other
+            cached = new Cached(CompletableFuture.completedFuture(result), System.nanoTime() + ttl.toNanos());
+            running.compareAndSet(started, null);
+            started.complete(result);
+        }
+
+        /**
+         * Reports a run that overran its deadline as timed out and interrupts it. The run stays in
+         * {@code running}, answering every caller with the timed-out result, until it returns.
+         */
+        private void abandon(CompletableFuture<HealthCheckResult> started, AtomicInteger state, Future<?> task) {
+            if (!started.complete(timedOut)) {
+                return;
+            }
+            if (state.compareAndSet(QUEUED, ABANDONED)) {
+                running.compareAndSet(started, null);
+            }
+            task.cancel(true);
+        }
+    }
+
+    private static final class Cached {
+
+        final CompletableFuture<HealthCheckResult> future;
+
+        final long expiresAt;
+
+        Cached(CompletableFuture<HealthCheckResult> future, long expiresAt) {
+            this.future = future;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
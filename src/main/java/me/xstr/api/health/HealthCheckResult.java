@@ -0,0 +1,55 @@
+package me.xstr.api.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable outcome of one {@link HealthContributor#check()}.
+ */
+public final class HealthCheckResult {
+
+    private final boolean up;
+
+    private final String detail;
+
+    private HealthCheckResult(boolean up, String detail) {
+        this.up = up;
+        this.detail = detail;
+    }
+
+    public static HealthCheckResult up(String detail) {
+        return new HealthCheckResult(true, detail);
+    }
+
+    public static HealthCheckResult down(String detail) {
+        return new HealthCheckResult(false, detail);
+    }
+
+    public boolean isUp() {
+        return up;
+    }
+
+    /**
+     * Human-readable detail, may be {@code null}.
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    /**
+     * JSON-friendly form used in the {@code 503} error details.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>(4);
+        map.put("status", up ? "up" : "down");
+        if (detail != null) {
+            map.put("detail", detail);
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return (up ? "up" : "down") + (detail != null ? " (" + detail + ")" : "");
+    }
+}
@@ -0,0 +1,24 @@
+package me.xstr.api.health;
+
+/**
+ * One health check aggregated into {@code GET /health}.
+ * <p>
+ * Every {@code HealthContributor} bean is picked up by {@link HealthAggregator}, which runs the
+ * checks in parallel, bounds each by its own timeout and reuses each result for its own TTL
+ * ({@code xstr.health.checks.<name>.timeout} / {@code .ttl}, falling back to
+ * {@code xstr.health.check-timeout} / {@code xstr.health.check-ttl}). Implementations may block,
+ * but are never called concurrently with themselves: a call that overruns its timeout is
+ * interrupted, and the check is reported as timed out until that call returns.
+ */
+public interface HealthContributor {
+
+    /**
+     * Short, stable name used in the error details and in property keys.
+     */
+    String getName();
+
+    /**
+     * Runs the check. A thrown exception counts as {@link HealthCheckResult#down(String) down}.
+     */
+    HealthCheckResult check() throws Exception;
+}
@@ -0,0 +1,47 @@
+package me.xstr.api.health;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Down when the heap still in use after the last garbage collection exceeds {@code maxUsage}
+ * (0..1) of the maximum heap. Usage after collection ignores garbage that is merely waiting to be
+ * collected, so a full young generation does not flap the check.
+ */
+public class HeapHealthContributor implements HealthContributor {
+
+    private final double maxUsage;
+
+    private final List<MemoryPoolMXBean> heapPools;
+
+    public HeapHealthContributor(double maxUsage) {
+        this.maxUsage = maxUsage;
+        this.heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    @Override
+    public String getName() {
+        return "heap";
+    }
+
+    @Override
+    public HealthCheckResult check() {
+        long max = Runtime.getRuntime().maxMemory();
+        long used = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null) {
+                used += afterGc.getUsed();
+            }
+        }
+        double usage = (double) used / max;
+        String detail = String.format(Locale.ROOT, "%.1f%% of %dMB used after last GC", usage * 100, max >> 20);
+        return usage <= maxUsage ? HealthCheckResult.up(detail) : HealthCheckResult.down(detail);
+    }
+}
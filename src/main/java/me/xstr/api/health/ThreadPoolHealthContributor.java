@@ -0,0 +1,51 @@
+package me.xstr.api.health;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Down when every thread of a pool is busy and more than {@code maxQueued} tasks are waiting.
+ * Executors that are not thread pools, e.g. virtual-thread executors, are always up.
+ */
+public class ThreadPoolHealthContributor implements HealthContributor {
+
+    private final String name;
+
+    private final Executor executor;
+
+    private final int maxQueued;
+
+    public ThreadPoolHealthContributor(String name, Executor executor, int maxQueued) {
+        this.name = name;
+        this.executor = executor;
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public HealthCheckResult check() {
+        ThreadPoolExecutor pool = threadPool(executor);
+        if (pool == null) {
+            return HealthCheckResult.up("not a bounded thread pool");
+        }
+        // Threads beyond the core size are only started once the queue is full
+        int maxThreads = pool.getQueue().remainingCapacity() > 0 ? pool.getCorePoolSize() : pool.getMaximumPoolSize();
+        int active = pool.getActiveCount();
+        int queued = pool.getQueue().size();
+        String detail = active + "/" + maxThreads + " threads active, " + queued + " queued";
+        return active >= maxThreads && queued > maxQueued ? HealthCheckResult.down(detail) : HealthCheckResult.up(detail);
+    }
+
+    private static ThreadPoolExecutor threadPool(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+            return taskExecutor.getThreadPoolExecutor();
+        }
+        return executor instanceof ThreadPoolExecutor pool ? pool : null;
+    }
+}
@@ -0,0 +1,164 @@
+package me.xstr.api.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit learned from latency, after the gradient algorithm of Netflix's
+ * concurrency-limits.
+ * <p>
+ * Requests are admitted while fewer than {@link #getLimit()} are in flight. Completed requests
+ * report their latency; every {@code window} the average of the window (short RTT) is compared
+ * with an exponential moving average over the last few hundred windows (long RTT). While the short RTT stays within
+ * {@code rttTolerance} of the long one the limit grows by a fraction of its square root per
+ * window; as requests start to queue the short RTT rises and the limit shrinks, smoothed so no
+ * single window cuts it by more than a tenth.
+ * The limit only grows while at least half of it is in use, so an idle service does not talk
+ * itself into an unbounded limit.
+ * <p>
+ * Admission is a single CAS on the in-flight counter. Samples are accumulated in atomics and the
+ * limit is recomputed by whichever completing request first sees the window elapsed.
+ */
+public final class GradientConcurrencyLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private static final int LONG_WINDOW = 600;
+
+    private static final int LONG_WARMUP = 10;
+
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double rttTolerance;
+
+    private final long windowNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong windowRttSum = new AtomicLong();
+
+    private final AtomicInteger windowSamples = new AtomicInteger();
+
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+
+    private volatile long windowStart;
+
+    // Guarded by updateLock
+    private double estimatedLimit;
+
+    private double longRtt;
+
+    private long longRttSamples;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, long windowNanos) {
+        this(initialLimit, minLimit, maxLimit, rttTolerance, windowNanos, System::nanoTime);
+    }
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, long windowNanos,
+                             LongSupplier nanoTime) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min <= initial <= max, got min=" + minLimit
+                    + ", initial=" + initialLimit + ", max=" + maxLimit);
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("rttTolerance must be at least 1.0, got " + rttTolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.windowNanos = windowNanos;
+        this.nanoTime = nanoTime;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStart = nanoTime.getAsLong();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Admits one request if fewer than the limit are in flight.
+     *
+     * @return the start time to pass to {@link #release}, or {@code -1} if the request is rejected
+     */
+    public long tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+        return nanoTime.getAsLong();
+    }
+
+    /**
+     * Ends a request admitted by {@link #tryAcquire()}.
+     *
+     * @param sample whether its latency says something about load; failures that ended early
+     *               should not pull the limit up
+     */
+    public void release(long start, boolean sample) {
+        inFlight.decrementAndGet();
+        if (!sample) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        windowRttSum.addAndGet(Math.max(1L, now - start));
+        int samples = windowSamples.incrementAndGet();
+        if (samples >= MIN_WINDOW_SAMPLES && now - windowStart >= windowNanos && updateLock.tryLock()) {
+            try {
+                if (now - windowStart >= windowNanos) {
+                    update(now);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void update(long now) {
+        int samples = windowSamples.getAndSet(0);
+        long rttSum = windowRttSum.getAndSet(0);
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        windowStart = now;
+        if (samples == 0) {
+            return;
+        }
+        double shortRtt = (double) rttSum / samples;
+        // Plain average over the first windows, then exponential over about LONG_WINDOW of them
+        longRttSamples++;
+        double factor = longRttSamples <= LONG_WARMUP ? 1.0 / longRttSamples : 2.0 / (LONG_WINDOW + 1);
+        longRtt += (shortRtt - longRtt) * factor;
+        // After a sustained rise the long RTT lags far behind; let it catch up with the recovery
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        double next = estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,24 @@
+package me.xstr.api.limit;
+
+import java.time.Duration;
+
+/**
+ * {@code permits} requests per {@code period} for each caller, of which up to {@code burst} can be
+ * spent at once.
+ */
+public record RateLimitPolicy(long permits, Duration period, long burst) {
+
+    public RateLimitPolicy {
+        if (permits < 1 || burst < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Expected positive permits, period and burst, got " + permits
+                    + " per " + period + ", burst " + burst);
+        }
+    }
+
+    /**
+     * Time it takes to earn one permit back.
+     */
+    long intervalNanos() {
+        return Math.max(1L, period.toNanos() / permits);
+    }
+}
@@ -0,0 +1,134 @@
+package me.xstr.api.limit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per caller key, without locks and in a fixed amount of memory.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again,
+ * the generic cell rate algorithm's "theoretical arrival time": taking a permit moves it one
+ * interval into the future with a CAS, and a request is rejected if that would put it more than
+ * a burst ahead of now. Refilling needs no timer or bookkeeping.
+ * <p>
+ * Buckets live in a table of {@code maxKeys} slots split into sets of {@value #WAYS}; a key can
+ * only occupy the set its hash points to. A new key takes a free slot of its set or else evicts
+ * the bucket that is closest to full. A bucket that is already full is indistinguishable from a
+ * new one, so evicting it loses nothing; only when a set is crowded with busy callers does one of
+ * them get a fresh burst. Memory stays the same whether there are a hundred callers or millions.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final int WAYS = 4;
+
+    private final RateLimitPolicy policy;
+
+    private final long interval;
+
+    private final long tolerance;
+
+    private final AtomicReferenceArray<Bucket> slots;
+
+    private final int setMask;
+
+    private final int seed = ThreadLocalRandom.current().nextInt();
+
+    private final LongSupplier nanoTime;
+
+    public TokenBucketRateLimiter(RateLimitPolicy policy, int maxKeys) {
+        this(policy, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(RateLimitPolicy policy, int maxKeys, LongSupplier nanoTime) {
+        this.policy = policy;
+        this.interval = policy.intervalNanos();
+        this.tolerance = interval * (policy.burst() - 1);
+        int minSets = (maxKeys + WAYS - 1) / WAYS;
+        int sets = minSets <= 1 ? 1 : Integer.highestOneBit(minSets - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.nanoTime = nanoTime;
+    }
+
+    public RateLimitPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Takes one permit from the bucket of {@code key}.
+     *
+     * @return the permits left if one was taken, or else the negated nanoseconds until the next
+     *         one is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoTime.getAsLong();
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long ahead = start - now;
+            if (ahead > tolerance) {
+                return -(ahead - tolerance);
+            }
+            if (bucket.compareAndSet(arrival, start + interval)) {
+                return policy.burst() - 1 - ahead / interval - (ahead % interval == 0 ? 0 : 1);
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds until a bucket with {@code remaining} permits left is full again.
+     */
+    public long resetNanos(long remaining) {
+        return (policy.burst() - remaining) * interval;
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        int hash = key.hashCode() ^ seed;
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        hash ^= hash >>> 16;
+        int base = (hash & setMask) * WAYS;
+        while (true) {
+            int victim = -1;
+            long victimArrival = 0;
+            Bucket evicted = null;
+            for (int i = base; i < base + WAYS; i++) {
+                Bucket bucket = slots.get(i);
+                if (bucket == null) {
+                    if (victim < 0 || evicted != null) {
+                        victim = i;
+                        evicted = null;
+                    }
+                    continue;
+                }
+                if (bucket.key.equals(key)) {
+                    return bucket;
+                }
+                long arrival = bucket.get();
+                if (victim < 0 || (evicted != null && arrival - victimArrival < 0)) {
+                    victim = i;
+                    victimArrival = arrival;
+                    evicted = bucket;
+                }
+            }
+            Bucket created = new Bucket(key, now);
+            if (slots.compareAndSet(victim, evicted, created)) {
+                return created;
+            }
+            // Lost the slot to a concurrent insert, possibly of the same key; look again
+        }
+    }
+
+    private static final class Bucket extends AtomicLong {
+
+        final String key;
+
+        Bucket(String key, long arrival) {
+            super(arrival);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package me.xstr.api.metrics;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram on {@link LongAdder}s: recording finds the bucket in a short
+ * array of bounds and increments a striped counter, without locks or allocation. Bucket counts
+ * are kept per bucket and only made cumulative when written out.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Upper bounds in nanoseconds: 0.5 ms to 10 s.
+     */
+    static final long[] BOUNDS = {
+            500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L, 5_000_000_000L,
+            10_000_000_000L};
+
+    private static final byte[][] LE = new byte[BOUNDS.length + 1][];
+
+    static {
+        for (int i = 0; i < BOUNDS.length; i++) {
+            LE[i] = PrometheusTextWriter.ascii(",le=\"" + BigDecimal.valueOf(BOUNDS[i], 9).stripTrailingZeros().toPlainString() + "\"} ");
+        }
+        LE[BOUNDS.length] = PrometheusTextWriter.ascii(",le=\"+Inf\"} ");
+    }
+
+    private static final byte[] BUCKET = PrometheusTextWriter.ascii("_bucket{");
+
+    private static final byte[] SUM = PrometheusTextWriter.ascii("_sum{");
+
+    private static final byte[] COUNT = PrometheusTextWriter.ascii("_count{");
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS.length + 1];
+
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < BOUNDS.length && nanos > BOUNDS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sumNanos.add(nanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Writes the {@code _bucket}, {@code _sum} and {@code _count} samples of one labelled series.
+     *
+     * @param name   metric family name
+     * @param labels label pairs without braces, e.g. {@code operation="getHealth"}
+     */
+    void writeTo(PrometheusTextWriter writer, byte[] name, byte[] labels) throws IOException {
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            writer.write(name).write(BUCKET).write(labels).write(LE[i]).write(cumulative).write('\n');
+        }
+        writer.write(name).write(SUM).write(labels).write('}').write(' ').seconds(sumNanos.sum()).write('\n');
+        writer.write(name).write(COUNT).write(labels).write('}').write(' ').write(cumulative).write('\n');
+    }
+}
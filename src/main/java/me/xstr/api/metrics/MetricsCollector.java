@@ -0,0 +1,15 @@
+package me.xstr.api.metrics;
+
+import java.io.IOException;
+
+/**
+ * Additional metric families appended to every scrape, see {@link MetricsRegistry#register}.
+ */
+@FunctionalInterface
+public interface MetricsCollector {
+
+    /**
+     * Writes complete metric families, including their {@code # HELP} and {@code # TYPE} lines.
+     */
+    void collect(PrometheusTextWriter writer) throws IOException;
+}
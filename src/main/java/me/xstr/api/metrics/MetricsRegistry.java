@@ -0,0 +1,107 @@
+package me.xstr.api.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation {@link OperationMetrics} and the Prometheus text rendering of all of them.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * Content type of the text exposition format written by {@link #writeTo}.
+     */
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final byte[] REQUESTS = PrometheusTextWriter.ascii("xstr_http_requests_total");
+
+    private static final byte[] IN_FLIGHT = PrometheusTextWriter.ascii("xstr_http_requests_in_flight");
+
+    private static final byte[] DURATION = PrometheusTextWriter.ascii("xstr_http_request_duration_seconds");
+
+    private static final byte[] REQUESTS_HEADER = PrometheusTextWriter.header("xstr_http_requests_total", "counter",
+            "Finished requests by operation and status code.");
+
+    private static final byte[] IN_FLIGHT_HEADER = PrometheusTextWriter.header("xstr_http_requests_in_flight", "gauge",
+            "Requests currently being served, by operation.");
+
+    private static final byte[] DURATION_HEADER = PrometheusTextWriter.header("xstr_http_request_duration_seconds",
+            "histogram", "Request latency by operation.");
+
+    private static final byte[] STATUS = PrometheusTextWriter.ascii(",status=\"");
+
+    private static final byte[] CLOSE = PrometheusTextWriter.ascii("} ");
+
+    private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    private final List<MetricsCollector> collectors = new CopyOnWriteArrayList<>();
+
+    /**
+     * Operations sorted by id, rebuilt when one is added so scrapes need not sort.
+     */
+    private volatile OperationMetrics[] sorted = new OperationMetrics[0];
+
+    /**
+     * Metrics of an operation, created on first use.
+     */
+    public OperationMetrics forOperation(String operationId) {
+        OperationMetrics metrics = operations.get(operationId);
+        if (metrics == null) {
+            metrics = operations.computeIfAbsent(operationId, OperationMetrics::new);
+            synchronized (this) {
+                OperationMetrics[] all = operations.values().toArray(new OperationMetrics[0]);
+                Arrays.sort(all, Comparator.comparing(OperationMetrics::getOperationId));
+                sorted = all;
+            }
+        }
+        return metrics;
+    }
+
+    public void register(MetricsCollector collector) {
+        collectors.add(collector);
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format (version 0.0.4) and flushes
+     * {@code out}, without closing it.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        OperationMetrics[] all = sorted;
+        PrometheusTextWriter writer = new PrometheusTextWriter(out);
+
+        writer.write(REQUESTS_HEADER);
+        for (OperationMetrics metrics : all) {
+            AtomicReferenceArray<LongAdder> byStatus = metrics.getByStatus();
+            for (int status = 0; status < byStatus.length(); status++) {
+                LongAdder counter = byStatus.get(status);
+                if (counter != null) {
+                    writer.write(REQUESTS).write('{').write(metrics.getLabel()).write(STATUS).write(status)
+                            .write('"').write(CLOSE).write(counter.sum()).write('\n');
+                }
+            }
+        }
+
+        writer.write(IN_FLIGHT_HEADER);
+        for (OperationMetrics metrics : all) {
+            writer.write(IN_FLIGHT).write('{').write(metrics.getLabel()).write(CLOSE).write(metrics.getInFlight()).write('\n');
+        }
+
+        writer.write(DURATION_HEADER);
+        for (OperationMetrics metrics : all) {
+            metrics.getLatency().writeTo(writer, DURATION, metrics.getLabel());
+        }
+
+        for (MetricsCollector collector : collectors) {
+            collector.collect(writer);
+        }
+        writer.flush();
+    }
+}
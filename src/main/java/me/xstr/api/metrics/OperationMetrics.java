@@ -0,0 +1,94 @@
+package me.xstr.api.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request count by status code, in-flight gauge and latency histogram of one API operation.
+ * <p>
+ * Recording touches only {@link LongAdder}s. The counter of a status code is created the first
+ * time that code is seen; afterwards {@link #stop} neither locks nor allocates.
+ */
+public final class OperationMetrics {
+
+    private static final int STATUS_LIMIT = 600;
+
+    private final String operationId;
+
+    private final byte[] label;
+
+    private final LongAdder inFlight = new LongAdder();
+
+    private final AtomicReferenceArray<LongAdder> byStatus = new AtomicReferenceArray<>(STATUS_LIMIT);
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationMetrics(String operationId) {
+        this.operationId = operationId;
+        this.label = PrometheusTextWriter.ascii("operation=" + PrometheusTextWriter.quote(operationId));
+    }
+
+    public String getOperationId() {
+        return operationId;
+    }
+
+    /**
+     * Marks a request as started.
+     *
+     * @return start time to pass to {@link #stop}
+     */
+    public long start() {
+        inFlight.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks a request started at {@code startNanos} as finished with {@code status}.
+     */
+    public void stop(long startNanos, int status) {
+        latency.record(System.nanoTime() - startNanos);
+        statusCounter(status).increment();
+        inFlight.decrement();
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Finished requests with {@code status}.
+     */
+    public long getCount(int status) {
+        LongAdder counter = byStatus.get(index(status));
+        return counter != null ? counter.sum() : 0;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    byte[] getLabel() {
+        return label;
+    }
+
+    AtomicReferenceArray<LongAdder> getByStatus() {
+        return byStatus;
+    }
+
+    private LongAdder statusCounter(int status) {
+        int i = index(status);
+        LongAdder counter = byStatus.get(i);
+        if (counter == null) {
+            byStatus.compareAndSet(i, null, new LongAdder());
+            counter = byStatus.get(i);
+        }
+        return counter;
+    }
+
+    /**
+     * Codes outside 0..599 are counted as 0.
+     */
+    private static int index(int status) {
+        return status >= 0 && status < STATUS_LIMIT ? status : 0;
+    }
+}
@@ -0,0 +1,141 @@
+package me.xstr.api.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the Prometheus text exposition format as ASCII bytes straight into a small buffer in
+ * front of an {@link OutputStream}. Numbers are written digit by digit, so a scrape does not
+ * build any intermediate {@code String}s. Not thread-safe; one writer per scrape.
+ */
+public final class PrometheusTextWriter {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final OutputStream out;
+
+    private final byte[] buf = new byte[BUFFER_SIZE];
+
+    private final byte[] digits = new byte[20];
+
+    private int pos;
+
+    public PrometheusTextWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Pre-encodes text that is written on every scrape, e.g. metric names and label pairs.
+     */
+    public static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * {@code # HELP} and {@code # TYPE} lines of a metric family.
+     */
+    public static byte[] header(String name, String type, String help) {
+        return ascii("# HELP " + name + " " + help + "\n# TYPE " + name + " " + type + "\n");
+    }
+
+    /**
+     * Label value in double quotes, escaped; characters outside ASCII become {@code ?}.
+     */
+    public static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case '"' -> sb.append("\\\"");
+                case '\n' -> sb.append("\\n");
+                default -> sb.append(c < 0x80 ? c : '?');
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    public PrometheusTextWriter write(byte[] bytes) throws IOException {
+        if (bytes.length > buf.length - pos) {
+            flushBuffer();
+            if (bytes.length > buf.length) {
+                out.write(bytes);
+                return this;
+            }
+        }
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+        return this;
+    }
+
+    public PrometheusTextWriter write(char c) throws IOException {
+        if (pos == buf.length) {
+            flushBuffer();
+        }
+        buf[pos++] = (byte) c;
+        return this;
+    }
+
+    public PrometheusTextWriter write(long value) throws IOException {
+        if (value < 0) {
+            write('-');
+            if (value == Long.MIN_VALUE) {
+                return write(ascii("9223372036854775808"));
+            }
+            value = -value;
+        }
+        int n = digits.length;
+        do {
+            digits[--n] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return write(digits, n, digits.length - n);
+    }
+
+    /**
+     * Nanoseconds as decimal seconds, without trailing zeros.
+     */
+    public PrometheusTextWriter seconds(long nanos) throws IOException {
+        write(nanos / 1_000_000_000L);
+        long fraction = nanos % 1_000_000_000L;
+        if (fraction == 0) {
+            return this;
+        }
+        int n = 9;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            n--;
+        }
+        write('.');
+        for (int i = n - 1; i >= 0; i--) {
+            digits[i] = (byte) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return write(digits, 0, n);
+    }
+
+    /**
+     * Writes out buffered bytes and flushes the stream.
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private PrometheusTextWriter write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buf.length - pos) {
+            flushBuffer();
+        }
+        System.arraycopy(bytes, offset, buf, pos, length);
+        pos += length;
+        return this;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (pos > 0) {
+            out.write(buf, 0, pos);
+            pos = 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import jakarta.annotation.Generated;
+
+/**
+ * Registers the generated serializers and deserializers for every schema in
+ * {@code components.schemas}. Expose it as a bean and Spring Boot adds it to the application
+ * {@code ObjectMapper}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class ApiModelsModule extends SimpleModule {
+
+  private static final long serialVersionUID = 1L;
+
+  public ApiModelsModule() {
+    super(ApiModelsModule.class.getSimpleName());
+    addSerializer(BatchOperation.class, new BatchOperationSerializer());
+    addDeserializer(BatchOperation.class, new BatchOperationDeserializer());
+    addSerializer(BatchRequest.class, new BatchRequestSerializer());
+    addDeserializer(BatchRequest.class, new BatchRequestDeserializer());
+    addSerializer(BatchResponse.class, new BatchResponseSerializer());
+    addDeserializer(BatchResponse.class, new BatchResponseDeserializer());
+    addSerializer(BatchResult.class, new BatchResultSerializer());
+    addDeserializer(BatchResult.class, new BatchResultDeserializer());
+    addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    addDeserializer(ErrorResponse.class, new ErrorResponseDeserializer());
+    addSerializer(HealthResponse.class, new HealthResponseSerializer());
+    addDeserializer(HealthResponse.class, new HealthResponseDeserializer());
+    addSerializer(VersionResponse.class, new VersionResponseSerializer());
+    addDeserializer(VersionResponse.class, new VersionResponseDeserializer());
+  }
+}
@@ -0,0 +1,157 @@
+package me.xstr.api.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import org.hibernate.validator.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BatchOperation
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public class BatchOperation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String id;
+
+  private String operationId;
+
+  @Valid
+  private Map<String, String> headers = new HashMap<>();
+
+  public BatchOperation() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BatchOperation(String operationId) {
+    this.operationId = operationId;
+  }
+
+  public BatchOperation id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Client-chosen identifier, echoed in the result
+   * @return id
+   */
+  
+  @Schema(name = "id", description = "Client-chosen identifier, echoed in the result", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("id")
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public BatchOperation operationId(String operationId) {
+    this.operationId = operationId;
+    return this;
+  }
+
+  /**
+   * Operation to execute, e.g. getHealth
+   * @return operationId
+   */
+  @NotNull 
+  @Schema(name = "operationId", description = "Operation to execute, e.g. getHealth", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("operationId")
+  public String getOperationId() {
+    return operationId;
+  }
+
+  public void setOperationId(String operationId) {
+    this.operationId = operationId;
+  }
+
+  public BatchOperation headers(Map<String, String> headers) {
+    this.headers = headers;
+    return this;
+  }
+
+  public BatchOperation putHeadersItem(String key, String headersItem) {
+    if (this.headers == null) {
+      this.headers = new HashMap<>();
+    }
+    this.headers.put(key, headersItem);
+    return this;
+  }
+
+  /**
+   * Request headers for this operation, e.g. Accept or If-None-Match
+   * @return headers
+   */
+  
+  @Schema(name = "headers", description = "Request headers for this operation, e.g. Accept or If-None-Match", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("headers")
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  public void setHeaders(Map<String, String> headers) {
+    this.headers = headers;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BatchOperation batchOperation = (BatchOperation) o;
+    return Objects.equals(this.id, batchOperation.id) &&
+        Objects.equals(this.operationId, batchOperation.operationId) &&
+        Objects.equals(this.headers, batchOperation.headers);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, operationId, headers);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BatchOperation {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    operationId: ").append(toIndentedString(operationId)).append("\n");
+    sb.append("    headers: ").append(toIndentedString(headers)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
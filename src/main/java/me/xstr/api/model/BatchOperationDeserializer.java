@@ -0,0 +1,75 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Reads {@link BatchOperation} by switching on field names, without bean introspection. Unknown
+ * fields follow {@code DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchOperationDeserializer extends StdDeserializer<BatchOperation> implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient JsonDeserializer<Object> headersDeserializer;
+
+  public BatchOperationDeserializer() {
+    super(BatchOperation.class);
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    headersDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<Map<String, String>>() {});
+  }
+
+  @Override
+  public BatchOperation deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+      name = p.currentName();
+    } else {
+      return (BatchOperation) ctxt.handleUnexpectedToken(BatchOperation.class, p);
+    }
+    BatchOperation value = new BatchOperation();
+    for (; name != null; name = p.nextFieldName()) {
+      boolean isNull = p.nextToken() == JsonToken.VALUE_NULL;
+      switch (name) {
+        case "id":
+          value.setId(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "operationId":
+          value.setOperationId(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "headers":
+          value.setHeaders(isNull ? null : (Map<String, String>) headersDeserializer.deserialize(p, ctxt));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link BatchOperation} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchOperationSerializer extends StdSerializer<BatchOperation> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString ID = new SerializedString("id");
+
+  private static final SerializedString OPERATION_ID = new SerializedString("operationId");
+
+  private static final SerializedString HEADERS = new SerializedString("headers");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> headersSerializer;
+
+  public BatchOperationSerializer() {
+    super(BatchOperation.class);
+    this.skipNulls = false;
+    this.headersSerializer = null;
+  }
+
+  private BatchOperationSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(BatchOperation.class);
+    this.skipNulls = ModelJson.skipNulls(provider, BatchOperation.class);
+    this.headersSerializer = ModelJson.valueSerializer(provider, new TypeReference<Map<String, String>>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new BatchOperationSerializer(provider);
+  }
+
+  @Override
+  public void serialize(BatchOperation value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    String id = value.getId();
+    if (id != null) {
+      gen.writeFieldName(ID);
+      gen.writeString(id);
+    } else if (!skipNulls) {
+      gen.writeFieldName(ID);
+      gen.writeNull();
+    }
+    String operationId = value.getOperationId();
+    if (operationId != null) {
+      gen.writeFieldName(OPERATION_ID);
+      gen.writeString(operationId);
+    } else if (!skipNulls) {
+      gen.writeFieldName(OPERATION_ID);
+      gen.writeNull();
+    }
+    Map<String, String> headers = value.getHeaders();
+    if (headers != null) {
+      gen.writeFieldName(HEADERS);
+      ModelJson.writeValue(gen, provider, headersSerializer, headers);
+    } else if (!skipNulls) {
+      gen.writeFieldName(HEADERS);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,111 @@
+package me.xstr.api.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.xstr.api.model.BatchOperation;
+import org.springframework.lang.Nullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import org.hibernate.validator.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BatchRequest
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public class BatchRequest implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Valid
+  private List<@Valid BatchOperation> operations = new ArrayList<>();
+
+  public BatchRequest() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BatchRequest(List<@Valid BatchOperation> operations) {
+    this.operations = operations;
+  }
+
+  public BatchRequest operations(List<@Valid BatchOperation> operations) {
+    this.operations = operations;
+    return this;
+  }
+
+  public BatchRequest addOperationsItem(BatchOperation operationsItem) {
+    if (this.operations == null) {
+      this.operations = new ArrayList<>();
+    }
+    this.operations.add(operationsItem);
+    return this;
+  }
+
+  /**
+   * Get operations
+   * @return operations
+   */
+  @NotNull @Valid @Size(min = 1, max = 16) 
+  @Schema(name = "operations", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("operations")
+  public List<@Valid BatchOperation> getOperations() {
+    return operations;
+  }
+
+  public void setOperations(List<@Valid BatchOperation> operations) {
+    this.operations = operations;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BatchRequest batchRequest = (BatchRequest) o;
+    return Objects.equals(this.operations, batchRequest.operations);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(operations);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BatchRequest {\n");
+    sb.append("    operations: ").append(toIndentedString(operations)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
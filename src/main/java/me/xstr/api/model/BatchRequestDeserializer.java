@@ -0,0 +1,71 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.xstr.api.model.BatchOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Reads {@link BatchRequest} by switching on field names, without bean introspection. Unknown
+ * fields follow {@code DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchRequestDeserializer extends StdDeserializer<BatchRequest> implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient JsonDeserializer<Object> operationsDeserializer;
+
+  public BatchRequestDeserializer() {
+    super(BatchRequest.class);
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    operationsDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<List<BatchOperation>>() {});
+  }
+
+  @Override
+  public BatchRequest deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+      name = p.currentName();
+    } else {
+      return (BatchRequest) ctxt.handleUnexpectedToken(BatchRequest.class, p);
+    }
+    BatchRequest value = new BatchRequest();
+    for (; name != null; name = p.nextFieldName()) {
+      boolean isNull = p.nextToken() == JsonToken.VALUE_NULL;
+      switch (name) {
+        case "operations":
+          value.setOperations(isNull ? null : (List<BatchOperation>) operationsDeserializer.deserialize(p, ctxt));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,72 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.xstr.api.model.BatchOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link BatchRequest} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchRequestSerializer extends StdSerializer<BatchRequest> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString OPERATIONS = new SerializedString("operations");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> operationsSerializer;
+
+  public BatchRequestSerializer() {
+    super(BatchRequest.class);
+    this.skipNulls = false;
+    this.operationsSerializer = null;
+  }
+
+  private BatchRequestSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(BatchRequest.class);
+    this.skipNulls = ModelJson.skipNulls(provider, BatchRequest.class);
+    this.operationsSerializer = ModelJson.valueSerializer(provider, new TypeReference<List<BatchOperation>>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new BatchRequestSerializer(provider);
+  }
+
+  @Override
+  public void serialize(BatchRequest value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    List<BatchOperation> operations = value.getOperations();
+    if (operations != null) {
+      gen.writeFieldName(OPERATIONS);
+      ModelJson.writeValue(gen, provider, operationsSerializer, operations);
+    } else if (!skipNulls) {
+      gen.writeFieldName(OPERATIONS);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
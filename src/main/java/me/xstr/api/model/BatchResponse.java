@@ -0,0 +1,111 @@
+package me.xstr.api.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.xstr.api.model.BatchResult;
+import org.springframework.lang.Nullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import org.hibernate.validator.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BatchResponse
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public class BatchResponse implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Valid
+  private List<@Valid BatchResult> results = new ArrayList<>();
+
+  public BatchResponse() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BatchResponse(List<@Valid BatchResult> results) {
+    this.results = results;
+  }
+
+  public BatchResponse results(List<@Valid BatchResult> results) {
+    this.results = results;
+    return this;
+  }
+
+  public BatchResponse addResultsItem(BatchResult resultsItem) {
+    if (this.results == null) {
+      this.results = new ArrayList<>();
+    }
+    this.results.add(resultsItem);
+    return this;
+  }
+
+  /**
+   * Get results
+   * @return results
+   */
+  @NotNull @Valid 
+  @Schema(name = "results", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("results")
+  public List<@Valid BatchResult> getResults() {
+    return results;
+  }
+
+  public void setResults(List<@Valid BatchResult> results) {
+    this.results = results;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BatchResponse batchResponse = (BatchResponse) o;
+    return Objects.equals(this.results, batchResponse.results);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(results);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BatchResponse {\n");
+    sb.append("    results: ").append(toIndentedString(results)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,72 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import me.xstr.api.model.BatchResult;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link BatchResponse} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchResponseSerializer extends StdSerializer<BatchResponse> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString RESULTS = new SerializedString("results");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> resultsSerializer;
+
+  public BatchResponseSerializer() {
+    super(BatchResponse.class);
+    this.skipNulls = false;
+    this.resultsSerializer = null;
+  }
+
+  private BatchResponseSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(BatchResponse.class);
+    this.skipNulls = ModelJson.skipNulls(provider, BatchResponse.class);
+    this.resultsSerializer = ModelJson.valueSerializer(provider, new TypeReference<List<BatchResult>>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new BatchResponseSerializer(provider);
+  }
+
+  @Override
+  public void serialize(BatchResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    List<BatchResult> results = value.getResults();
+    if (results != null) {
+      gen.writeFieldName(RESULTS);
+      ModelJson.writeValue(gen, provider, resultsSerializer, results);
+    } else if (!skipNulls) {
+      gen.writeFieldName(RESULTS);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,231 @@
+package me.xstr.api.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import me.xstr.api.model.ErrorResponse;
+import org.springframework.lang.Nullable;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import org.hibernate.validator.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * BatchResult
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public class BatchResult implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private String id;
+
+  private String operationId;
+
+  private Integer status;
+
+  @Valid
+  private Map<String, String> headers = new HashMap<>();
+
+  private @Nullable Object body = null;
+
+  private ErrorResponse error;
+
+  public BatchResult() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BatchResult(String operationId, Integer status) {
+    this.operationId = operationId;
+    this.status = status;
+  }
+
+  public BatchResult id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Identifier from the batch operation, if any
+   * @return id
+   */
+  
+  @Schema(name = "id", description = "Identifier from the batch operation, if any", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("id")
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public BatchResult operationId(String operationId) {
+    this.operationId = operationId;
+    return this;
+  }
+
+  /**
+   * Operation that was executed
+   * @return operationId
+   */
+  @NotNull 
+  @Schema(name = "operationId", description = "Operation that was executed", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("operationId")
+  public String getOperationId() {
+    return operationId;
+  }
+
+  public void setOperationId(String operationId) {
+    this.operationId = operationId;
+  }
+
+  public BatchResult status(Integer status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * HTTP status code of the operation
+   * @return status
+   */
+  @NotNull 
+  @Schema(name = "status", description = "HTTP status code of the operation", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("status")
+  public Integer getStatus() {
+    return status;
+  }
+
+  public void setStatus(Integer status) {
+    this.status = status;
+  }
+
+  public BatchResult headers(Map<String, String> headers) {
+    this.headers = headers;
+    return this;
+  }
+
+  public BatchResult putHeadersItem(String key, String headersItem) {
+    if (this.headers == null) {
+      this.headers = new HashMap<>();
+    }
+    this.headers.put(key, headersItem);
+    return this;
+  }
+
+  /**
+   * Response headers of the operation, e.g. ETag or Cache-Control
+   * @return headers
+   */
+  
+  @Schema(name = "headers", description = "Response headers of the operation, e.g. ETag or Cache-Control", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("headers")
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  public void setHeaders(Map<String, String> headers) {
+    this.headers = headers;
+  }
+
+  public BatchResult body(Object body) {
+    this.body = body;
+    return this;
+  }
+
+  /**
+   * Response body; JSON bodies are embedded as-is, others as a string
+   * @return body
+   */
+  
+  @Schema(name = "body", description = "Response body; JSON bodies are embedded as-is, others as a string", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("body")
+  public Object getBody() {
+    return body;
+  }
+
+  public void setBody(Object body) {
+    this.body = body;
+  }
+
+  public BatchResult error(ErrorResponse error) {
+    this.error = error;
+    return this;
+  }
+
+  /**
+   * Get error
+   * @return error
+   */
+  @Valid 
+  @Schema(name = "error", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("error")
+  public ErrorResponse getError() {
+    return error;
+  }
+
+  public void setError(ErrorResponse error) {
+    this.error = error;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BatchResult batchResult = (BatchResult) o;
+    return Objects.equals(this.id, batchResult.id) &&
+        Objects.equals(this.operationId, batchResult.operationId) &&
+        Objects.equals(this.status, batchResult.status) &&
+        Objects.equals(this.headers, batchResult.headers) &&
+        Objects.equals(this.body, batchResult.body) &&
+        Objects.equals(this.error, batchResult.error);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, operationId, status, headers, body, error);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BatchResult {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    operationId: ").append(toIndentedString(operationId)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    headers: ").append(toIndentedString(headers)).append("\n");
+    sb.append("    body: ").append(toIndentedString(body)).append("\n");
+    sb.append("    error: ").append(toIndentedString(error)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,94 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import me.xstr.api.model.ErrorResponse;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Reads {@link BatchResult} by switching on field names, without bean introspection. Unknown
+ * fields follow {@code DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchResultDeserializer extends StdDeserializer<BatchResult> implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient JsonDeserializer<Object> statusDeserializer;
+
+  private transient JsonDeserializer<Object> headersDeserializer;
+
+  private transient JsonDeserializer<Object> bodyDeserializer;
+
+  private transient JsonDeserializer<Object> errorDeserializer;
+
+  public BatchResultDeserializer() {
+    super(BatchResult.class);
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    statusDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<Integer>() {});
+    headersDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<Map<String, String>>() {});
+    bodyDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<Object>() {});
+    errorDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<ErrorResponse>() {});
+  }
+
+  @Override
+  public BatchResult deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+      name = p.currentName();
+    } else {
+      return (BatchResult) ctxt.handleUnexpectedToken(BatchResult.class, p);
+    }
+    BatchResult value = new BatchResult();
+    for (; name != null; name = p.nextFieldName()) {
+      boolean isNull = p.nextToken() == JsonToken.VALUE_NULL;
+      switch (name) {
+        case "id":
+          value.setId(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "operationId":
+          value.setOperationId(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "status":
+          value.setStatus(isNull ? null : (Integer) statusDeserializer.deserialize(p, ctxt));
+          break;
+        case "headers":
+          value.setHeaders(isNull ? null : (Map<String, String>) headersDeserializer.deserialize(p, ctxt));
+          break;
+        case "body":
+          value.setBody(isNull ? null : (Object) bodyDeserializer.deserialize(p, ctxt));
+          break;
+        case "error":
+          value.setError(isNull ? null : (ErrorResponse) errorDeserializer.deserialize(p, ctxt));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+    return value;
+  }
+}
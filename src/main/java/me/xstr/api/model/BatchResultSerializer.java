@@ -0,0 +1,133 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.HashMap;
+import java.util.Map;
+import me.xstr.api.model.ErrorResponse;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link BatchResult} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class BatchResultSerializer extends StdSerializer<BatchResult> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString ID = new SerializedString("id");
+
+  private static final SerializedString OPERATION_ID = new SerializedString("operationId");
+
+  private static final SerializedString STATUS = new SerializedString("status");
+
+  private static final SerializedString HEADERS = new SerializedString("headers");
+
+  private static final SerializedString BODY = new SerializedString("body");
+
+  private static final SerializedString ERROR = new SerializedString("error");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> statusSerializer;
+
+  private final transient JsonSerializer<Object> headersSerializer;
+
+  private final transient JsonSerializer<Object> bodySerializer;
+
+  private final transient JsonSerializer<Object> errorSerializer;
+
+  public BatchResultSerializer() {
+    super(BatchResult.class);
+    this.skipNulls = false;
+    this.statusSerializer = null;
+    this.headersSerializer = null;
+    this.bodySerializer = null;
+    this.errorSerializer = null;
+  }
+
+  private BatchResultSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(BatchResult.class);
+    this.skipNulls = ModelJson.skipNulls(provider, BatchResult.class);
+    this.statusSerializer = ModelJson.valueSerializer(provider, new TypeReference<Integer>() {});
+    this.headersSerializer = ModelJson.valueSerializer(provider, new TypeReference<Map<String, String>>() {});
+    this.bodySerializer = ModelJson.valueSerializer(provider, new TypeReference<Object>() {});
+    this.errorSerializer = ModelJson.valueSerializer(provider, new TypeReference<ErrorResponse>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new BatchResultSerializer(provider);
+  }
+
+  @Override
+  public void serialize(BatchResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    String id = value.getId();
+    if (id != null) {
+      gen.writeFieldName(ID);
+      gen.writeString(id);
+    } else if (!skipNulls) {
+      gen.writeFieldName(ID);
+      gen.writeNull();
+    }
+    String operationId = value.getOperationId();
+    if (operationId != null) {
+      gen.writeFieldName(OPERATION_ID);
+      gen.writeString(operationId);
+    } else if (!skipNulls) {
+      gen.writeFieldName(OPERATION_ID);
+      gen.writeNull();
+    }
+    Integer status = value.getStatus();
+    if (status != null) {
+      gen.writeFieldName(STATUS);
+      ModelJson.writeValue(gen, provider, statusSerializer, status);
+    } else if (!skipNulls) {
+      gen.writeFieldName(STATUS);
+      gen.writeNull();
+    }
+    Map<String, String> headers = value.getHeaders();
+    if (headers != null) {
+      gen.writeFieldName(HEADERS);
+      ModelJson.writeValue(gen, provider, headersSerializer, headers);
+    } else if (!skipNulls) {
+      gen.writeFieldName(HEADERS);
+      gen.writeNull();
+    }
+    Object body = value.getBody();
+    if (body != null) {
+      gen.writeFieldName(BODY);
+      ModelJson.writeValue(gen, provider, bodySerializer, body);
+    } else if (!skipNulls) {
+      gen.writeFieldName(BODY);
+      gen.writeNull();
+    }
+    ErrorResponse error = value.getError();
+    if (error != null) {
+      gen.writeFieldName(ERROR);
+      ModelJson.writeValue(gen, provider, errorSerializer, error);
+    } else if (!skipNulls) {
+      gen.writeFieldName(ERROR);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Reads {@link ErrorResponse} by switching on field names, without bean introspection. Unknown
+ * fields follow {@code DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class ErrorResponseDeserializer extends StdDeserializer<ErrorResponse> implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient JsonDeserializer<Object> detailsDeserializer;
+
+  private transient JsonDeserializer<Object> timestampDeserializer;
+
+  public ErrorResponseDeserializer() {
+    super(ErrorResponse.class);
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    detailsDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<Object>() {});
+    timestampDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<OffsetDateTime>() {});
+  }
+
+  @Override
+  public ErrorResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+      name = p.currentName();
+    } else {
+      return (ErrorResponse) ctxt.handleUnexpectedToken(ErrorResponse.class, p);
+    }
+    ErrorResponse value = new ErrorResponse();
+    for (; name != null; name = p.nextFieldName()) {
+      boolean isNull = p.nextToken() == JsonToken.VALUE_NULL;
+      switch (name) {
+        case "error":
+          value.setError(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "message":
+          value.setMessage(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "details":
+          value.setDetails(isNull ? null : (Object) detailsDeserializer.deserialize(p, ctxt));
+          break;
+        case "timestamp":
+          value.setTimestamp(isNull ? null : (OffsetDateTime) timestampDeserializer.deserialize(p, ctxt));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link ErrorResponse} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString ERROR = new SerializedString("error");
+
+  private static final SerializedString MESSAGE = new SerializedString("message");
+
+  private static final SerializedString DETAILS = new SerializedString("details");
+
+  private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> detailsSerializer;
+
+  private final transient JsonSerializer<Object> timestampSerializer;
+
+  public ErrorResponseSerializer() {
+    super(ErrorResponse.class);
+    this.skipNulls = false;
+    this.detailsSerializer = null;
+    this.timestampSerializer = null;
+  }
+
+  private ErrorResponseSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(ErrorResponse.class);
+    this.skipNulls = ModelJson.skipNulls(provider, ErrorResponse.class);
+    this.detailsSerializer = ModelJson.valueSerializer(provider, new TypeReference<Object>() {});
+    this.timestampSerializer = ModelJson.valueSerializer(provider, new TypeReference<OffsetDateTime>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new ErrorResponseSerializer(provider);
+  }
+
+  @Override
+  public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    String error = value.getError();
+    if (error != null) {
+      gen.writeFieldName(ERROR);
+      gen.writeString(error);
+    } else if (!skipNulls) {
+      gen.writeFieldName(ERROR);
+      gen.writeNull();
+    }
+    String message = value.getMessage();
+    if (message != null) {
+      gen.writeFieldName(MESSAGE);
+      gen.writeString(message);
+    } else if (!skipNulls) {
+      gen.writeFieldName(MESSAGE);
+      gen.writeNull();
+    }
+    Object details = value.getDetails();
+    if (details != null) {
+      gen.writeFieldName(DETAILS);
+      ModelJson.writeValue(gen, provider, detailsSerializer, details);
+    } else if (!skipNulls) {
+      gen.writeFieldName(DETAILS);
+      gen.writeNull();
+    }
+    OffsetDateTime timestamp = value.getTimestamp();
+    if (timestamp != null) {
+      gen.writeFieldName(TIMESTAMP);
+      ModelJson.writeValue(gen, provider, timestampSerializer, timestamp);
+    } else if (!skipNulls) {
+      gen.writeFieldName(TIMESTAMP);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,88 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.impl.NullsConstantProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Reads {@link HealthResponse} by switching on field names, without bean introspection. Unknown
+ * fields follow {@code DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES}.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class HealthResponseDeserializer extends StdDeserializer<HealthResponse> implements ResolvableDeserializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient JsonDeserializer<Object> timestampDeserializer;
+
+  public HealthResponseDeserializer() {
+    super(HealthResponse.class);
+  }
+
+  @Override
+  public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+    timestampDeserializer = ModelJson.valueDeserializer(ctxt, new TypeReference<OffsetDateTime>() {});
+  }
+
+  @Override
+  public HealthResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    String name;
+    if (p.isExpectedStartObjectToken()) {
+      name = p.nextFieldName();
+    } else if (p.hasToken(JsonToken.FIELD_NAME) || p.hasToken(JsonToken.END_OBJECT)) {
+      name = p.currentName();
+    } else {
+      return (HealthResponse) ctxt.handleUnexpectedToken(HealthResponse.class, p);
+    }
+    HealthResponse value = new HealthResponse();
+    for (; name != null; name = p.nextFieldName()) {
+      boolean isNull = p.nextToken() == JsonToken.VALUE_NULL;
+      switch (name) {
+        case "status":
+          if (isNull) {
+            value.setStatus(null);
+          } else {
+            String text = _parseString(p, ctxt, NullsConstantProvider.nuller());
+            try {
+              value.setStatus(HealthResponse.StatusEnum.fromValue(text));
+            } catch (IllegalArgumentException e) {
+              throw ctxt.weirdStringException(text, HealthResponse.StatusEnum.class, e.getMessage());
+            }
+          }
+          break;
+        case "timestamp":
+          value.setTimestamp(isNull ? null : (OffsetDateTime) timestampDeserializer.deserialize(p, ctxt));
+          break;
+        case "version":
+          value.setVersion(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        case "uptime":
+          value.setUptime(isNull ? null : _parseString(p, ctxt, NullsConstantProvider.nuller()));
+          break;
+        default:
+          handleUnknownProperty(p, ctxt, value, name);
+      }
+    }
+    return value;
+  }
+}
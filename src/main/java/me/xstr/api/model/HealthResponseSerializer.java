@@ -0,0 +1,101 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link HealthResponse} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class HealthResponseSerializer extends StdSerializer<HealthResponse> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString STATUS = new SerializedString("status");
+
+  private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+  private static final SerializedString VERSION = new SerializedString("version");
+
+  private static final SerializedString UPTIME = new SerializedString("uptime");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> timestampSerializer;
+
+  public HealthResponseSerializer() {
+    super(HealthResponse.class);
+    this.skipNulls = false;
+    this.timestampSerializer = null;
+  }
+
+  private HealthResponseSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(HealthResponse.class);
+    this.skipNulls = ModelJson.skipNulls(provider, HealthResponse.class);
+    this.timestampSerializer = ModelJson.valueSerializer(provider, new TypeReference<OffsetDateTime>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new HealthResponseSerializer(provider);
+  }
+
+  @Override
+  public void serialize(HealthResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    HealthResponse.StatusEnum status = value.getStatus();
+    if (status != null) {
+      gen.writeFieldName(STATUS);
+      gen.writeString(status.getValue());
+    } else if (!skipNulls) {
+      gen.writeFieldName(STATUS);
+      gen.writeNull();
+    }
+    OffsetDateTime timestamp = value.getTimestamp();
+    if (timestamp != null) {
+      gen.writeFieldName(TIMESTAMP);
+      ModelJson.writeValue(gen, provider, timestampSerializer, timestamp);
+    } else if (!skipNulls) {
+      gen.writeFieldName(TIMESTAMP);
+      gen.writeNull();
+    }
+    String version = value.getVersion();
+    if (version != null) {
+      gen.writeFieldName(VERSION);
+      gen.writeString(version);
+    } else if (!skipNulls) {
+      gen.writeFieldName(VERSION);
+      gen.writeNull();
+    }
+    String uptime = value.getUptime();
+    if (uptime != null) {
+      gen.writeFieldName(UPTIME);
+      gen.writeString(uptime);
+    } else if (!skipNulls) {
+      gen.writeFieldName(UPTIME);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
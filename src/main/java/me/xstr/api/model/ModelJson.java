@@ -0,0 +1,58 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Helpers shared by the generated model serializers and deserializers.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+final class ModelJson {
+
+  private ModelJson() {
+  }
+
+  /**
+   * Whether the mapper's default inclusion for {@code type} drops {@code null} fields.
+   */
+  static boolean skipNulls(SerializerProvider provider, Class<?> type) {
+    JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+    return inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+  }
+
+  /**
+   * Serializer for a field type, resolved and contextualized once per mapper; {@code null} for
+   * {@code Object} fields, whose serializer depends on the runtime value.
+   */
+  static JsonSerializer<Object> valueSerializer(SerializerProvider provider, TypeReference<?> type) throws JsonMappingException {
+    JavaType javaType = provider.getTypeFactory().constructType(type);
+    return javaType.getRawClass() == Object.class ? null : provider.findPrimaryPropertySerializer(javaType, null);
+  }
+
+  static void writeValue(JsonGenerator gen, SerializerProvider provider, JsonSerializer<Object> serializer, Object value) throws IOException {
+    if (serializer == null) {
+      provider.defaultSerializeValue(value, gen);
+    } else {
+      serializer.serialize(value, gen, provider);
+    }
+  }
+
+  static JsonDeserializer<Object> valueDeserializer(DeserializationContext ctxt, TypeReference<?> type) throws JsonMappingException {
+    return ctxt.findRootValueDeserializer(ctxt.getTypeFactory().constructType(type));
+  }
+}
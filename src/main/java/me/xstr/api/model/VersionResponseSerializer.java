@@ -0,0 +1,90 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import jakarta.annotation.Generated;
+
+/**
+ * Writes {@link VersionResponse} field by field with pre-encoded names, without bean introspection.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
+public class VersionResponseSerializer extends StdSerializer<VersionResponse> implements ContextualSerializer {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final SerializedString VERSION = new SerializedString("version");
+
+  private static final SerializedString BUILD = new SerializedString("build");
+
+  private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+  private final boolean skipNulls;
+
+  private final transient JsonSerializer<Object> timestampSerializer;
+
+  public VersionResponseSerializer() {
+    super(VersionResponse.class);
+    this.skipNulls = false;
+    this.timestampSerializer = null;
+  }
+
+  private VersionResponseSerializer(SerializerProvider provider) throws JsonMappingException {
+    super(VersionResponse.class);
+    this.skipNulls = ModelJson.skipNulls(provider, VersionResponse.class);
+    this.timestampSerializer = ModelJson.valueSerializer(provider, new TypeReference<OffsetDateTime>() {});
+  }
+
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+    return new VersionResponseSerializer(provider);
+  }
+
+  @Override
+  public void serialize(VersionResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartObject(value);
+    String version = value.getVersion();
+    if (version != null) {
+      gen.writeFieldName(VERSION);
+      gen.writeString(version);
+    } else if (!skipNulls) {
+      gen.writeFieldName(VERSION);
+      gen.writeNull();
+    }
+    String build = value.getBuild();
+    if (build != null) {
+      gen.writeFieldName(BUILD);
+      gen.writeString(build);
+    } else if (!skipNulls) {
+      gen.writeFieldName(BUILD);
+      gen.writeNull();
+    }
+    OffsetDateTime timestamp = value.getTimestamp();
+    if (timestamp != null) {
+      gen.writeFieldName(TIMESTAMP);
+      ModelJson.writeValue(gen, provider, timestampSerializer, timestamp);
+    } else if (!skipNulls) {
+      gen.writeFieldName(TIMESTAMP);
+      gen.writeNull();
+    }
+    gen.writeEndObject();
+  }
+}
@@ -0,0 +1,68 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.controller.BatchApiDelegate;
+import me.xstr.api.controller.BatchExecutor;
+import me.xstr.api.model.BatchRequest;
+import me.xstr.api.model.BatchResponse;
+import me.xstr.api.model.BatchResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves {@code POST /batch}: starts all operations through the {@link BatchExecutor}, then streams
+ * a {@link BatchResponse}, flushing each result as soon as it and all earlier ones are done.
+ */
+@Service
+public class BatchApiDelegateImpl implements BatchApiDelegate {
+
+    private final NativeWebRequest request;
+
+    private final BatchExecutor batchExecutor;
+
+    private final ObjectMapper objectMapper;
+
+    public BatchApiDelegateImpl(NativeWebRequest request, BatchExecutor batchExecutor, ObjectMapper objectMapper) {
+        this.request = request;
+        this.batchExecutor = batchExecutor;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
+    @Override
+    public ResponseEntity<BatchResponse> executeBatch(BatchRequest batchRequest) {
+        HttpServletResponse res = request.getNativeResponse(HttpServletResponse.class);
+        List<CompletableFuture<BatchResult>> results = batchExecutor.submit(
+                request.getNativeRequest(HttpServletRequest.class), res, batchRequest.getOperations());
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(res.getOutputStream())) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("results");
+            for (CompletableFuture<BatchResult> result : results) {
+                // Bounded: the executor completes each result with a 504 after xstr.batch.timeout
+                objectMapper.writeValue(gen, result.join());
+                gen.flush();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
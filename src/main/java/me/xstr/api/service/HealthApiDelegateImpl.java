@@ -0,0 +1,63 @@
+package me.xstr.api.service;
+
+import me.xstr.api.controller.ApiUtil;
+import me.xstr.api.controller.HealthApiDelegate;
+import me.xstr.api.controller.ResponseBodyWriter;
+import me.xstr.api.model.HealthResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Serves {@code GET /health} from the pre-serialized {@link HealthSnapshotService} snapshot:
+ * {@code 200} with a {@link HealthResponse}, or {@code 503} with an {@code ErrorResponse}, in the
+ * negotiated format.
+ * {@code GET /health/stream} subscribes to the {@link HealthStreamBroadcaster}.
+ */
+@Service
+public class HealthApiDelegateImpl implements HealthApiDelegate {
+
+    private final NativeWebRequest request;
+
+    private final HealthSnapshotService healthSnapshotService;
+
+    private final HealthStreamBroadcaster healthStreamBroadcaster;
+
+    public HealthApiDelegateImpl(NativeWebRequest request, HealthSnapshotService healthSnapshotService,
+                                 HealthStreamBroadcaster healthStreamBroadcaster) {
+        this.request = request;
+        this.healthSnapshotService = healthSnapshotService;
+        this.healthStreamBroadcaster = healthStreamBroadcaster;
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
+    @Override
+    public ResponseEntity<HealthResponse> getHealth() {
+        HealthSnapshot snapshot = healthSnapshotService.getSnapshot();
+        // Set before writing: the response is committed once Content-Length bytes are written
+        request.getNativeResponse(HttpServletResponse.class).setStatus(snapshot.getStatus().value());
+        ResponseBodyWriter.write(request, snapshot.getBody(), ApiUtil.negotiateFormat(request, "getHealth"));
+        return new ResponseEntity<>(snapshot.getStatus());
+    }
+
+    @Override
+    public ResponseEntity<String> streamHealth() {
+        try {
+            healthStreamBroadcaster.subscribe(request.getNativeRequest(HttpServletRequest.class),
+                    request.getNativeResponse(HttpServletResponse.class));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        // Handled: the response now belongs to the broadcaster, MVC must not write it
+        return null;
+    }
+}
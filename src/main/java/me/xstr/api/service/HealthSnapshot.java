@@ -0,0 +1,41 @@
+package me.xstr.api.service;
+
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.controller.NegotiatedBody;
+import me.xstr.api.model.HealthResponse;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Immutable health snapshot: the model, the HTTP status and the body pre-encoded in every
+ * {@link ModelFormat}.
+ * When a check is down the status is {@code 503} and the body is an {@code ErrorResponse}.
+ */
+public final class HealthSnapshot {
+
+    private final HealthResponse response;
+
+    private final HttpStatus status;
+
+    private final NegotiatedBody body;
+
+    HealthSnapshot(HealthResponse response, HttpStatus status, NegotiatedBody body) {
+        this.response = response;
+        this.status = status;
+        this.body = body;
+    }
+
+    public HealthResponse getResponse() {
+        return response;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Pre-encoded body in every format.
+     */
+    public NegotiatedBody getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,104 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.health.HealthAggregator;
+import me.xstr.api.health.HealthCheckResult;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.time.CachedClock;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Builds the {@link HealthResponse} on a fixed schedule and keeps the latest one
+ * pre-serialized in every {@code ModelFormat}, so serving {@code GET /health} never touches Jackson.
+ * <p>
+ * Each refresh evaluates the {@link HealthAggregator}. If any check is down, the snapshot is a
+ * {@code 503} with an {@link ErrorResponse} listing every check under {@code details}.
+ */
+@Service
+public class HealthSnapshotService {
+
+    static final String UNHEALTHY_CODE = "SERVICE_UNAVAILABLE";
+
+    private final ModelCodecs codecs;
+
+    private final CachedClock clock;
+
+    private final HealthAggregator healthAggregator;
+
+    private final String version;
+
+    private final List<Consumer<HealthSnapshot>> refreshListeners = new CopyOnWriteArrayList<>();
+
+    private volatile HealthSnapshot snapshot;
+
+    public HealthSnapshotService(ModelCodecs codecs, CachedClock clock, VersionService versionService,
+                                 HealthAggregator healthAggregator) {
+        this.codecs = codecs;
+        this.clock = clock;
+        this.healthAggregator = healthAggregator;
+        this.version = versionService.getVersionResponse().getVersion();
+        this.snapshot = build();
+    }
+
+    /**
+     * Latest snapshot. Never {@code null}.
+     */
+    public HealthSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Calls {@code listener} with every new snapshot, on the refreshing thread.
+     */
+    public void addRefreshListener(Consumer<HealthSnapshot> listener) {
+        refreshListeners.add(listener);
+    }
+
+    @Scheduled(fixedRateString = "${xstr.health.refresh-interval-ms:1000}")
+    public void refresh() {
+        HealthSnapshot refreshed = build();
+        snapshot = refreshed;
+        for (Consumer<HealthSnapshot> listener : refreshListeners) {
+            listener.accept(refreshed);
+        }
+    }
+
+    private HealthSnapshot build() {
+        Map<String, HealthCheckResult> results = healthAggregator.evaluate();
+        boolean up = results.values().stream().allMatch(HealthCheckResult::isUp);
+        HealthResponse response = new HealthResponse()
+                .status(up ? HealthResponse.StatusEnum.HEALTHY : HealthResponse.StatusEnum.UNHEALTHY)
+                .timestamp(clock.now())
+                .version(version)
+                .uptime(formatUptime(ManagementFactory.getRuntimeMXBean().getUptime()));
+        try {
+            if (up) {
+                return new HealthSnapshot(response, HttpStatus.OK, codecs.encode(response));
+            }
+            Map<String, Object> details = new LinkedHashMap<>();
+            results.forEach((name, result) -> details.put(name, result.toMap()));
+            ErrorResponse error = new ErrorResponse(UNHEALTHY_CODE, "One or more health checks failed")
+                    .details(details)
+                    .timestamp(response.getTimestamp());
+            return new HealthSnapshot(response, HttpStatus.SERVICE_UNAVAILABLE, codecs.encode(error));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize health snapshot", e);
+        }
+    }
+
+    static String formatUptime(long uptimeMillis) {
+        long minutes = uptimeMillis / 60_000L;
+        return (minutes / 1440L) + "d " + (minutes / 60L % 24L) + "h " + (minutes % 60L) + "m";
+    }
+}
@@ -0,0 +1,311 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.metrics.MetricsCollector;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.model.HealthResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Pushes the API health to {@code GET /health/stream} subscribers as Server-Sent Events, so
+ * clients need not poll {@code GET /health}.
+ * <p>
+ * A subscriber gets a {@code health} event with the current {@link HealthResponse} on connect, then
+ * one whenever a {@link HealthSnapshotService} refresh changes the status, and a comment line every
+ * {@code xstr.health.stream.heartbeat-interval} in between. Every subscriber is sent the same
+ * encoded event. Writes never block: a subscriber holds at most one unsent message, so an event
+ * replaces the one a slow reader has not taken yet (only the latest status matters), and a
+ * subscriber whose connection accepts nothing for {@code xstr.health.stream.max-stall} is
+ * disconnected.
+ */
+@Service
+public class HealthStreamBroadcaster implements MetricsCollector {
+
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] EVENT_PREFIX = "event: health\ndata: ".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUBSCRIBERS_HEADER = PrometheusTextWriter.header("xstr_health_stream_subscribers",
+            "gauge", "Open GET /health/stream connections.");
+
+    private static final byte[] SUBSCRIBERS = PrometheusTextWriter.ascii("xstr_health_stream_subscribers ");
+
+    private static final byte[] COALESCED_HEADER = PrometheusTextWriter.header("xstr_health_stream_events_coalesced_total",
+            "counter", "Health events replaced by a newer one before a slow subscriber took them.");
+
+    private static final byte[] COALESCED = PrometheusTextWriter.ascii("xstr_health_stream_events_coalesced_total ");
+
+    private static final byte[] DROPPED_HEADER = PrometheusTextWriter.header("xstr_health_stream_subscribers_dropped_total",
+            "counter", "Subscribers disconnected because they stopped reading.");
+
+    private static final byte[] DROPPED = PrometheusTextWriter.ascii("xstr_health_stream_subscribers_dropped_total ");
+
+    private final HealthSnapshotService healthSnapshotService;
+
+    private final ObjectMapper objectMapper;
+
+    private final long maxStallNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Event current;
+
+    // Only touched by the refreshing thread
+    private HealthResponse.StatusEnum lastStatus;
+
+    @Autowired
+    public HealthStreamBroadcaster(HealthSnapshotService healthSnapshotService, ObjectMapper objectMapper,
+                                   MetricsRegistry metricsRegistry,
+                                   @Value("${xstr.health.stream.max-stall:30s}") Duration maxStall) {
+        this(healthSnapshotService, objectMapper, maxStall, System::nanoTime);
+        metricsRegistry.register(this);
+    }
+
+    HealthStreamBroadcaster(HealthSnapshotService healthSnapshotService, ObjectMapper objectMapper, Duration maxStall,
+                            LongSupplier nanoClock) {
+        this.healthSnapshotService = healthSnapshotService;
+        this.objectMapper = objectMapper;
+        this.maxStallNanos = maxStall.toNanos();
+        this.nanoClock = nanoClock;
+        HealthSnapshot snapshot = healthSnapshotService.getSnapshot();
+        this.current = new Event(snapshot, encode(snapshot));
+        this.lastStatus = snapshot.getResponse().getStatus();
+        healthSnapshotService.addRefreshListener(this::onRefresh);
+    }
+
+    /**
+     * Turns the request into a subscription: sets the event stream headers, starts async
+     * processing and leaves the response to the broadcaster. The current status is sent as soon as
+     * the container lets the connection be written.
+     */
+    public void subscribe(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        // Keeps buffering proxies such as nginx from holding events back
+        response.setHeader("X-Accel-Buffering", "no");
+        AsyncContext context = request.startAsync(request, response);
+        context.setTimeout(0);
+        Subscriber subscriber = new Subscriber(context, response.getOutputStream());
+        context.addListener(subscriber);
+        subscribers.add(subscriber);
+        // After joining: a change published meanwhile is either offered or already current
+        subscriber.pending.compareAndSet(null, currentEvent());
+        subscriber.out.setWriteListener(subscriber);
+    }
+
+    /**
+     * Sends a heartbeat to idle subscribers and disconnects those stalled for longer than
+     * {@code xstr.health.stream.max-stall}.
+     */
+    @Scheduled(fixedRateString = "#{T(org.springframework.boot.convert.DurationStyle)"
+            + ".detectAndParse('${xstr.health.stream.heartbeat-interval:15s}').toMillis()}")
+    public void heartbeat() {
+        long now = nanoClock.getAsLong();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stalled && now - subscriber.stalledSince > maxStallNanos) {
+                dropped.increment();
+                subscriber.close();
+            } else if (subscriber.pending.compareAndSet(null, HEARTBEAT)) {
+                subscriber.write();
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Writes {@code xstr_health_stream_subscribers}, {@code xstr_health_stream_events_coalesced_total}
+     * and {@code xstr_health_stream_subscribers_dropped_total}.
+     */
+    @Override
+    public void collect(PrometheusTextWriter writer) throws IOException {
+        writer.write(SUBSCRIBERS_HEADER).write(SUBSCRIBERS).write(subscribers.size()).write('\n')
+                .write(COALESCED_HEADER).write(COALESCED).write(coalesced.sum()).write('\n')
+                .write(DROPPED_HEADER).write(DROPPED).write(dropped.sum()).write('\n');
+    }
+
+    private void onRefresh(HealthSnapshot snapshot) {
+        HealthResponse.StatusEnum status = snapshot.getResponse().getStatus();
+        if (status == lastStatus) {
+            return;
+        }
+        lastStatus = status;
+        Event event = new Event(snapshot, encode(snapshot));
+        current = event;
+        for (Subscriber subscriber : subscribers) {
+            byte[] replaced = subscriber.pending.getAndSet(event.bytes);
+            if (replaced != null && replaced != HEARTBEAT) {
+                coalesced.increment();
+            }
+            subscriber.write();
+        }
+    }
+
+    /**
+     * Event for the latest snapshot, encoded at most once per refresh.
+     */
+    private byte[] currentEvent() {
+        HealthSnapshot snapshot = healthSnapshotService.getSnapshot();
+        Event event = current;
+        if (event.snapshot != snapshot) {
+            event = new Event(snapshot, encode(snapshot));
+            current = event;
+        }
+        return event.bytes;
+    }
+
+    private byte[] encode(HealthSnapshot snapshot) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(snapshot.getResponse());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize health event", e);
+        }
+        byte[] bytes = new byte[EVENT_PREFIX.length + json.length + 2];
+        System.arraycopy(EVENT_PREFIX, 0, bytes, 0, EVENT_PREFIX.length);
+        System.arraycopy(json, 0, bytes, EVENT_PREFIX.length, json.length);
+        bytes[bytes.length - 2] = '\n';
+        bytes[bytes.length - 1] = '\n';
+        return bytes;
+    }
+
+    private record Event(HealthSnapshot snapshot, byte[] bytes) {
+    }
+
+    private final class Subscriber implements WriteListener, AsyncListener {
+
+        final AsyncContext context;
+
+        final ServletOutputStream out;
+
+        /**
+         * The one message waiting to be written, or {@code null}.
+         */
+        final AtomicReference<byte[]> pending = new AtomicReference<>();
+
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        volatile boolean stalled;
+
+        volatile long stalledSince;
+
+        // Guarded by this. Nothing is written before the container first calls onWritePossible.
+        private boolean started;
+
+        private boolean flushNeeded;
+
+        Subscriber(AsyncContext context, ServletOutputStream out) {
+            this.context = context;
+            this.out = out;
+        }
+
+        /**
+         * Writes the pending message for as long as the connection takes it without blocking. When
+         * it does not, the container calls {@link #onWritePossible()} once it does.
+         */
+        synchronized void write() {
+            if (!started || closed.get()) {
+                return;
+            }
+            try {
+                while (out.isReady()) {
+                    if (flushNeeded) {
+                        flushNeeded = false;
+                        out.flush();
+                        continue;
+                    }
+                    byte[] message = pending.getAndSet(null);
+                    if (message == null) {
+                        stalled = false;
+                        return;
+                    }
+                    out.write(message);
+                    flushNeeded = true;
+                }
+                if (!stalled) {
+                    stalledSince = nanoClock.getAsLong();
+                    stalled = true;
+                }
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                try {
+                    context.complete();
+                } catch (IllegalStateException e) {
+                    // Already completed by the container
+                }
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            synchronized (this) {
+                started = true;
+            }
+            write();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            closed.set(true);
+            subscribers.remove(this);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package me.xstr.api.service;
+
+import me.xstr.api.controller.ApiUtil;
+import me.xstr.api.controller.InfoApiDelegate;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.controller.ResponseBodyWriter;
+import me.xstr.api.model.VersionResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Serves {@code GET /version} from the bytes cached by {@link VersionService} for the negotiated
+ * format, answering matching {@code If-None-Match} requests with {@code 304 Not Modified}.
+ */
+@Service
+public class InfoApiDelegateImpl implements InfoApiDelegate {
+
+    private final NativeWebRequest request;
+
+    private final VersionService versionService;
+
+    private final String cacheControl;
+
+    public InfoApiDelegateImpl(NativeWebRequest request, VersionService versionService,
+                               @Value("${xstr.version.cache-max-age:1d}") Duration cacheMaxAge) {
+        this.request = request;
+        this.versionService = versionService;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().getHeaderValue();
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
+    @Override
+    public ResponseEntity<VersionResponse> getVersion() {
+        HttpServletResponse res = request.getNativeResponse(HttpServletResponse.class);
+        res.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        ModelFormat format = ApiUtil.negotiateFormat(request, "getVersion");
+        String eTag = versionService.getETag(format);
+        if (request.checkNotModified(eTag)) {
+            res.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        res.setHeader(HttpHeaders.ETAG, eTag);
+        ResponseBodyWriter.write(request, versionService.getBody(), format);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
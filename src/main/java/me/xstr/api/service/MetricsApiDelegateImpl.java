@@ -0,0 +1,46 @@
+package me.xstr.api.service;
+
+import me.xstr.api.controller.MetricsApiDelegate;
+import me.xstr.api.metrics.MetricsRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Serves {@code GET /metrics} by streaming the {@link MetricsRegistry} straight into the
+ * response output stream.
+ */
+@Service
+public class MetricsApiDelegateImpl implements MetricsApiDelegate {
+
+    private final NativeWebRequest request;
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsApiDelegateImpl(NativeWebRequest request, MetricsRegistry metricsRegistry) {
+        this.request = request;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Optional<NativeWebRequest> getRequest() {
+        return Optional.ofNullable(request);
+    }
+
+    @Override
+    public ResponseEntity<String> getMetrics() {
+        HttpServletResponse res = request.getNativeResponse(HttpServletResponse.class);
+        res.setContentType(MetricsRegistry.CONTENT_TYPE);
+        try {
+            metricsRegistry.writeTo(res.getOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,88 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.controller.NegotiatedBody;
+import me.xstr.api.model.VersionResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.info.GitProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds the {@link VersionResponse} built once from build metadata, together with its body
+ * pre-serialized in every {@link ModelFormat} and a strong ETag per format.
+ * <p>
+ * Metadata comes from {@code META-INF/build-info.properties} (spring-boot-maven-plugin
+ * {@code build-info}) and {@code git.properties} (git-commit-id-maven-plugin). When they are
+ * missing, e.g. running from an IDE without a Maven build, the configured version is used
+ * and {@code build} is {@code "unknown"}.
+ */
+@Service
+public class VersionService {
+
+    static final String UNKNOWN_BUILD = "unknown";
+
+    private final VersionResponse versionResponse;
+
+    private final NegotiatedBody body;
+
+    private final Map<ModelFormat, String> eTags = new EnumMap<>(ModelFormat.class);
+
+    @Autowired
+    public VersionService(ModelCodecs codecs,
+                          ObjectProvider<BuildProperties> buildProperties,
+                          ObjectProvider<GitProperties> gitProperties,
+                          @Value("${xstr.api.version:0.0.1-alpha}") String fallbackVersion) {
+        this(codecs, fromBuildMetadata(buildProperties.getIfAvailable(), gitProperties.getIfAvailable(), fallbackVersion));
+    }
+
+    VersionService(ModelCodecs codecs, VersionResponse versionResponse) {
+        this.versionResponse = versionResponse;
+        try {
+            this.body = codecs.encode(versionResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize version response", e);
+        }
+        for (ModelFormat format : ModelFormat.values()) {
+            eTags.put(format, "\"" + DigestUtils.md5DigestAsHex(body.get(format).getIdentity()) + "\"");
+        }
+    }
+
+    public VersionResponse getVersionResponse() {
+        return versionResponse;
+    }
+
+    /**
+     * Pre-encoded body in every format.
+     */
+    public NegotiatedBody getBody() {
+        return body;
+    }
+
+    /**
+     * Strong, quoted ETag derived from the body in {@code format}, so each format validates only
+     * its own representation.
+     */
+    public String getETag(ModelFormat format) {
+        return eTags.get(format);
+    }
+
+    static VersionResponse fromBuildMetadata(BuildProperties build, GitProperties git, String fallbackVersion) {
+        VersionResponse response = new VersionResponse();
+        response.setVersion(build != null && build.getVersion() != null ? build.getVersion() : fallbackVersion);
+        response.setBuild(git != null && git.getShortCommitId() != null ? git.getShortCommitId() : UNKNOWN_BUILD);
+        if (build != null && build.getTime() != null) {
+            response.setTimestamp(build.getTime().atOffset(ZoneOffset.UTC));
+        }
+        return response;
+    }
+}
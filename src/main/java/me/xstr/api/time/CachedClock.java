@@ -0,0 +1,99 @@
+package me.xstr.api.time;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Second-resolution UTC clock that formats each second once.
+ * <p>
+ * Every caller within the same wall-clock second gets the same {@link Tick}, holding the
+ * truncated {@link OffsetDateTime}, its RFC 3339 text and a pre-encoded {@link SerializableString}
+ * that {@link RFC3339Module} writes straight into the JSON output. Ticks are immutable and
+ * published through a single volatile field, so readers never lock.
+ */
+public final class CachedClock {
+
+    private final Clock clock;
+
+    private volatile Tick tick;
+
+    public CachedClock() {
+        this(Clock.systemUTC());
+    }
+
+    public CachedClock(Clock clock) {
+        this.clock = clock;
+        this.tick = new Tick(Math.floorDiv(clock.millis(), 1000L));
+    }
+
+    /**
+     * Current second, formatted.
+     */
+    public Tick tick() {
+        long epochSecond = Math.floorDiv(clock.millis(), 1000L);
+        Tick current = tick;
+        if (current.epochSecond != epochSecond) {
+            current = new Tick(epochSecond);
+            tick = current;
+        }
+        return current;
+    }
+
+    /**
+     * Current time truncated to the second, in UTC.
+     */
+    public OffsetDateTime now() {
+        return tick().dateTime;
+    }
+
+    /**
+     * Cached tick for {@code epochSecond}, or {@code null} if the clock is on another second.
+     */
+    Tick cached(long epochSecond) {
+        Tick current = tick;
+        return current.epochSecond == epochSecond ? current : null;
+    }
+
+    public static final class Tick {
+
+        private final long epochSecond;
+
+        private final OffsetDateTime dateTime;
+
+        private final String text;
+
+        private final SerializedString serialized;
+
+        Tick(long epochSecond) {
+            this.epochSecond = epochSecond;
+            this.dateTime = OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+            char[] buf = new char[RFC3339.MAX_LENGTH];
+            this.text = new String(buf, 0, RFC3339.format(epochSecond, 0, buf, 0));
+            this.serialized = new SerializedString(text);
+            // Encode eagerly so the first writer does not pay for it
+            serialized.asQuotedUTF8();
+            serialized.asQuotedChars();
+        }
+
+        public long getEpochSecond() {
+            return epochSecond;
+        }
+
+        public OffsetDateTime getDateTime() {
+            return dateTime;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public SerializableString getSerialized() {
+            return serialized;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package me.xstr.api.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Stateless RFC 3339 formatter and parser.
+ * <p>
+ * Formatting always renders UTC with a {@code Z} designator, e.g. {@code 2025-05-27T10:30:00Z}.
+ * The fraction is omitted when zero and otherwise printed with 3, 6 or 9 digits. The
+ * {@code format(..., char[], int)} variants write into a caller-supplied buffer and do not
+ * allocate; {@link #buffer()} supplies a reusable one. All methods are thread-safe.
+ */
+public final class RFC3339 {
+
+    /**
+     * Longest rendering produced by the formatter: {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ}.
+     */
+    public static final int MAX_LENGTH = 30;
+
+    private static final long MIN_EPOCH_SECOND = -62167219200L; // 0000-01-01T00:00:00Z
+
+    private static final long MAX_EPOCH_SECOND = 253402300799L; // 9999-12-31T23:59:59Z
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private RFC3339() {
+    }
+
+    /**
+     * Writes the timestamp into {@code buf} starting at {@code off}.
+     *
+     * @return offset just past the last written character
+     * @throws IllegalArgumentException if the year is outside 0000-9999
+     */
+    public static int format(long epochSecond, int nanos, char[] buf, int off) {
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+            throw new IllegalArgumentException("Year out of RFC 3339 range: epochSecond=" + epochSecond);
+        }
+        long epochDay = Math.floorDiv(epochSecond, 86400L);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+
+        // Days-to-civil conversion (proleptic Gregorian), see H. Hinnant "chrono-Compatible Low-Level Date Algorithms"
+        long z = epochDay + 719468L;
+        long era = Math.floorDiv(z, 146097L);
+        int doe = (int) (z - era * 146097L);
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400L) + (month <= 2 ? 1 : 0);
+
+        int p = off;
+        p = write4(buf, p, year);
+        buf[p++] = '-';
+        p = write2(buf, p, month);
+        buf[p++] = '-';
+        p = write2(buf, p, day);
+        buf[p++] = 'T';
+        p = write2(buf, p, secondOfDay / 3600);
+        buf[p++] = ':';
+        p = write2(buf, p, secondOfDay / 60 % 60);
+        buf[p++] = ':';
+        p = write2(buf, p, secondOfDay % 60);
+        if (nanos != 0) {
+            buf[p++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                p = writeDigits(buf, p, nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                p = writeDigits(buf, p, nanos / 1_000, 6);
+            } else {
+                p = writeDigits(buf, p, nanos, 9);
+            }
+        }
+        buf[p++] = 'Z';
+        return p;
+    }
+
+    /**
+     * Writes the timestamp, given as epoch milliseconds, into {@code buf} starting at {@code off}.
+     *
+     * @return offset just past the last written character
+     */
+    public static int formatEpochMilli(long epochMilli, char[] buf, int off) {
+        return format(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, buf, off);
+    }
+
+    /**
+     * The calling thread's scratch buffer of {@link #MAX_LENGTH} characters for the
+     * {@code format(..., char[], int)} variants. Copy the result out before the thread formats
+     * again, and do not keep a reference to the buffer.
+     */
+    public static char[] buffer() {
+        return BUFFER.get();
+    }
+
+    public static String format(OffsetDateTime dateTime) {
+        char[] buf = BUFFER.get();
+        return new String(buf, 0, format(dateTime.toEpochSecond(), dateTime.getNano(), buf, 0));
+    }
+
+    public static String formatEpochMilli(long epochMilli) {
+        char[] buf = BUFFER.get();
+        return new String(buf, 0, formatEpochMilli(epochMilli, buf, 0));
+    }
+
+    /**
+     * Parses an RFC 3339 {@code date-time}, or a {@code full-date} taken as midnight UTC.
+     * The result is normalized to UTC.
+     *
+     * @throws DateTimeException if the text is not a valid RFC 3339 timestamp
+     */
+    public static OffsetDateTime parse(CharSequence text) {
+        int end = parse(text, 0, true);
+        if (end < 0) {
+            throw new DateTimeException("Invalid RFC 3339 timestamp at index " + (-end - 1) + ": " + text);
+        }
+        return parsed(text, 0, end);
+    }
+
+    /**
+     * Parses a timestamp starting at {@code start}, allowing trailing text.
+     *
+     * @return index just past the timestamp, or {@code -(errorIndex + 1)} on failure
+     */
+    public static int parseTo(CharSequence text, int start) {
+        return parse(text, start, false);
+    }
+
+    /**
+     * Returns the value of a timestamp previously validated with {@link #parseTo}.
+     */
+    public static OffsetDateTime parsed(CharSequence text, int start, int end) {
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        LocalDate date = LocalDate.of(year, month, day);
+        if (end == start + 10) {
+            return OffsetDateTime.of(date, LocalTime.MIDNIGHT, ZoneOffset.UTC);
+        }
+        int p = start + 11;
+        LocalTime time = LocalTime.of(digits(text, p, 2), digits(text, p + 3, 2), digits(text, p + 6, 2), 0);
+        p += 8;
+        int nanos = 0;
+        if (text.charAt(p) == '.') {
+            p++;
+            int scale = 100_000_000;
+            while (isDigit(text.charAt(p))) {
+                nanos += (text.charAt(p++) - '0') * scale;
+                scale /= 10;
+            }
+        }
+        ZoneOffset offset = ZoneOffset.UTC;
+        char designator = text.charAt(p);
+        if (designator == '+' || designator == '-') {
+            int seconds = digits(text, p + 1, 2) * 3600 + digits(text, p + 4, 2) * 60;
+            offset = ZoneOffset.ofTotalSeconds(designator == '-' ? -seconds : seconds);
+        }
+        return OffsetDateTime.of(date, time.withNano(nanos), offset).withOffsetSameInstant(ZoneOffset.UTC);
+    }
+
+    private static int parse(CharSequence text, int start, boolean requireEnd) {
+        int len = text.length();
+        int p = start;
+        if (!digitsAt(text, p, 4) || !charAt(text, p + 4, '-') || !digitsAt(text, p + 5, 2)
+                || !charAt(text, p + 7, '-') || !digitsAt(text, p + 8, 2)) {
+            return -(p + 1);
+        }
+        p += 10;
+        if (p == len || (!requireEnd && text.charAt(p) != 'T' && text.charAt(p) != 't')) {
+            return validate(text, start, p);
+        }
+        char t = text.charAt(p);
+        if (t != 'T' && t != 't') {
+            return -(p + 1);
+        }
+        p++;
+        if (!digitsAt(text, p, 2) || !charAt(text, p + 2, ':') || !digitsAt(text, p + 3, 2)
+                || !charAt(text, p + 5, ':') || !digitsAt(text, p + 6, 2)) {
+            return -(p + 1);
+        }
+        p += 8;
+        if (p < len && text.charAt(p) == '.') {
+            int fractionStart = ++p;
+            while (p < len && isDigit(text.charAt(p))) {
+                p++;
+            }
+            if (p == fractionStart || p - fractionStart > 9) {
+                return -(p + 1);
+            }
+        }
+        if (p >= len) {
+            return -(p + 1);
+        }
+        char designator = text.charAt(p);
+        if (designator == 'Z' || designator == 'z') {
+            p++;
+        } else if (designator == '+' || designator == '-') {
+            if (!digitsAt(text, p + 1, 2) || !charAt(text, p + 3, ':') || !digitsAt(text, p + 4, 2)) {
+                return -(p + 1);
+            }
+            p += 6;
+        } else {
+            return -(p + 1);
+        }
+        if (requireEnd && p != len) {
+            return -(p + 1);
+        }
+        return validate(text, start, p);
+    }
+
+    private static int validate(CharSequence text, int start, int end) {
+        try {
+            parsed(text, start, end);
+            return end;
+        } catch (DateTimeException e) {
+            return -(start + 1);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean charAt(CharSequence text, int index, char expected) {
+        return index < text.length() && text.charAt(index) == expected;
+    }
+
+    private static boolean digitsAt(CharSequence text, int index, int count) {
+        if (index + count > text.length()) {
+            return false;
+        }
+        for (int i = index; i < index + count; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digits(CharSequence text, int index, int count) {
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int write2(char[] buf, int p, int value) {
+        buf[p] = (char) ('0' + value / 10);
+        buf[p + 1] = (char) ('0' + value % 10);
+        return p + 2;
+    }
+
+    private static int write4(char[] buf, int p, int value) {
+        write2(buf, p, value / 100);
+        return write2(buf, p + 2, value % 100);
+    }
+
+    private static int writeDigits(char[] buf, int p, int value, int count) {
+        for (int i = p + count - 1; i >= p; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return p + count;
+    }
+}
@@ -0,0 +1,122 @@
+package me.xstr.api.time;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * Jackson module writing {@link OffsetDateTime} and {@link Date} values as RFC 3339 strings
+ * through {@link RFC3339}, and reading {@link OffsetDateTime} back.
+ * <p>
+ * A value on the current {@link CachedClock} second is written from the clock's pre-encoded
+ * string. Other values are formatted into the thread's {@link RFC3339#buffer() scratch buffer}
+ * and copied into the generator's output buffer as characters, with no intermediate
+ * {@link String}.
+ */
+public class RFC3339Module extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public RFC3339Module(CachedClock clock) {
+        super(RFC3339Module.class.getName());
+        addSerializer(OffsetDateTime.class, new OffsetDateTimeSerializer(clock));
+        addSerializer(Date.class, new DateSerializer(clock));
+        addDeserializer(OffsetDateTime.class, new OffsetDateTimeDeserializer());
+    }
+
+    static void write(CachedClock clock, long epochSecond, int nanos, JsonGenerator gen) throws IOException {
+        if (nanos == 0) {
+            CachedClock.Tick tick = clock.cached(epochSecond);
+            if (tick != null) {
+                gen.writeString(tick.getSerialized());
+                return;
+            }
+        }
+        char[] buf = RFC3339.buffer();
+        gen.writeString(buf, 0, RFC3339.format(epochSecond, nanos, buf, 0));
+    }
+
+    static final class OffsetDateTimeSerializer extends StdScalarSerializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CachedClock clock;
+
+        OffsetDateTimeSerializer(CachedClock clock) {
+            super(OffsetDateTime.class);
+            this.clock = clock;
+        }
+
+        @Override
+        public void serialize(OffsetDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                gen.writeNumber(value.toInstant().toEpochMilli());
+                return;
+            }
+            write(clock, value.toEpochSecond(), value.getNano(), gen);
+        }
+    }
+
+    static final class DateSerializer extends StdScalarSerializer<Date> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CachedClock clock;
+
+        DateSerializer(CachedClock clock) {
+            super(Date.class);
+            this.clock = clock;
+        }
+
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            long epochMilli = value.getTime();
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                gen.writeNumber(epochMilli);
+                return;
+            }
+            write(clock, Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, gen);
+        }
+    }
+
+    static final class OffsetDateTimeDeserializer extends StdScalarDeserializer<OffsetDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        OffsetDateTimeDeserializer() {
+            super(OffsetDateTime.class);
+        }
+
+        @Override
+        public OffsetDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                return OffsetDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), ZoneOffset.UTC);
+            }
+            if (!p.hasToken(JsonToken.VALUE_STRING)) {
+                return (OffsetDateTime) ctxt.handleUnexpectedToken(OffsetDateTime.class, p);
+            }
+            String text = p.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return RFC3339.parse(text);
+            } catch (DateTimeException e) {
+                return (OffsetDateTime) ctxt.handleWeirdStringValue(OffsetDateTime.class, text, e.getMessage());
+            }
+        }
+    }
+}
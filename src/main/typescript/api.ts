@@ -14,6 +14,8 @@
 
 
 
+export * from './me/xstr/api/apis/batch-api';
 export * from './me/xstr/api/apis/health-api';
 export * from './me/xstr/api/apis/info-api';
+export * from './me/xstr/api/apis/metrics-api';
 
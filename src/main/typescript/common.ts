@@ -15,7 +15,7 @@
 
 import type { Configuration } from "./configuration";
 import type { RequestArgs } from "./base";
-import type { AxiosInstance, AxiosResponse } from 'axios';
+import type { AxiosInstance, AxiosResponse, RawAxiosRequestConfig } from 'axios';
 import { RequiredError } from "./base";
 
 /**
@@ -145,6 +145,13 @@ export const toPathString = function (url: URL) {
 export const createRequestFunction = function (axiosArgs: RequestArgs, globalAxios: AxiosInstance, BASE_PATH: string, configuration?: Configuration) {
     return <T = unknown, R = AxiosResponse<T>>(axios: AxiosInstance = globalAxios, basePath: string = BASE_PATH) => {
         const axiosRequestArgs = {...axiosArgs.options, url: (axios.defaults.baseURL ? '' : configuration?.basePath ?? basePath) + axiosArgs.url};
-        return axios.request<T, R>(axiosRequestArgs);
+        const limiter = configuration?.concurrencyLimiter;
+        const send = limiter
+            ? (args: RawAxiosRequestConfig) => limiter.run(() => axios.request<T, R>(args))
+            : (args: RawAxiosRequestConfig) => axios.request<T, R>(args);
+        if (configuration?.responseCache) {
+            return configuration.responseCache.request<T, R>(axios, axiosRequestArgs, send);
+        }
+        return send(axiosRequestArgs);
     };
 }
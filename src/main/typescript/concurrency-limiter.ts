@@ -0,0 +1,98 @@
+/* tslint:disable */
+/* eslint-disable */
+
+/**
+ * Options of a {@link ConcurrencyLimiter}.
+ * @export
+ */
+export interface ConcurrencyLimiterOptions {
+    /**
+     * Maximum number of requests in flight at once. Defaults to 32.
+     */
+    maxConcurrent?: number;
+    /**
+     * Maximum number of requests waiting for a slot; further requests fail with a
+     * {@link ConcurrencyLimitExceededError}. Defaults to 1000.
+     */
+    maxQueued?: number;
+}
+
+/**
+ * Thrown when a request finds the queue of a {@link ConcurrencyLimiter} full.
+ * @export
+ */
+export class ConcurrencyLimitExceededError extends Error {
+    constructor(public maxConcurrent: number, public maxQueued: number) {
+        super(`${maxConcurrent} requests in flight and ${maxQueued} queued`);
+        this.name = "ConcurrencyLimitExceededError"
+    }
+}
+
+/**
+ * Caps the requests a client has in flight, enabled by passing it as `concurrencyLimiter` of a
+ * {@link Configuration}. Requests over the cap wait in a FIFO queue of bounded depth instead of
+ * opening more sockets. Share one limiter between configurations to cap them together.
+ * @export
+ */
+export class ConcurrencyLimiter {
+    private readonly maxConcurrent: number;
+
+    private readonly maxQueued: number;
+
+    private running = 0;
+
+    private readonly queue: Array<() => void> = [];
+
+    constructor(options: ConcurrencyLimiterOptions = {}) {
+        this.maxConcurrent = options.maxConcurrent ?? 32;
+        this.maxQueued = options.maxQueued ?? 1000;
+    }
+
+    /**
+     * Number of requests in flight.
+     */
+    public get active(): number {
+        return this.running;
+    }
+
+    /**
+     * Number of requests waiting for a slot.
+     */
+    public get queued(): number {
+        return this.queue.length;
+    }
+
+    /**
+     * Runs `task` once a slot is free and settles as it does.
+     */
+    public run<T>(task: () => Promise<T>): Promise<T> {
+        if (this.running < this.maxConcurrent) {
+            return this.start(task);
+        }
+        if (this.queue.length >= this.maxQueued) {
+            return Promise.reject(new ConcurrencyLimitExceededError(this.maxConcurrent, this.maxQueued));
+        }
+        return new Promise<T>((resolve, reject) => {
+            this.queue.push(() => { this.start(task).then(resolve, reject); });
+        });
+    }
+
+    private start<T>(task: () => Promise<T>): Promise<T> {
+        this.running++;
+        let result: Promise<T>;
+        try {
+            result = task();
+        } catch (e) {
+            result = Promise.reject(e);
+        }
+        const release = () => {
+            this.running--;
+            const next = this.queue.shift();
+            if (next) {
+                next();
+            }
+        };
+        result.then(release, release);
+        return result;
+    }
+}
@@ -12,6 +12,9 @@
  * Do not edit the class manually.
  */
 
+import type { ConcurrencyLimiter } from "./concurrency-limiter";
+import type { ConnectionPool } from "./connection-pool";
+import type { ResponseCache } from "./response-cache";
 
 export interface ConfigurationParameters {
     apiKey?: string | Promise<string> | ((name: string) => string) | ((name: string) => Promise<string>);
@@ -22,6 +25,9 @@ export interface ConfigurationParameters {
     serverIndex?: number;
     baseOptions?: any;
     formDataCtor?: new () => any;
+    responseCache?: ResponseCache;
+    connectionPool?: ConnectionPool;
+    concurrencyLimiter?: ConcurrencyLimiter;
 }
 
 export class Configuration {
@@ -81,6 +87,30 @@ export class Configuration {
      * @type {new () => FormData}
      */
     formDataCtor?: new () => any;
+    /**
+     * Cache that dedupes concurrent identical GET calls and reuses their responses,
+     * revalidating them with If-None-Match. Without one, every call is sent.
+     *
+     * @type {ResponseCache}
+     * @memberof Configuration
+     */
+    responseCache?: ResponseCache;
+    /**
+     * Keep-alive agents from createConnectionPool, set as httpAgent and httpsAgent
+     * of every request unless baseOptions already sets them.
+     *
+     * @type {ConnectionPool}
+     * @memberof Configuration
+     */
+    connectionPool?: ConnectionPool;
+    /**
+     * Caps the requests in flight and queues the others. Without one, requests are
+     * sent as soon as they are made.
+     *
+     * @type {ConcurrencyLimiter}
+     * @memberof Configuration
+     */
+    concurrencyLimiter?: ConcurrencyLimiter;
 
     constructor(param: ConfigurationParameters = {}) {
         this.apiKey = param.apiKey;
@@ -90,12 +120,17 @@ export class Configuration {
         this.basePath = param.basePath;
         this.serverIndex = param.serverIndex;
         this.baseOptions = {
+            httpAgent: param.connectionPool?.httpAgent,
+            httpsAgent: param.connectionPool?.httpsAgent,
             ...param.baseOptions,
             headers: {
                 ...param.baseOptions?.headers,
             },
         };
         this.formDataCtor = param.formDataCtor;
+        this.responseCache = param.responseCache;
+        this.connectionPool = param.connectionPool;
+        this.concurrencyLimiter = param.concurrencyLimiter;
     }
 
     /**
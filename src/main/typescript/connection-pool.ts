@@ -0,0 +1,68 @@
+/* tslint:disable */
+/* eslint-disable */
+
+import * as http from 'http';
+import * as https from 'https';
+
+/**
+ * Options of {@link createConnectionPool}.
+ * @export
+ */
+export interface ConnectionPoolOptions {
+    /**
+     * Maximum number of sockets per host. Defaults to 64.
+     */
+    maxSockets?: number;
+    /**
+     * Maximum number of idle sockets kept open per host. Defaults to 16.
+     */
+    maxFreeSockets?: number;
+    /**
+     * Initial delay, in milliseconds, of TCP keep-alive probes on idle sockets. Defaults to 1000.
+     */
+    keepAliveMsecs?: number;
+    /**
+     * Socket inactivity timeout in milliseconds; idle sockets are closed after it. Defaults to 30000.
+     */
+    timeout?: number;
+}
+
+/**
+ * Keep-alive agents passed as `connectionPool` of a {@link Configuration}, which sets them as
+ * the `httpAgent` and `httpsAgent` of every request.
+ * @export
+ */
+export interface ConnectionPool {
+    httpAgent: http.Agent;
+    httpsAgent: https.Agent;
+}
+
+/**
+ * Creates keep-alive HTTP and HTTPS agents with bounded socket pools. Idle sockets are reused
+ * most recently used first, so a pool that is larger than the load needs lets the surplus time
+ * out. Node.js only: import it from `xstr-api-client/connection-pool`.
+ * @export
+ */
+export function createConnectionPool(options: ConnectionPoolOptions = {}): ConnectionPool {
+    const agentOptions = {
+        keepAlive: true,
+        keepAliveMsecs: options.keepAliveMsecs ?? 1000,
+        maxSockets: options.maxSockets ?? 64,
+        maxFreeSockets: options.maxFreeSockets ?? 16,
+        timeout: options.timeout ?? 30000,
+        scheduling: 'lifo' as const,
+    };
+    return {
+        httpAgent: new http.Agent(agentOptions),
+        httpsAgent: new https.Agent(agentOptions),
+    };
+}
+
+/**
+ * Closes every socket of the pool, e.g. on shutdown.
+ * @export
+ */
+export function destroyConnectionPool(pool: ConnectionPool): void {
+    pool.httpAgent.destroy();
+    pool.httpsAgent.destroy();
+}
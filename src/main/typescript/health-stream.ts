@@ -0,0 +1,171 @@
+/* tslint:disable */
+/* eslint-disable */
+
+import { BASE_PATH } from './base';
+import type { Configuration } from './configuration';
+import { HealthApiAxiosParamCreator } from './me/xstr/api/apis/health-api';
+import type { HealthResponse } from './me/xstr/api/models';
+
+/**
+ * Options of {@link subscribeHealth}.
+ * @export
+ */
+export interface HealthSubscriptionOptions {
+    /**
+     * Called with the current status on every (re)connect, then with every change.
+     */
+    onHealth: (health: HealthResponse) => void;
+    /**
+     * Called when the connection fails or ends. The subscription reconnects afterwards unless it
+     * was closed.
+     */
+    onError?: (error: unknown) => void;
+    /**
+     * Milliseconds without any data, events or heartbeats, after which the connection is
+     * considered dead and replaced. Defaults to 45000, three missed heartbeats.
+     */
+    idleTimeout?: number;
+    /**
+     * Delay in milliseconds before reconnecting, doubled after every failed attempt up to
+     * `maxReconnectDelay`. Defaults to 1000.
+     */
+    reconnectDelay?: number;
+    /**
+     * Defaults to 30000.
+     */
+    maxReconnectDelay?: number;
+    /**
+     * `fetch` implementation; defaults to the global one (Node.js 18+ and browsers).
+     */
+    fetch?: typeof fetch;
+}
+
+/**
+ * An open {@link subscribeHealth} subscription.
+ * @export
+ */
+export interface HealthSubscription {
+    /**
+     * Disconnects and stops reconnecting.
+     */
+    close(): void;
+}
+
+/**
+ * Subscribes to `GET /health/stream` instead of polling `HealthApi.getHealth`: `onHealth` is called
+ * with the current status on connect and then only when it changes. The stream is read with
+ * `fetch` rather than `EventSource`, so the `Configuration`'s bearer token and base options are
+ * sent as on any other call. A connection that errors, ends or stays silent for `idleTimeout` is
+ * replaced after a backoff.
+ * @export
+ */
+export function subscribeHealth(options: HealthSubscriptionOptions, configuration?: Configuration): HealthSubscription {
+    const send = options.fetch ?? fetch;
+    const idleTimeout = options.idleTimeout ?? 45000;
+    const reconnectDelay = options.reconnectDelay ?? 1000;
+    const maxReconnectDelay = options.maxReconnectDelay ?? 30000;
+    let closed = false;
+    let failures = 0;
+    let stop: (() => void) | undefined;
+    let reconnect: ReturnType<typeof setTimeout> | undefined;
+
+    const connect = async () => {
+        const abort = new AbortController();
+        let reader: ReadableStreamDefaultReader<Uint8Array> | undefined;
+        // Cancelling the reader as well ends a pending read whatever the fetch implementation
+        const disconnect = () => {
+            abort.abort();
+            reader?.cancel().catch(() => undefined);
+        };
+        stop = disconnect;
+        let idle: ReturnType<typeof setTimeout> | undefined;
+        const touch = () => {
+            clearTimeout(idle);
+            idle = setTimeout(disconnect, idleTimeout);
+        };
+        try {
+            touch();
+            const args = await HealthApiAxiosParamCreator(configuration).streamHealth();
+            const response = await send((configuration?.basePath ?? BASE_PATH) + args.url, {
+                method: 'GET',
+                headers: { ...toHeaders(args.options.headers), Accept: 'text/event-stream' },
+                signal: abort.signal,
+            });
+            if (!response.ok || !response.body) {
+                throw new Error(`Health stream failed with status ${response.status}`);
+            }
+            reader = response.body.getReader();
+            const decoder = new TextDecoder();
+            let buffer = '';
+            for (;;) {
+                const { done, value } = await reader.read();
+                if (done) {
+                    break;
+                }
+                touch();
+                buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n');
+                let end: number;
+                while ((end = buffer.indexOf('\n\n')) >= 0) {
+                    const health = parseEvent(buffer.slice(0, end));
+                    buffer = buffer.slice(end + 2);
+                    if (health) {
+                        failures = 0;
+                        options.onHealth(health);
+                    }
+                }
+            }
+            throw new Error('Health stream ended');
+        } catch (error) {
+            if (!closed) {
+                options.onError?.(error);
+            }
+        } finally {
+            clearTimeout(idle);
+        }
+        if (!closed) {
+            reconnect = setTimeout(connect, Math.min(maxReconnectDelay, reconnectDelay * 2 ** failures++));
+        }
+    };
+
+    connect();
+    return {
+        close() {
+            closed = true;
+            clearTimeout(reconnect);
+            stop?.();
+        },
+    };
+}
+
+/**
+ * `HealthResponse` of a `health` event, or `undefined` for heartbeats and other events.
+ */
+function parseEvent(block: string): HealthResponse | undefined {
+    let name = 'message';
+    const data: string[] = [];
+    for (const line of block.split('\n')) {
+        if (line.startsWith(':')) {
+            continue;
+        }
+        const colon = line.indexOf(':');
+        const field = colon < 0 ? line : line.slice(0, colon);
+        const value = colon < 0 ? '' : line.slice(line[colon + 1] === ' ' ? colon + 2 : colon + 1);
+        if (field === 'event') {
+            name = value;
+        } else if (field === 'data') {
+            data.push(value);
+        }
+    }
+    return name === 'health' && data.length > 0 ? JSON.parse(data.join('\n')) : undefined;
+}
+
+function toHeaders(headers: unknown): Record<string, string> {
+    const result: Record<string, string> = {};
+    const source = (headers ?? {}) as Record<string, unknown>;
+    for (const name of Object.keys(source)) {
+        if (source[name] !== undefined && source[name] !== null) {
+            result[name] = String(source[name]);
+        }
+    }
+    return result;
+}
@@ -14,5 +14,9 @@
 
 
 export * from "./api";
+export * from "./concurrency-limiter";
 export * from "./configuration";
+export * from "./health-stream";
+export type { ConnectionPool, ConnectionPoolOptions } from "./connection-pool";
+export * from "./response-cache";
 export * from "./me/xstr/api/models";
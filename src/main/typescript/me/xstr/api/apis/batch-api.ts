@@ -0,0 +1,159 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * XStr.me API
+ * OpenAPI specification for XStr.me services.  This API provides endpoints for managing and accessing XStr.me functionality. 
+ *
+ * The version of the OpenAPI document: 0.0.1-alpha
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+import type { Configuration } from '../../../../configuration';
+import type { AxiosPromise, AxiosInstance, RawAxiosRequestConfig } from 'axios';
+import globalAxios from 'axios';
+// Some imports not used depending on template conditions
+// @ts-ignore
+import { DUMMY_BASE_URL, assertParamExists, setApiKeyToObject, setBasicAuthToObject, setBearerAuthToObject, setOAuthToObject, setSearchParams, serializeDataIfNeeded, toPathString, createRequestFunction } from '../../../../common';
+// @ts-ignore
+import { BASE_PATH, COLLECTION_FORMATS, type RequestArgs, BaseAPI, RequiredError, operationServerMap } from '../../../../base';
+// @ts-ignore
+import type { BatchRequest } from '../../../../me/xstr/api/models';
+// @ts-ignore
+import type { BatchResponse } from '../../../../me/xstr/api/models';
+// @ts-ignore
+import type { ErrorResponse } from '../../../../me/xstr/api/models';
+/**
+ * BatchApi - axios parameter creator
+ * @export
+ */
+export const BatchApiAxiosParamCreator = function (configuration?: Configuration) {
+    return {
+        /**
+         * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+         * @summary Execute several operations in one request
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        executeBatch: async (batchRequest: BatchRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'batchRequest' is not null or undefined
+            assertParamExists('executeBatch', 'batchRequest', batchRequest)
+            const localVarPath = `/batch`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication BearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(batchRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+    }
+};
+
+/**
+ * BatchApi - functional programming interface
+ * @export
+ */
+export const BatchApiFp = function(configuration?: Configuration) {
+    const localVarAxiosParamCreator = BatchApiAxiosParamCreator(configuration)
+    return {
+        /**
+         * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+         * @summary Execute several operations in one request
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async executeBatch(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResponse>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.executeBatch(batchRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['BatchApi.executeBatch']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+    }
+};
+
+/**
+ * BatchApi - factory interface
+ * @export
+ */
+export const BatchApiFactory = function (configuration?: Configuration, basePath?: string, axios?: AxiosInstance) {
+    const localVarFp = BatchApiFp(configuration)
+    return {
+        /**
+         * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+         * @summary Execute several operations in one request
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        executeBatch(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResponse> {
+            return localVarFp.executeBatch(batchRequest, options).then((request) => request(axios, basePath));
+        },
+    };
+};
+
+/**
+ * BatchApi - interface
+ * @export
+ * @interface BatchApi
+ */
+export interface BatchApiInterface {
+    /**
+     * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+     * @summary Execute several operations in one request
+     * @param {BatchRequest} batchRequest 
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof BatchApiInterface
+     */
+    executeBatch(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResponse>;
+
+}
+
+/**
+ * BatchApi - object-oriented interface
+ * @export
+ * @class BatchApi
+ * @extends {BaseAPI}
+ */
+export class BatchApi extends BaseAPI implements BatchApiInterface {
+    /**
+     * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+     * @summary Execute several operations in one request
+     * @param {BatchRequest} batchRequest 
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof BatchApi
+     */
+    public executeBatch(batchRequest: BatchRequest, options?: RawAxiosRequestConfig) {
+        return BatchApiFp(this.configuration).executeBatch(batchRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+}
+
@@ -56,6 +56,40 @@ export const HealthApiAxiosParamCreator = function (configuration?: Configuratio
 
 
     
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+         * @summary Stream health status changes
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamHealth: async (options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/health/stream`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication BearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
             setSearchParams(localVarUrlObj, localVarQueryParameter);
             let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
             localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
@@ -87,6 +121,18 @@ export const HealthApiFp = function(configuration?: Configuration) {
             const localVarOperationServerBasePath = operationServerMap['HealthApi.getHealth']?.[localVarOperationServerIndex]?.url;
             return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
         },
+        /**
+         * Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+         * @summary Stream health status changes
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async streamHealth(options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<string>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.streamHealth(options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['HealthApi.streamHealth']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
     }
 };
 
@@ -106,6 +152,15 @@ export const HealthApiFactory = function (configuration?: Configuration, basePat
         getHealth(options?: RawAxiosRequestConfig): AxiosPromise<HealthResponse> {
             return localVarFp.getHealth(options).then((request) => request(axios, basePath));
         },
+        /**
+         * Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+         * @summary Stream health status changes
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        streamHealth(options?: RawAxiosRequestConfig): AxiosPromise<string> {
+            return localVarFp.streamHealth(options).then((request) => request(axios, basePath));
+        },
     };
 };
 
@@ -124,6 +179,15 @@ export interface HealthApiInterface {
      */
     getHealth(options?: RawAxiosRequestConfig): AxiosPromise<HealthResponse>;
 
+    /**
+     * Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     * @summary Stream health status changes
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof HealthApiInterface
+     */
+    streamHealth(options?: RawAxiosRequestConfig): AxiosPromise<string>;
+
 }
 
 /**
@@ -143,5 +207,16 @@ export class HealthApi extends BaseAPI implements HealthApiInterface {
     public getHealth(options?: RawAxiosRequestConfig) {
         return HealthApiFp(this.configuration).getHealth(options).then((request) => request(this.axios, this.basePath));
     }
+
+    /**
+     * Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     * @summary Stream health status changes
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof HealthApi
+     */
+    public streamHealth(options?: RawAxiosRequestConfig) {
+        return HealthApiFp(this.configuration).streamHealth(options).then((request) => request(this.axios, this.basePath));
+    }
 }
 
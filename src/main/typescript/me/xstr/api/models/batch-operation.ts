@@ -0,0 +1,42 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * XStr.me API
+ * OpenAPI specification for XStr.me services.  This API provides endpoints for managing and accessing XStr.me functionality. 
+ *
+ * The version of the OpenAPI document: 0.0.1-alpha
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+
+/**
+ * 
+ * @export
+ * @interface BatchOperation
+ */
+export interface BatchOperation {
+    /**
+     * Client-chosen identifier, echoed in the result
+     * @type {string}
+     * @memberof BatchOperation
+     */
+    'id'?: string;
+    /**
+     * Operation to execute, e.g. getHealth
+     * @type {string}
+     * @memberof BatchOperation
+     */
+    'operationId': string;
+    /**
+     * Request headers for this operation, e.g. Accept or If-None-Match
+     * @type {{ [key: string]: string; }}
+     * @memberof BatchOperation
+     */
+    'headers'?: { [key: string]: string; };
+}
+
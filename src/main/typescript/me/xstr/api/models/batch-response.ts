@@ -0,0 +1,33 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * XStr.me API
+ * OpenAPI specification for XStr.me services.  This API provides endpoints for managing and accessing XStr.me functionality. 
+ *
+ * The version of the OpenAPI document: 0.0.1-alpha
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+// May contain unused imports in some cases
+// @ts-ignore
+import type { BatchResult } from './batch-result';
+
+/**
+ * 
+ * @export
+ * @interface BatchResponse
+ */
+export interface BatchResponse {
+    /**
+     * 
+     * @type {Array<BatchResult>}
+     * @memberof BatchResponse
+     */
+    'results': Array<BatchResult>;
+}
+
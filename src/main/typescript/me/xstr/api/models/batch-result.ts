@@ -0,0 +1,63 @@
+/* tslint:disable */
+/* eslint-disable */
+/**
+ * XStr.me API
+ * OpenAPI specification for XStr.me services.  This API provides endpoints for managing and accessing XStr.me functionality. 
+ *
+ * The version of the OpenAPI document: 0.0.1-alpha
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+// May contain unused imports in some cases
+// @ts-ignore
+import type { ErrorResponse } from './error-response';
+
+/**
+ * 
+ * @export
+ * @interface BatchResult
+ */
+export interface BatchResult {
+    /**
+     * Identifier from the batch operation, if any
+     * @type {string}
+     * @memberof BatchResult
+     */
+    'id'?: string;
+    /**
+     * Operation that was executed
+     * @type {string}
+     * @memberof BatchResult
+     */
+    'operationId': string;
+    /**
+     * HTTP status code of the operation
+     * @type {number}
+     * @memberof BatchResult
+     */
+    'status': number;
+    /**
+     * Response headers of the operation, e.g. ETag or Cache-Control
+     * @type {{ [key: string]: string; }}
+     * @memberof BatchResult
+     */
+    'headers'?: { [key: string]: string; };
+    /**
+     * Response body; JSON bodies are embedded as-is, others as a string
+     * @type {any}
+     * @memberof BatchResult
+     */
+    'body'?: any;
+    /**
+     * 
+     * @type {ErrorResponse}
+     * @memberof BatchResult
+     */
+    'error'?: ErrorResponse;
+}
+
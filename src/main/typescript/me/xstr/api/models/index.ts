@@ -1,3 +1,7 @@
+export * from './batch-operation';
+export * from './batch-request';
+export * from './batch-response';
+export * from './batch-result';
 export * from './error-response';
 export * from './health-response';
 export * from './version-response';
@@ -0,0 +1,136 @@
+/* tslint:disable */
+/* eslint-disable */
+
+import type { AxiosInstance, AxiosResponse, RawAxiosRequestConfig } from 'axios';
+
+/**
+ * Options of a {@link ResponseCache}.
+ * @export
+ */
+export interface ResponseCacheOptions {
+    /**
+     * How long, in milliseconds, a cached response is served without asking the server. When
+     * not set, the `max-age` of the response's `Cache-Control` header is used, and without one
+     * every call revalidates with `If-None-Match`.
+     */
+    ttl?: number;
+    /**
+     * Maximum number of cached responses; the least recently used one is evicted first.
+     * Defaults to 256.
+     */
+    maxEntries?: number;
+}
+
+interface CacheEntry {
+    response: AxiosResponse;
+    etag?: string;
+    expiresAt: number;
+}
+
+/**
+ * Client-side cache for `GET` calls, enabled by passing it as `responseCache` of a
+ * {@link Configuration}. Concurrent identical calls share one request. Successful responses
+ * are reused while fresh and then revalidated with `If-None-Match`: a `304` renews the cached
+ * response, which is returned again. Calls are identical when URL and request headers are equal.
+ * Callers of a shared or cached call get the same response object and should not mutate it.
+ * @export
+ */
+export class ResponseCache {
+    private readonly ttl?: number;
+
+    private readonly maxEntries: number;
+
+    private readonly entries = new Map<string, CacheEntry>();
+
+    private readonly inFlight = new Map<string, Promise<AxiosResponse>>();
+
+    constructor(options: ResponseCacheOptions = {}) {
+        this.ttl = options.ttl;
+        this.maxEntries = options.maxEntries ?? 256;
+    }
+
+    /**
+     * Sends `config` with `send`, by default `axios.request`, unless a cached response or an
+     * identical call in flight can answer it. Calls other than `GET` always go to the server.
+     */
+    public request<T = unknown, R = AxiosResponse<T>>(axios: AxiosInstance, config: RawAxiosRequestConfig,
+                                                       send: (config: RawAxiosRequestConfig) => Promise<R> = c => axios.request<T, R>(c)): Promise<R> {
+        if ((config.method ?? 'GET').toUpperCase() !== 'GET') {
+            return send(config);
+        }
+        const key = cacheKey(axios, config);
+        const entry = this.entries.get(key);
+        if (entry && entry.expiresAt > Date.now()) {
+            this.entries.delete(key);
+            this.entries.set(key, entry);
+            return Promise.resolve(entry.response as unknown as R);
+        }
+        let pending = this.inFlight.get(key);
+        if (!pending) {
+            pending = this.fetch(send as unknown as (config: RawAxiosRequestConfig) => Promise<AxiosResponse>, config, key, entry);
+            this.inFlight.set(key, pending);
+            const done = () => { this.inFlight.delete(key); };
+            pending.then(done, done);
+        }
+        return pending as unknown as Promise<R>;
+    }
+
+    /**
+     * Drops every cached response; calls in flight are not affected.
+     */
+    public clear(): void {
+        this.entries.clear();
+    }
+
+    private async fetch(send: (config: RawAxiosRequestConfig) => Promise<AxiosResponse>, config: RawAxiosRequestConfig, key: string,
+                        entry?: CacheEntry): Promise<AxiosResponse> {
+        let request = config;
+        if (entry?.etag) {
+            const validateStatus = config.validateStatus;
+            request = {
+                ...config,
+                headers: { ...(config.headers as object), 'If-None-Match': entry.etag } as RawAxiosRequestConfig['headers'],
+                validateStatus: (status: number) => status === 304
+                    || (validateStatus ? validateStatus(status) : status >= 200 && status < 300),
+            };
+        }
+        const response = await send(request);
+        if (entry && response.status === 304) {
+            this.store(key, entry.response, header(response, 'etag') ?? entry.etag, response);
+            return entry.response;
+        }
+        if (response.status === 200) {
+            this.store(key, response, header(response, 'etag'), response);
+        }
+        return response;
+    }
+
+    private store(key: string, cached: AxiosResponse, etag: string | undefined, response: AxiosResponse): void {
+        this.entries.delete(key);
+        const cacheControl = header(response, 'cache-control') ?? header(cached, 'cache-control') ?? '';
+        if (/(^|,)\s*no-store\s*(,|$)/i.test(cacheControl)) {
+            return;
+        }
+        const maxAge = /(^|,)\s*max-age\s*=\s*(\d+)/i.exec(cacheControl);
+        const ttl = this.ttl ?? (maxAge ? Number(maxAge[2]) * 1000 : 0);
+        if (ttl <= 0 && !etag) {
+            return;
+        }
+        this.entries.set(key, { response: cached, etag, expiresAt: Date.now() + ttl });
+        if (this.entries.size > this.maxEntries) {
+            this.entries.delete(this.entries.keys().next().value);
+        }
+    }
+}
+
+function cacheKey(axios: AxiosInstance, config: RawAxiosRequestConfig): string {
+    const headers: { [name: string]: unknown } = {};
+    const source = (config.headers ?? {}) as { [name: string]: unknown };
+    Object.keys(source).sort().forEach(name => { headers[name.toLowerCase()] = source[name]; });
+    return JSON.stringify([config.baseURL ?? axios.defaults?.baseURL ?? '', config.url, config.params ?? null, headers]);
+}
+
+function header(response: AxiosResponse, name: string): string | undefined {
+    const value = response.headers?.[name];
+    return value == null ? undefined : String(value);
+}
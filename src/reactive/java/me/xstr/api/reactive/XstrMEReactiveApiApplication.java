@@ -0,0 +1,36 @@
+package me.xstr.api.reactive;
+
+import me.xstr.api.configuration.HealthConfiguration;
+import me.xstr.api.configuration.JacksonConfiguration;
+import me.xstr.api.configuration.MetricsConfiguration;
+import me.xstr.api.service.HealthSnapshotService;
+import me.xstr.api.service.VersionService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.FullyQualifiedAnnotationBeanNameGenerator;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * WebFlux/Netty variant of {@link me.xstr.api.XstrMEApiApplication}, built with the
+ * {@code reactive} profile.
+ * <p>
+ * Only {@code me.xstr.api.reactive} is scanned. The servlet controllers and MVC configuration stay
+ * out, and the shared services that pre-encode the response bodies are imported explicitly.
+ */
+@SpringBootApplication(
+    scanBasePackages = "me.xstr.api.reactive",
+    nameGenerator = FullyQualifiedAnnotationBeanNameGenerator.class
+)
+@Import({JacksonConfiguration.class, HealthConfiguration.class, MetricsConfiguration.class,
+        HealthSnapshotService.class, VersionService.class})
+@EnableScheduling
+public class XstrMEReactiveApiApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(XstrMEReactiveApiApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args);
+    }
+}
@@ -0,0 +1,18 @@
+package me.xstr.api.reactive.configuration;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Pins the reactive variant to Reactor Netty. Tomcat stays on the classpath for the servlet
+ * variant, and Spring Boot would otherwise pick it for reactive applications too.
+ */
+@Configuration
+public class NettyServerConfiguration {
+
+    @Bean(name = "me.xstr.api.reactive.configuration.NettyServerConfiguration.nettyReactiveWebServerFactory")
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,59 @@
+package me.xstr.api.reactive.configuration;
+
+import io.swagger.v3.oas.annotations.Operation;
+import me.xstr.api.controller.AcceptHeaderNegotiator;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.reactive.controller.OperationMetricsWebFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of the servlet metrics setup: fills {@link OperationRoutes} from the reactive
+ * handler mappings and records every operation through {@link OperationMetricsWebFilter}.
+ */
+@Configuration
+public class ReactiveMetricsConfiguration {
+
+    private final OperationRoutes operationRoutes = new OperationRoutes();
+
+    @Bean(name = "me.xstr.api.reactive.configuration.ReactiveMetricsConfiguration.operationMetricsWebFilter")
+    OperationMetricsWebFilter operationMetricsWebFilter(MetricsRegistry metricsRegistry) {
+        return new OperationMetricsWebFilter(operationRoutes, metricsRegistry);
+    }
+
+    @EventListener
+    public void registerOperations(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        List<OperationRoutes.Route> routes = new ArrayList<>();
+        for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+                Operation operation = entry.getValue().getMethodAnnotation(Operation.class);
+                if (operation == null || operation.operationId().isEmpty()) {
+                    continue;
+                }
+                RequestMappingInfo info = entry.getKey();
+                AcceptHeaderNegotiator negotiator = AcceptHeaderNegotiator.register(operation.operationId(),
+                        info.getProducesCondition().getProducibleMediaTypes());
+                for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                    for (PathPattern pattern : info.getPatternsCondition().getPatterns()) {
+                        routes.add(new OperationRoutes.Route(operation.operationId(), method.name(), pattern, negotiator));
+                    }
+                }
+            }
+        }
+        operationRoutes.register(routes);
+    }
+}
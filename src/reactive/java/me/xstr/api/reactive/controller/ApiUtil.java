@@ -0,0 +1,35 @@
+package me.xstr.api.reactive.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import me.xstr.api.controller.AcceptHeaderNegotiator;
+import me.xstr.api.controller.ModelFormat;
+import org.springframework.core.io.buffer.DefaultDataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+public class ApiUtil {
+    public static Mono<Void> getExampleResponse(ServerWebExchange exchange, MediaType mediaType, String example) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setContentType(mediaType);
+
+        byte[] exampleBytes = example.getBytes(StandardCharsets.UTF_8);
+        DefaultDataBuffer data = new DefaultDataBufferFactory().wrap(exampleBytes);
+        return response.writeWith(Mono.just(data));
+    }
+
+    /**
+     * Negotiates the {@link ModelFormat} of an operation that produces every format, JSON when
+     * nothing else is acceptable.
+     */
+    public static ModelFormat negotiateFormat(ServerWebExchange exchange, String operationId) {
+        List<String> accept = exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT);
+        MediaType mediaType = AcceptHeaderNegotiator.forOperation(operationId, "application/json", "application/cbor",
+                "application/x-jackson-smile").negotiate(accept == null ? null : String.join(",", accept));
+        return ModelFormat.of(mediaType);
+    }
+}
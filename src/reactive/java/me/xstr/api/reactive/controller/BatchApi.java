@@ -0,0 +1,87 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.reactive.controller;
+
+import me.xstr.api.model.BatchRequest;
+import me.xstr.api.model.BatchResponse;
+import me.xstr.api.model.ErrorResponse;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import org.springframework.http.codec.multipart.Part;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+@Validated
+@Tag(name = "Batch", description = "Several operations in one round trip")
+public interface BatchApi {
+
+    default BatchApiDelegate getDelegate() {
+        return new BatchApiDelegate() {};
+    }
+
+    /**
+     * POST /batch : Execute several operations in one request
+     * Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. 
+     *
+     * @param batchRequest  (required)
+     * @return One result per requested operation (status code 200)
+     *         or Malformed batch request (status code 400)
+     */
+    @Operation(
+        operationId = "executeBatch",
+        summary = "Execute several operations in one request",
+        description = "Runs the listed operations concurrently and returns one result per operation, in request order. Only operations without parameters can be batched. Results are streamed: each one is written as soon as it and all earlier ones have completed. ",
+        tags = { "Batch" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "One result per requested operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = BatchResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Malformed batch request", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "BearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = "/batch",
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    default Mono<ResponseEntity<BatchResponse>> executeBatch(
+        @Parameter(name = "BatchRequest", description = "", required = true) @Valid @RequestBody Mono<BatchRequest> batchRequest,
+        @Parameter(hidden = true) final ServerWebExchange exchange
+    ) {
+        return getDelegate().executeBatch(batchRequest, exchange);
+    }
+
+}
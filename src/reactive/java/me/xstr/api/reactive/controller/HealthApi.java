@@ -0,0 +1,120 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.reactive.controller;
+
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import org.springframework.http.codec.multipart.Part;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+@Validated
+@Tag(name = "Health", description = "Health check operations")
+public interface HealthApi {
+
+    default HealthApiDelegate getDelegate() {
+        return new HealthApiDelegate() {};
+    }
+
+    /**
+     * GET /health : Health check endpoint
+     * Returns the health status of the API
+     *
+     * @return API is healthy (status code 200)
+     *         or API is unhealthy (status code 503)
+     */
+    @Operation(
+        operationId = "getHealth",
+        summary = "Health check endpoint",
+        description = "Returns the health status of the API",
+        tags = { "Health" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "API is healthy", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = HealthResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = HealthResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = HealthResponse.class))
+            }),
+            @ApiResponse(responseCode = "503", description = "API is unhealthy", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = ErrorResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = ErrorResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "BearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/health",
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
+    )
+    
+    default Mono<ResponseEntity<HealthResponse>> getHealth(
+        @Parameter(hidden = true) final ServerWebExchange exchange
+    ) {
+        return getDelegate().getHealth(exchange);
+    }
+
+
+    /**
+     * GET /health/stream : Stream health status changes
+     * Server-Sent Events stream of the API health, to use instead of polling &#x60;/health&#x60;. A &#x60;health&#x60; event with a &#x60;HealthResponse&#x60; as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     *
+     * @return Stream of health events (status code 200)
+     */
+    @Operation(
+        operationId = "streamHealth",
+        summary = "Stream health status changes",
+        description = "Server-Sent Events stream of the API health, to use instead of polling `/health`. A `health` event with a `HealthResponse` as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. ",
+        tags = { "Health" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Stream of health events", content = {
+                @Content(mediaType = "text/event-stream", schema = @Schema(implementation = String.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "BearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/health/stream",
+        produces = { "text/event-stream" }
+    )
+    
+    default Mono<ResponseEntity<String>> streamHealth(
+        @Parameter(hidden = true) final ServerWebExchange exchange
+    ) {
+        return getDelegate().streamHealth(exchange);
+    }
+
+}
@@ -1,4 +1,4 @@
-package me.xstr.api.controller;
+package me.xstr.api.reactive.controller;
 
 import me.xstr.api.model.ErrorResponse;
 import me.xstr.api.model.HealthResponse;
@@ -26,19 +26,19 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
 @Controller
 @RequestMapping("${openapi.xStrMe.base-path:/v1}")
-public class HealthControllerController implements HealthController {
+public class HealthApiController implements HealthApi {
 
-    private final HealthControllerDelegate delegate;
+    private final HealthApiDelegate delegate;
 
-    public HealthControllerController(@Autowired(required = false) HealthControllerDelegate delegate) {
-        this.delegate = Optional.ofNullable(delegate).orElse(new HealthControllerDelegate() {});
+    public HealthApiController(@Autowired(required = false) HealthApiDelegate delegate) {
+        this.delegate = Optional.ofNullable(delegate).orElse(new HealthApiDelegate() {});
     }
 
     @Override
-    public HealthControllerDelegate getDelegate() {
+    public HealthApiDelegate getDelegate() {
         return delegate;
     }
 
@@ -0,0 +1,69 @@
+package me.xstr.api.reactive.controller;
+
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import org.springframework.http.codec.multipart.Part;
+
+import jakarta.validation.constraints.*;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+/**
+ * A delegate to be called by the {@link HealthApiController}}.
+ * Implement this interface with a {@link org.springframework.stereotype.Service} annotated class.
+ */
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+public interface HealthApiDelegate {
+
+    default Optional<NativeWebRequest> getRequest() {
+        return Optional.empty();
+    }
+
+    /**
+     * GET /health : Health check endpoint
+     * Returns the health status of the API
+     *
+     * @return API is healthy (status code 200)
+     *         or API is unhealthy (status code 503)
+     * @see HealthApi#getHealth
+     */
+    default Mono<ResponseEntity<HealthResponse>> getHealth(ServerWebExchange exchange) {
+        Mono<Void> result = Mono.empty();
+        exchange.getResponse().setStatusCode(HttpStatus.NOT_IMPLEMENTED);
+        for (MediaType mediaType : exchange.getRequest().getHeaders().getAccept()) {
+            if (mediaType.isCompatibleWith(MediaType.valueOf("application/json"))) {
+                String exampleString = "{ \"status\" : \"healthy\", \"timestamp\" : \"2025-05-27T10:30:00Z\", \"version\" : \"0.0.1-alpha\", \"uptime\" : \"2d 5h 30m\" }";
+                result = ApiUtil.getExampleResponse(exchange, MediaType.valueOf("application/json"), exampleString);
+                break;
+            }
+        }
+        return result.then(Mono.empty());
+
+    }
+
+    /**
+     * GET /health/stream : Stream health status changes
+     * Server-Sent Events stream of the API health, to use instead of polling &#x60;/health&#x60;. A &#x60;health&#x60; event with a &#x60;HealthResponse&#x60; as data is sent on connect and then whenever the status changes. In between, a comment line is sent as a heartbeat every 15 seconds. A subscriber that reads slowly only receives the latest status, and one that stops reading is disconnected. 
+     *
+     * @return Stream of health events (status code 200)
+     * @see HealthApi#streamHealth
+     */
+    default Mono<ResponseEntity<String>> streamHealth(ServerWebExchange exchange) {
+        Mono<Void> result = Mono.empty();
+        exchange.getResponse().setStatusCode(HttpStatus.NOT_IMPLEMENTED);
+        return result.then(Mono.empty());
+
+    }
+
+}
@@ -3,7 +3,7 @@
  * https://openapi-generator.tech
  * Do not edit the class manually.
  */
-package me.xstr.api.controller;
+package me.xstr.api.reactive.controller;
 
 import me.xstr.api.model.VersionResponse;
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
@@ -22,6 +22,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import org.springframework.http.codec.multipart.Part;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
@@ -33,10 +37,10 @@ import jakarta.annotation.Generated;
 @Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
 @Validated
 @Tag(name = "Info", description = "API information operations")
-public interface InfoController {
+public interface InfoApi {
 
-    default InfoControllerDelegate getDelegate() {
-        return new InfoControllerDelegate() {};
+    default InfoApiDelegate getDelegate() {
+        return new InfoApiDelegate() {};
     }
 
     /**
@@ -52,7 +56,9 @@ public interface InfoController {
         tags = { "Info" },
         responses = {
             @ApiResponse(responseCode = "200", description = "API version information", content = {
-                @Content(mediaType = "application/json", schema = @Schema(implementation = VersionResponse.class))
+                @Content(mediaType = "application/json", schema = @Schema(implementation = VersionResponse.class)),
+                @Content(mediaType = "application/cbor", schema = @Schema(implementation = VersionResponse.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = VersionResponse.class))
             })
         },
         security = {
@@ -62,13 +68,13 @@ public interface InfoController {
     @RequestMapping(
         method = RequestMethod.GET,
         value = "/version",
-        produces = { "application/json" }
+        produces = { "application/json", "application/cbor", "application/x-jackson-smile" }
     )
     
-    default ResponseEntity<VersionResponse> getVersion(
-        
+    default Mono<ResponseEntity<VersionResponse>> getVersion(
+        @Parameter(hidden = true) final ServerWebExchange exchange
     ) {
-        return getDelegate().getVersion();
+        return getDelegate().getVersion(exchange);
     }
 
 }
@@ -1,4 +1,4 @@
-package me.xstr.api.controller;
+package me.xstr.api.reactive.controller;
 
 import me.xstr.api.model.VersionResponse;
 
@@ -25,19 +25,19 @@ import java.util.Map;
 import java.util.Optional;
 import jakarta.annotation.Generated;
 
-@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen")
 @Controller
 @RequestMapping("${openapi.xStrMe.base-path:/v1}")
-public class InfoControllerController implements InfoController {
+public class InfoApiController implements InfoApi {
 
-    private final InfoControllerDelegate delegate;
+    private final InfoApiDelegate delegate;
 
-    public InfoControllerController(@Autowired(required = false) InfoControllerDelegate delegate) {
-        this.delegate = Optional.ofNullable(delegate).orElse(new InfoControllerDelegate() {});
+    public InfoApiController(@Autowired(required = false) InfoApiDelegate delegate) {
+        this.delegate = Optional.ofNullable(delegate).orElse(new InfoApiDelegate() {});
     }
 
     @Override
-    public InfoControllerDelegate getDelegate() {
+    public InfoApiDelegate getDelegate() {
         return delegate;
     }
 
@@ -0,0 +1,77 @@
+/**
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.13.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package me.xstr.api.reactive.controller;
+
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import org.springframework.http.codec.multipart.Part;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.13.0")
+@Validated
+@Tag(name = "Metrics", description = "Operational metrics")
+public interface MetricsApi {
+
+    default MetricsApiDelegate getDelegate() {
+        return new MetricsApiDelegate() {};
+    }
+
+    /**
+     * GET /metrics : Get operation metrics
+     * Returns request counts by status code, in-flight requests and latency histograms for every operation, in the Prometheus text exposition format (version 0.0.4). 
+     *
+     * @return Metrics in Prometheus text format (status code 200)
+     */
+    @Operation(
+        operationId = "getMetrics",
+        summary = "Get operation metrics",
+        description = "Returns request counts by status code, in-flight requests and latency histograms for every operation, in the Prometheus text exposition format (version 0.0.4). ",
+        tags = { "Metrics" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Metrics in Prometheus text format", content = {
+                @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "BearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = "/metrics",
+        produces = { "text/plain" }
+    )
+    
+    default Mono<ResponseEntity<String>> getMetrics(
+        @Parameter(hidden = true) final ServerWebExchange exchange
+    ) {
+        return getDelegate().getMetrics(exchange);
+    }
+
+}
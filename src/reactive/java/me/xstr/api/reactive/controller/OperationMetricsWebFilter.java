@@ -0,0 +1,56 @@
+package me.xstr.api.reactive.controller;
+
+import me.xstr.api.controller.OperationMetricsFilter;
+import me.xstr.api.controller.OperationRoutes;
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.metrics.OperationMetrics;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link OperationMetricsFilter}. An error signal counts with the status of
+ * a {@link ResponseStatusException}, or {@code 500}; a request cancelled by the client counts with
+ * the status set so far.
+ */
+public class OperationMetricsWebFilter implements WebFilter, Ordered {
+
+    private final OperationRoutes routes;
+
+    private final MetricsRegistry registry;
+
+    public OperationMetricsWebFilter(OperationRoutes routes, MetricsRegistry registry) {
+        this.routes = routes;
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return OperationMetricsFilter.ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        OperationRoutes.Route route = routes.match(request.getMethod().name(), request.getPath().pathWithinApplication().value());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+        OperationMetrics metrics = registry.forOperation(route.getOperationId());
+        long start = metrics.start();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> metrics.stop(start, statusOf(exchange)))
+                .doOnCancel(() -> metrics.stop(start, statusOf(exchange)))
+                .doOnError(e -> metrics.stop(start, e instanceof ResponseStatusException rse ? rse.getStatusCode().value() : 500));
+    }
+
+    private static int statusOf(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : 200;
+    }
+}
@@ -0,0 +1,50 @@
+package me.xstr.api.reactive.controller;
+
+import me.xstr.api.controller.EncodedBody;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.controller.NegotiatedBody;
+import me.xstr.api.controller.ResponseBodyWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link ResponseBodyWriter}. It writes a pre-encoded body as one wrapped
+ * buffer with {@code Content-Length} set, so Netty sends it without chunking or copying.
+ */
+public final class ReactiveResponseBodyWriter {
+
+    private ReactiveResponseBodyWriter() {
+    }
+
+    /**
+     * Writes the {@code format} variant of {@code body}, marking the response as varying with
+     * {@code Accept}.
+     */
+    public static Mono<Void> write(ServerWebExchange exchange, NegotiatedBody body, ModelFormat format) {
+        exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return write(exchange, body.get(format));
+    }
+
+    /**
+     * Writes {@code body}, picking the gzip variant when there is one and the request's
+     * {@code Accept-Encoding} allows it.
+     */
+    public static Mono<Void> write(ServerWebExchange exchange, EncodedBody body) {
+        ServerHttpResponse res = exchange.getResponse();
+        HttpHeaders headers = res.getHeaders();
+        byte[] bytes = body.getIdentity();
+        byte[] gzip = body.getGzip();
+        if (gzip != null) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (ResponseBodyWriter.acceptsGzip(exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING))) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                bytes = gzip;
+            }
+        }
+        headers.set(HttpHeaders.CONTENT_TYPE, body.getContentType());
+        headers.setContentLength(bytes.length);
+        return res.writeWith(Mono.just(res.bufferFactory().wrap(bytes)));
+    }
+}
@@ -0,0 +1,33 @@
+package me.xstr.api.reactive.service;
+
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.reactive.controller.ApiUtil;
+import me.xstr.api.reactive.controller.HealthApiDelegate;
+import me.xstr.api.reactive.controller.ReactiveResponseBodyWriter;
+import me.xstr.api.service.HealthSnapshot;
+import me.xstr.api.service.HealthSnapshotService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves {@code GET /health} from the same pre-serialized snapshot as the servlet variant.
+ */
+@Service
+public class HealthApiDelegateImpl implements HealthApiDelegate {
+
+    private final HealthSnapshotService healthSnapshotService;
+
+    public HealthApiDelegateImpl(HealthSnapshotService healthSnapshotService) {
+        this.healthSnapshotService = healthSnapshotService;
+    }
+
+    @Override
+    public Mono<ResponseEntity<HealthResponse>> getHealth(ServerWebExchange exchange) {
+        HealthSnapshot snapshot = healthSnapshotService.getSnapshot();
+        exchange.getResponse().setStatusCode(snapshot.getStatus());
+        return ReactiveResponseBodyWriter.write(exchange, snapshot.getBody(), ApiUtil.negotiateFormat(exchange, "getHealth"))
+                .then(Mono.empty());
+    }
+}
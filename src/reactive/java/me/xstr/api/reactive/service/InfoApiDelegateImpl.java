@@ -0,0 +1,48 @@
+package me.xstr.api.reactive.service;
+
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.model.VersionResponse;
+import me.xstr.api.reactive.controller.ApiUtil;
+import me.xstr.api.reactive.controller.InfoApiDelegate;
+import me.xstr.api.reactive.controller.ReactiveResponseBodyWriter;
+import me.xstr.api.service.VersionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Serves {@code GET /version} from the bytes cached by {@link VersionService} for the negotiated
+ * format, answering matching {@code If-None-Match} requests with {@code 304 Not Modified}.
+ */
+@Service
+public class InfoApiDelegateImpl implements InfoApiDelegate {
+
+    private final VersionService versionService;
+
+    private final String cacheControl;
+
+    public InfoApiDelegateImpl(VersionService versionService,
+                               @Value("${xstr.version.cache-max-age:1d}") Duration cacheMaxAge) {
+        this.versionService = versionService;
+        this.cacheControl = CacheControl.maxAge(cacheMaxAge).cachePublic().getHeaderValue();
+    }
+
+    @Override
+    public Mono<ResponseEntity<VersionResponse>> getVersion(ServerWebExchange exchange) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        ModelFormat format = ApiUtil.negotiateFormat(exchange, "getVersion");
+        String eTag = versionService.getETag(format);
+        if (exchange.checkNotModified(eTag)) {
+            exchange.getResponse().getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return exchange.getResponse().setComplete().then(Mono.empty());
+        }
+        exchange.getResponse().getHeaders().setETag(eTag);
+        return ReactiveResponseBodyWriter.write(exchange, versionService.getBody(), format).then(Mono.empty());
+    }
+}
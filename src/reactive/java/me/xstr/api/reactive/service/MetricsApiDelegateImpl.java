@@ -0,0 +1,44 @@
+package me.xstr.api.reactive.service;
+
+import me.xstr.api.metrics.MetricsRegistry;
+import me.xstr.api.reactive.controller.MetricsApiDelegate;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+/**
+ * Serves {@code GET /metrics} by writing the {@link MetricsRegistry} into one response buffer.
+ */
+@Service
+public class MetricsApiDelegateImpl implements MetricsApiDelegate {
+
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsApiDelegateImpl(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public Mono<ResponseEntity<String>> getMetrics(ServerWebExchange exchange) {
+        ServerHttpResponse res = exchange.getResponse();
+        DataBuffer buffer = res.bufferFactory().allocateBuffer(INITIAL_CAPACITY);
+        try {
+            metricsRegistry.writeTo(buffer.asOutputStream());
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new RuntimeException(e);
+        }
+        res.getHeaders().set(HttpHeaders.CONTENT_TYPE, MetricsRegistry.CONTENT_TYPE);
+        res.getHeaders().setContentLength(buffer.readableByteCount());
+        return res.writeWith(Mono.just(buffer)).then(Mono.empty());
+    }
+}
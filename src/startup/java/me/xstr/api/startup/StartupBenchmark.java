@@ -0,0 +1,184 @@
+package me.xstr.api.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import me.xstr.api.XstrMEApiApplication;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry point of the {@code fast-startup} profile's benchmark.
+ * <p>
+ * Starts the packaged {@link XstrMEApiApplication} jar as a fresh JVM, {@code startup.runs} times per
+ * variant, and measures the time from process launch to the first {@code 200} from
+ * {@code GET /v1/health}, then the process's resident set size at that point. Every variant runs
+ * with the profiles the AOT code was generated for, so they differ only in JVM flags:
+ * <ul>
+ *   <li>{@code baseline} - plain jar, with component scanning and reflective bean creation</li>
+ *   <li>{@code aot} - {@code -Dspring.aot.enabled=true}</li>
+ *   <li>{@code aot-cds} - as {@code aot}, plus the CDS archive from the training run</li>
+ * </ul>
+ * Configured through system properties {@code startup.jar}, {@code startup.archive},
+ * {@code startup.app-profiles}, {@code startup.runs} (default 5), {@code startup.jvm-args} and
+ * {@code startup.result} (default {@code target/startup-result.json}). RSS is read from
+ * {@code /proc} and reported as {@code -1} elsewhere.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(required("startup.jar"));
+        Path archive = Path.of(required("startup.archive"));
+        String profiles = System.getProperty("startup.app-profiles", "");
+        int runs = Integer.getInteger("startup.runs", 5);
+        List<String> jvmArgs = split(System.getProperty("startup.jvm-args", ""));
+        Path result = Path.of(System.getProperty("startup.result", "target/startup-result.json"));
+
+        List<String> appArgs = appProfiles(profiles);
+        List<Variant> variants = List.of(
+                new Variant("baseline", List.of(), appArgs),
+                new Variant("aot", List.of("-Dspring.aot.enabled=true"), appArgs),
+                new Variant("aot-cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive), appArgs));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        ObjectNode root = new ObjectMapper().createObjectNode()
+                .put("jar", jar.toString())
+                .put("runs", runs);
+        root.putArray("appArgs").addAll(appArgs.stream().map(root::textNode).toList());
+        ArrayNode results = root.putArray("variants");
+        System.out.printf(Locale.ROOT, "%-10s %12s %12s %12s %12s%n", "variant", "p50 ms", "min ms", "max ms", "p50 RSS MB");
+        for (Variant variant : variants) {
+            long[] millis = new long[runs];
+            long[] rss = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Sample sample = measure(client, jar, jvmArgs, variant);
+                millis[i] = sample.millis();
+                rss[i] = sample.rssBytes();
+            }
+            Arrays.sort(millis);
+            Arrays.sort(rss);
+            System.out.printf(Locale.ROOT, "%-10s %12d %12d %12d %12.1f%n", variant.name(),
+                    millis[runs / 2], millis[0], millis[runs - 1], rss[runs / 2] / (1024.0 * 1024.0));
+            ObjectNode node = results.addObject()
+                    .put("name", variant.name())
+                    .put("p50Ms", millis[runs / 2])
+                    .put("minMs", millis[0])
+                    .put("maxMs", millis[runs - 1])
+                    .put("p50RssBytes", rss[runs / 2]);
+            node.putArray("jvmArgs").addAll(variant.jvmArgs().stream().map(root::textNode).toList());
+        }
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(result.toFile(), root);
+        System.out.println("Result written to " + result.toAbsolutePath());
+    }
+
+    private static Sample measure(HttpClient client, Path jar, List<String> jvmArgs, Variant variant)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(variant.jvmArgs());
+        command.addAll(List.of("-jar", jar.toString(), "--server.port=" + port,
+                "--spring.main.banner-mode=off", "--logging.level.root=WARN"));
+        command.addAll(variant.appArgs());
+        Path log = jar.resolveSibling("startup-" + variant.name() + ".log");
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/v1/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + START_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long elapsed = System.nanoTime() - start;
+                        return new Sample(TimeUnit.NANOSECONDS.toMillis(elapsed), rss(process.pid()));
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            throw new IllegalStateException(variant.name() + " not healthy within " + START_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static long rss(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // not Linux
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> appProfiles(String profiles) {
+        return profiles.isBlank() ? List.of() : List.of("--spring.profiles.active=" + profiles);
+    }
+
+    private static List<String> split(String args) {
+        return args.isBlank() ? List.of() : List.of(args.trim().split("\\s+"));
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing -D" + property);
+        }
+        return value;
+    }
+
+    private record Variant(String name, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    private record Sample(long millis, long rssBytes) {
+    }
+}
@@ -0,0 +1,88 @@
+package me.xstr.api.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void dropsWhenFullAndReusesDrainedSlots() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(3);
+        assertEquals(4, ringBuffer.getCapacity());
+        for (int i = 0; i < 4; i++) {
+            AccessLogRecord record = ringBuffer.claim();
+            record.status = 200 + i;
+            ringBuffer.publish(record);
+        }
+        assertNull(ringBuffer.claim());
+        assertEquals(1, ringBuffer.getDropped());
+
+        List<Integer> statuses = new ArrayList<>();
+        assertEquals(2, ringBuffer.drain(record -> statuses.add(record.status), 2));
+        AccessLogRecord record = ringBuffer.claim();
+        record.status = 500;
+        ringBuffer.publish(record);
+        assertEquals(3, ringBuffer.drain(r -> statuses.add(r.status), 10));
+        assertEquals(List.of(200, 201, 202, 203, 500), statuses);
+        assertEquals(0, ringBuffer.drain(r -> fail(), 10));
+    }
+
+    @Test
+    void waitsForClaimedSlotsToBePublished() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        AccessLogRecord first = ringBuffer.claim();
+        AccessLogRecord second = ringBuffer.claim();
+        ringBuffer.publish(second);
+        assertEquals(0, ringBuffer.drain(r -> { }, 10));
+        ringBuffer.publish(first);
+        assertEquals(2, ringBuffer.drain(r -> { }, 10));
+    }
+
+    @Test
+    void handsOverEveryRecordFromConcurrentProducers() throws Exception {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        AccessLogRecord record;
+                        while ((record = ringBuffer.claim()) == null) {
+                            Thread.onSpinWait();
+                        }
+                        record.status = producer;
+                        record.bytes = i;
+                        ringBuffer.publish(record);
+                    }
+                }));
+            }
+            Set<Long> seen = new HashSet<>();
+            long[] next = new long[producers];
+            while (seen.size() < producers * perProducer) {
+                ringBuffer.drain(record -> {
+                    // Each producer's records arrive in the order it published them
+                    assertEquals(next[record.status]++, record.bytes);
+                    assertTrue(seen.add((long) record.status << 32 | record.bytes));
+                }, 16);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package me.xstr.api.accesslog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        Path file = directory.resolve("logs/access.log");
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(16);
+        AccessLogWriter writer = new AccessLogWriter(ringBuffer, file, 1 << 20, 2, 64 * 1024);
+        log(ringBuffer, "/v1/health", "getHealth", "alice");
+        log(ringBuffer, "/v1/\"quoted\"\\\n/é/€/😀", null, "10.0.0.1");
+        writer.close();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("2025-05-27T10:30:00.123Z", first.get("ts").asText());
+        assertEquals("GET", first.get("method").asText());
+        assertEquals("/v1/health", first.get("path").asText());
+        assertEquals("getHealth", first.get("operation").asText());
+        assertEquals(200, first.get("status").asInt());
+        assertEquals(1.234, first.get("durationMs").asDouble());
+        assertEquals(97, first.get("bytes").asLong());
+        assertEquals("alice", first.get("caller").asText());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals("/v1/\"quoted\"\\\n/é/€/😀", second.get("path").asText());
+        assertTrue(second.get("operation").isNull());
+    }
+
+    @Test
+    void rotatesWhenTheFileWouldOutgrowTheLimit() throws Exception {
+        Path file = directory.resolve("access.log");
+        Files.writeString(file, "current\n");
+        Files.writeString(directory.resolve("access.log.1"), "older\n");
+        Files.writeString(directory.resolve("access.log.2"), "oldest\n");
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(16);
+        AccessLogWriter writer = new AccessLogWriter(ringBuffer, file, 16, 2, 64 * 1024);
+        log(ringBuffer, "/v1/health", "getHealth", "alice");
+        writer.close();
+
+        assertTrue(Files.readString(file).startsWith("{\"ts\":"));
+        assertEquals("current\n", Files.readString(directory.resolve("access.log.1")));
+        assertEquals("older\n", Files.readString(directory.resolve("access.log.2")));
+        assertFalse(Files.exists(directory.resolve("access.log.3")));
+    }
+
+    @Test
+    void keepsRunningAndCountsDropsWhenWritingFails() throws Exception {
+        Path file = directory.resolve("access.log");
+        Files.writeString(file, "current\n");
+        // Rotation cannot delete a non-empty directory in the way of access.log.1
+        Path blocker = Files.createDirectories(directory.resolve("access.log.1"));
+        Files.writeString(blocker.resolve("keep"), "x");
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(16);
+        AccessLogWriter writer = new AccessLogWriter(ringBuffer, file, 16, 1, 64 * 1024);
+        log(ringBuffer, "/v1/health", "getHealth", "lost");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writer.getDropped() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writer.getDropped());
+
+        Files.delete(blocker.resolve("keep"));
+        Files.delete(blocker);
+        log(ringBuffer, "/v1/health", "getHealth", "alice");
+        writer.close();
+
+        String current = Files.readString(file);
+        assertTrue(current.contains("\"caller\":\"alice\""), current);
+        assertFalse(current.contains("\"caller\":\"lost\""), current);
+        assertEquals("current\n", Files.readString(directory.resolve("access.log.1")));
+    }
+
+    private static void log(AccessLogRingBuffer ringBuffer, String path, String operationId, String caller) {
+        AccessLogRecord record = ringBuffer.claim();
+        record.timestamp = 1748341800123L;
+        record.method = "GET";
+        record.path = path;
+        record.operationId = operationId;
+        record.status = 200;
+        record.durationNanos = 1_234_567;
+        record.bytes = 97;
+        record.caller = caller;
+        ringBuffer.publish(record);
+    }
+}
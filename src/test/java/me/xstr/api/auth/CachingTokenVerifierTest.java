@@ -0,0 +1,97 @@
+package me.xstr.api.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingTokenVerifierTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-05-27T10:00:00Z"));
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    void verifiesEachTokenOnceUntilItExpires() {
+        CachingTokenVerifier cache = new CachingTokenVerifier(token -> {
+            verifications.incrementAndGet();
+            return new JwtClaims(token, clock.instant().plusSeconds(60), Map.of());
+        }, 16, Duration.ofHours(1), clock);
+
+        JwtClaims first = cache.verify("a");
+        assertSame(first, cache.verify("a"));
+        assertEquals("b", cache.verify("b").subject());
+        assertEquals(2, verifications.get());
+
+        clock.now = clock.now.plusSeconds(60);
+        assertNotSame(first, cache.verify("a"));
+        assertEquals(3, verifications.get());
+    }
+
+    @Test
+    void capsEntriesWithoutExpiryAtTheMaxTtl() {
+        CachingTokenVerifier cache = new CachingTokenVerifier(token -> {
+            verifications.incrementAndGet();
+            return new JwtClaims(token, null, Map.of());
+        }, 16, Duration.ofMinutes(5), clock);
+
+        cache.verify("a");
+        clock.now = clock.now.plusSeconds(299);
+        cache.verify("a");
+        clock.now = clock.now.plusSeconds(1);
+        cache.verify("a");
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void doesNotCacheRejectedTokensAndStaysBounded() {
+        CachingTokenVerifier cache = new CachingTokenVerifier(token -> {
+            verifications.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new InvalidTokenException("bad");
+            }
+            return new JwtClaims(token, null, Map.of());
+        }, 4, Duration.ofHours(1), clock);
+
+        assertThrows(InvalidTokenException.class, () -> cache.verify("bad"));
+        assertThrows(InvalidTokenException.class, () -> cache.verify("bad"));
+        for (int i = 0; i < 100; i++) {
+            cache.verify("token-" + i);
+        }
+        assertEquals(102, verifications.get());
+        cache.verify("token-99");
+        assertEquals(102, verifications.get());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
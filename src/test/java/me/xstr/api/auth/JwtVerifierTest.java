@@ -0,0 +1,80 @@
+package me.xstr.api.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-27T10:00:00Z");
+
+    private final KeyPair rsa = TestTokens.rsa();
+
+    private final KeyPair ec = TestTokens.ec();
+
+    private final JwtVerifier verifier = new JwtVerifier(Map.of("rsa", rsa.getPublic(), "ec", ec.getPublic()),
+            "https://issuer.example", "xstr-api", Duration.ofSeconds(60), new ObjectMapper(),
+            Clock.fixed(NOW, ZoneOffset.UTC));
+
+    JwtVerifierTest() throws Exception {
+    }
+
+    @Test
+    void acceptsRsaAndEcdsaSignedTokens() throws Exception {
+        JwtClaims rs256 = verifier.verify(TestTokens.sign("{\"alg\":\"RS256\",\"kid\":\"rsa\"}",
+                claims("alice", NOW.plusSeconds(300)), "SHA256withRSA", rsa.getPrivate()));
+        JwtClaims es256 = verifier.verify(TestTokens.sign("{\"alg\":\"ES256\"}",
+                claims("bob", NOW.plusSeconds(300)), "SHA256withECDSAinP1363Format", ec.getPrivate()));
+
+        assertEquals("alice", rs256.subject());
+        assertEquals(NOW.plusSeconds(300), rs256.expiresAt());
+        assertEquals("https://issuer.example", rs256.claims().get("iss"));
+        assertEquals("bob", es256.subject());
+    }
+
+    @Test
+    void rejectsTamperedForeignAndConfusedTokens() throws Exception {
+        String token = TestTokens.sign("{\"alg\":\"RS256\",\"kid\":\"rsa\"}", claims("alice", NOW.plusSeconds(300)),
+                "SHA256withRSA", rsa.getPrivate());
+        String tampered = token.substring(0, token.indexOf('.') + 1) + TestTokens.encode(claims("mallory", NOW.plusSeconds(300)))
+                + token.substring(token.lastIndexOf('.'));
+        String foreign = TestTokens.sign("{\"alg\":\"RS256\"}", claims("alice", NOW.plusSeconds(300)),
+                "SHA256withRSA", TestTokens.rsa().getPrivate());
+        String wrongKeyType = TestTokens.sign("{\"alg\":\"ES256\",\"kid\":\"rsa\"}", claims("alice", NOW.plusSeconds(300)),
+                "SHA256withECDSAinP1363Format", ec.getPrivate());
+        String unsigned = TestTokens.encode("{\"alg\":\"none\"}") + "." + TestTokens.encode(claims("alice", NOW.plusSeconds(300))) + ".";
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(tampered));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(foreign));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(wrongKeyType));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(unsigned));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("not.a-token"));
+    }
+
+    @Test
+    void checksExpiryIssuerAndAudience() throws Exception {
+        String expired = TestTokens.sign("{\"alg\":\"RS256\"}", claims("alice", NOW.minusSeconds(61)),
+                "SHA256withRSA", rsa.getPrivate());
+        String withinSkew = TestTokens.sign("{\"alg\":\"RS256\"}", claims("alice", NOW.minusSeconds(30)),
+                "SHA256withRSA", rsa.getPrivate());
+        String otherAudience = TestTokens.sign("{\"alg\":\"RS256\"}",
+                "{\"sub\":\"alice\",\"iss\":\"https://issuer.example\",\"aud\":\"other\"}", "SHA256withRSA", rsa.getPrivate());
+
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(expired));
+        assertEquals("alice", verifier.verify(withinSkew).subject());
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(otherAudience));
+    }
+
+    static String claims(String subject, Instant expiresAt) {
+        return "{\"sub\":\"" + subject + "\",\"iss\":\"https://issuer.example\",\"aud\":[\"xstr-api\"],\"exp\":"
+                + expiresAt.getEpochSecond() + "}";
+    }
+}
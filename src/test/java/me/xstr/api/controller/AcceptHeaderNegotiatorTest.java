@@ -0,0 +1,43 @@
+package me.xstr.api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcceptHeaderNegotiatorTest {
+
+    @Test
+    void negotiatesAgainstProduces() {
+        AcceptHeaderNegotiator negotiator = AcceptHeaderNegotiator.register("testOperation",
+                List.of(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN));
+
+        assertEquals(MediaType.APPLICATION_JSON, negotiator.negotiate(null));
+        assertEquals(MediaType.APPLICATION_JSON, negotiator.negotiate("*/*"));
+        assertEquals(MediaType.TEXT_PLAIN, negotiator.negotiate("application/json;q=0.5, text/plain"));
+        assertEquals(MediaType.APPLICATION_JSON, negotiator.negotiate("text/*;q=0, application/*"));
+        assertNull(negotiator.negotiate("text/html"));
+        assertNull(negotiator.negotiate("not a media type"));
+    }
+
+    @Test
+    void cachesPerHeader() {
+        String header = "application/json, text/plain;q=0.5";
+
+        assertSame(AcceptHeaderNegotiator.acceptedMediaTypes(header), AcceptHeaderNegotiator.acceptedMediaTypes(header));
+        assertEquals(List.of(MediaType.ALL), AcceptHeaderNegotiator.acceptedMediaTypes(" "));
+        assertThrows(InvalidMediaTypeException.class, () -> AcceptHeaderNegotiator.acceptedMediaTypes("a/b/c"));
+    }
+
+    @Test
+    void forOperationKeepsPreResolvedRegistration() {
+        AcceptHeaderNegotiator registered = AcceptHeaderNegotiator.register("preResolved", List.of(MediaType.TEXT_PLAIN));
+
+        assertSame(registered, AcceptHeaderNegotiator.forOperation("preResolved", "application/json"));
+        assertEquals(List.of(MediaType.APPLICATION_JSON),
+                AcceptHeaderNegotiator.forOperation("lazilyRegistered", "application/json").getProduces());
+    }
+}
@@ -0,0 +1,239 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.xstr.api.model.BatchOperation;
+import me.xstr.api.model.BatchResult;
+import me.xstr.api.time.CachedClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchExecutorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final OperationRoutes routes = new OperationRoutes();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * Stands in for the per-operation filters: turns away items that send {@code X-Limited}.
+     */
+    private final Filter limiter = (req, res, chain) -> {
+        if (((HttpServletRequest) req).getHeader("X-Limited") != null) {
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(429);
+            ResponseBodyWriter.write(response, MediaType.APPLICATION_JSON_VALUE,
+                    "{\"error\":\"TOO_MANY_REQUESTS\",\"message\":\"Rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        chain.doFilter(req, res);
+    };
+
+    private final BatchExecutor batchExecutor = new BatchExecutor(routes, executor, List.of(limiter),
+            Duration.ofMillis(200), new ObjectMapper(), new CachedClock());
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    BatchExecutorTest() throws NoSuchMethodException {
+        Operations operations = new Operations();
+        routes.register(List.of(
+                route("getThing", "/v1/thing", operations, "getThing"),
+                route("getBroken", "/v1/broken", operations, "getBroken"),
+                route("getFailing", "/v1/failing", operations, "getFailing"),
+                route("getUnchanged", "/v1/unchanged", operations, "getUnchanged"),
+                route("getHanging", "/v1/hanging", operations, "getHanging"),
+                route("getRecycled", "/v1/recycled", operations, "getRecycled"),
+                route("getItem", "/v1/items/{id}", operations, "getItem", String.class)));
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void embedsBodiesAndHeadersInRequestOrder() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/batch");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("X-Caller", "edge");
+
+        List<BatchResult> results = run(request, operation("a", "getThing", Map.of("X-Tag", "one")),
+                operation("b", "getThing", Map.of("X-Tag", "two")));
+
+        assertEquals(List.of("a", "b"), results.stream().map(BatchResult::getId).toList());
+        BatchResult first = results.get(0);
+        assertEquals(200, first.getStatus());
+        assertEquals("\"one\"", first.getHeaders().get("ETag"));
+        assertEquals(new RawValue("{\"tag\":\"one\",\"caller\":\"edge\",\"gzip\":false}"), first.getBody());
+        assertNull(first.getError());
+        assertFalse(response.isCommitted());
+        assertEquals(0, response.getContentLength());
+    }
+
+    @Test
+    void turnsJsonErrorBodiesIntoErrorResponses() {
+        BatchResult result = run(new MockHttpServletRequest(), operation(null, "getBroken", null)).get(0);
+
+        assertEquals(503, result.getStatus());
+        assertNull(result.getBody());
+        assertEquals("SERVICE_UNAVAILABLE", result.getError().getError());
+        assertEquals("down", result.getError().getMessage());
+    }
+
+    @Test
+    void usesTheReturnedEntityWhenNothingWasWritten() {
+        BatchResult result = run(new MockHttpServletRequest(), operation(null, "getUnchanged", null)).get(0);
+
+        assertEquals(304, result.getStatus());
+        assertEquals("\"v1\"", result.getHeaders().get("ETag"));
+        assertNull(result.getBody());
+    }
+
+    @Test
+    void reportsOperationsThatCannotRun() {
+        List<BatchResult> results = run(new MockHttpServletRequest(),
+                operation(null, "getMissing", null),
+                operation(null, "getItem", null),
+                operation(null, "getThing", Map.of("Accept", "text/csv")),
+                operation(null, "getFailing", null));
+
+        assertEquals(List.of(404, 400, 406, 500), results.stream().map(BatchResult::getStatus).toList());
+        assertEquals(List.of("NOT_FOUND", "BAD_REQUEST", "NOT_ACCEPTABLE", "INTERNAL_SERVER_ERROR"),
+                results.stream().map(r -> r.getError().getError()).toList());
+    }
+
+    @Test
+    void runsEveryItemThroughTheFilters() {
+        List<BatchResult> results = run(new MockHttpServletRequest(),
+                operation("a", "getThing", Map.of("X-Limited", "1")),
+                operation("b", "getThing", Map.of("X-Tag", "two")));
+
+        assertEquals(429, results.get(0).getStatus());
+        assertEquals("TOO_MANY_REQUESTS", results.get(0).getError().getError());
+        assertEquals(200, results.get(1).getStatus());
+    }
+
+    @Test
+    void timesOutOperationsThatDoNotFinish() {
+        BatchResult result = run(new MockHttpServletRequest(), operation(null, "getHanging", null)).get(0);
+
+        assertEquals(504, result.getStatus());
+        assertEquals("GATEWAY_TIMEOUT", result.getError().getError());
+    }
+
+    @Test
+    void readsTheBatchRequestOnlyWhenSubmitted() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/batch");
+        request.addHeader("X-Caller", "edge");
+        request.setRemoteAddr("192.0.2.1");
+
+        CompletableFuture<BatchResult> result = batchExecutor.submit(request, response,
+                List.of(operation(null, "getRecycled", null))).get(0);
+        request.removeHeader("X-Caller");
+        request.addHeader("X-Caller", "other");
+        request.setRemoteAddr("192.0.2.2");
+        release.countDown();
+
+        assertEquals(new RawValue("{\"caller\":\"edge\",\"remote\":\"192.0.2.1\"}"), result.join().getBody());
+    }
+
+    private List<BatchResult> run(HttpServletRequest request, BatchOperation... operations) {
+        return batchExecutor.submit(request, response, List.of(operations)).stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private static BatchOperation operation(String id, String operationId, Map<String, String> headers) {
+        return new BatchOperation().id(id).operationId(operationId).headers(headers);
+    }
+
+    private static OperationRoutes.Route route(String operationId, String path, Object bean, String method,
+                                               Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new OperationRoutes.Route(operationId, "GET", PathPatternParser.defaultInstance.parse(path),
+                AcceptHeaderNegotiator.register(operationId, List.of(MediaType.APPLICATION_JSON)),
+                new HandlerMethod(bean, Operations.class.getMethod(method, parameterTypes)));
+    }
+
+    public class Operations {
+
+        public ResponseEntity<Void> getThing() throws IOException {
+            HttpServletRequest request = current().getRequest();
+            String body = "{\"tag\":\"" + request.getHeader("X-Tag") + "\",\"caller\":\"" + request.getHeader("X-Caller")
+                    + "\",\"gzip\":" + (request.getHeader("Accept-Encoding") != null) + "}";
+            HttpServletResponse response = current().getResponse();
+            response.setHeader("ETag", "\"" + request.getHeader("X-Tag") + "\"");
+            ResponseBodyWriter.write(response, MediaType.APPLICATION_JSON_VALUE, body.getBytes(StandardCharsets.UTF_8));
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        public ResponseEntity<Void> getBroken() {
+            HttpServletResponse response = current().getResponse();
+            response.setStatus(503);
+            ResponseBodyWriter.write(response, MediaType.APPLICATION_JSON_VALUE,
+                    "{\"error\":\"SERVICE_UNAVAILABLE\",\"message\":\"down\"}".getBytes(StandardCharsets.UTF_8));
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        public ResponseEntity<Void> getFailing() {
+            throw new IllegalStateException("boom");
+        }
+
+        public ResponseEntity<Void> getHanging() throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        /**
+         * Reads the batch request only after the test has changed it, as a late item would
+         * after the container recycled it.
+         */
+        public ResponseEntity<Void> getRecycled() throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            HttpServletRequest request = current().getRequest();
+            String body = "{\"caller\":\"" + request.getHeader("X-Caller") + "\",\"remote\":\""
+                    + request.getRemoteAddr() + "\"}";
+            ResponseBodyWriter.write(current().getResponse(), MediaType.APPLICATION_JSON_VALUE,
+                    body.getBytes(StandardCharsets.UTF_8));
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        public ResponseEntity<Void> getUnchanged() {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build();
+        }
+
+        public ResponseEntity<Void> getItem(String id) {
+            return new ResponseEntity<>(HttpStatus.OK);
+        }
+
+        private static ServletRequestAttributes current() {
+            return (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        }
+    }
+}
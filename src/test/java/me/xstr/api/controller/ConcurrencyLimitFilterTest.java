@@ -0,0 +1,109 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import me.xstr.api.limit.GradientConcurrencyLimit;
+import me.xstr.api.metrics.PrometheusTextWriter;
+import me.xstr.api.time.CachedClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final OperationRoutes routes = new OperationRoutes();
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(routes,
+            new GradientConcurrencyLimit(1, 1, 1, 1.5, 100_000_000L), Set.of("getHealth"), 1, 2,
+            new ModelCodecs(new ObjectMapper().findAndRegisterModules()), new CachedClock());
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    ConcurrencyLimitFilterTest() {
+        routes.register(List.of(
+                route("getHealth", "/v1/health"),
+                route("getVersion", "/v1/version")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shedsRequestsOverTheLimitWithA503() throws Exception {
+        Future<MockHttpServletResponse> held = executor.submit(() -> get("/v1/version", blocking()));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse shed = get("/v1/version", (req, res) -> fail("should have been shed"));
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("2", shed.getHeader("Retry-After"));
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, shed.getContentType());
+        assertTrue(shed.getContentAsString().startsWith("{\"error\":\"SERVICE_UNAVAILABLE\","), shed.getContentAsString());
+        release.countDown();
+        assertEquals(200, held.get(5, TimeUnit.SECONDS).getStatus());
+        assertEquals(200, get("/v1/version", (req, res) -> { }).getStatus());
+        assertTrue(metrics().contains("xstr_http_requests_shed_total{lane=\"default\"} 1\n"), metrics());
+    }
+
+    @Test
+    void healthHasItsOwnLane() throws Exception {
+        Future<MockHttpServletResponse> held = executor.submit(() -> get("/v1/version", blocking()));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        assertEquals(200, get("/v1/health", (req, res) -> { }).getStatus());
+        release.countDown();
+        held.get(5, TimeUnit.SECONDS);
+    }
+
+    private FilterChain blocking() {
+        return (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private MockHttpServletResponse get(String path, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+        return response;
+    }
+
+    private String metrics() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrometheusTextWriter writer = new PrometheusTextWriter(out);
+        filter.collect(writer);
+        writer.flush();
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    private static OperationRoutes.Route route(String operationId, String path) {
+        return new OperationRoutes.Route(operationId, "GET", PathPatternParser.defaultInstance.parse(path),
+                AcceptHeaderNegotiator.register(operationId, List.of(MediaType.APPLICATION_JSON)));
+    }
+}
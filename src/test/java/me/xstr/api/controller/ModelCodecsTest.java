@@ -0,0 +1,63 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.xstr.api.model.ApiModelsModule;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.model.VersionResponse;
+import me.xstr.api.time.CachedClock;
+import me.xstr.api.time.RFC3339Module;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelCodecsTest {
+
+    private final ModelCodecs codecs = new ModelCodecs(new ObjectMapper()
+            .registerModule(new RFC3339Module(new CachedClock()))
+            .registerModule(new ApiModelsModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    @Test
+    void roundTripsModelsInEveryFormat() throws Exception {
+        OffsetDateTime timestamp = OffsetDateTime.parse("2025-05-27T10:30:00.123Z");
+        List<Object> models = List.of(
+                new HealthResponse().status(HealthResponse.StatusEnum.HEALTHY).timestamp(timestamp)
+                        .version("0.0.1-alpha").uptime("2d 5h 30m"),
+                new VersionResponse("0.0.1-alpha", "abc123def").timestamp(timestamp),
+                new ErrorResponse("SERVICE_UNAVAILABLE", "unavailable")
+                        .details(Map.of("retryAfterSeconds", 5, "nested", List.of("a", "b"))).timestamp(timestamp));
+        for (ModelFormat format : ModelFormat.values()) {
+            for (Object model : models) {
+                byte[] encoded = codecs.write(format, model);
+                assertEquals(model, codecs.getMapper(format).readValue(encoded, model.getClass()), format + " " + model);
+            }
+        }
+    }
+
+    @Test
+    void binaryFormatsAreNotJson() throws Exception {
+        NegotiatedBody body = codecs.encode(new VersionResponse("0.0.1-alpha", "abc123def"));
+
+        assertEquals('{', body.get(ModelFormat.JSON).getIdentity()[0]);
+        assertEquals("application/cbor", body.get(ModelFormat.CBOR).getContentType());
+        assertEquals((byte) 0xbf, body.get(ModelFormat.CBOR).getIdentity()[0]);
+        assertEquals("application/x-jackson-smile", body.get(ModelFormat.SMILE).getContentType());
+        assertEquals(':', body.get(ModelFormat.SMILE).getIdentity()[0]);
+    }
+
+    @Test
+    void mapsNegotiatedMediaTypes() {
+        assertEquals(ModelFormat.CBOR, ModelFormat.of(MediaType.APPLICATION_CBOR));
+        assertEquals(ModelFormat.SMILE, ModelFormat.of(MediaType.valueOf("application/x-jackson-smile")));
+        assertEquals(ModelFormat.JSON, ModelFormat.of(MediaType.APPLICATION_JSON));
+        assertEquals(ModelFormat.JSON, ModelFormat.of(MediaType.TEXT_PLAIN));
+        assertEquals(ModelFormat.JSON, ModelFormat.of(null));
+    }
+}
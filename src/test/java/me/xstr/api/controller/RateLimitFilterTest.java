@@ -0,0 +1,128 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.xstr.api.auth.JwtClaims;
+import me.xstr.api.limit.RateLimitPolicy;
+import me.xstr.api.limit.TokenBucketRateLimiter;
+import me.xstr.api.time.CachedClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final OperationRoutes routes = new OperationRoutes();
+
+    private final AtomicInteger dispatches = new AtomicInteger();
+
+    private final RateLimitFilter filter = new RateLimitFilter(routes,
+            new TokenBucketRateLimiter(new RateLimitPolicy(1, Duration.ofHours(1), 2), 64),
+            operationId -> "getVersion".equals(operationId)
+                    ? new TokenBucketRateLimiter(new RateLimitPolicy(1, Duration.ofHours(1), 1), 64) : null,
+            new ModelCodecs(new ObjectMapper().findAndRegisterModules()), new CachedClock());
+
+    RateLimitFilterTest() {
+        routes.register(List.of(route("getHealth", "/v1/health"), route("getVersion", "/v1/version")));
+    }
+
+    @Test
+    void rejectsCallersOverTheirBudgetWithA429() throws Exception {
+        MockHttpServletResponse first = get("/v1/health", "alice");
+        assertEquals(200, first.getStatus());
+        assertEquals("2", first.getHeader("RateLimit-Limit"));
+        assertEquals("1", first.getHeader("RateLimit-Remaining"));
+        assertEquals(200, get("/v1/health", "alice").getStatus());
+
+        MockHttpServletResponse rejected = get("/v1/health", "alice");
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader("RateLimit-Remaining"));
+        assertEquals("3600", rejected.getHeader("Retry-After"));
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, rejected.getContentType());
+        assertTrue(rejected.getContentAsString().startsWith("{\"error\":\"TOO_MANY_REQUESTS\","), rejected.getContentAsString());
+        assertEquals(2, dispatches.get());
+        assertEquals(200, get("/v1/health", "bob").getStatus());
+    }
+
+    @Test
+    void operationsWithALimiterOfTheirOwnDoNotShareTheBudget() throws Exception {
+        assertEquals(200, get("/v1/version", "alice").getStatus());
+        assertEquals(429, get("/v1/version", "alice").getStatus());
+
+        assertEquals(200, get("/v1/health", "alice").getStatus());
+    }
+
+    @Test
+    void keysCallersByVerifiedSubjectOrAddress() {
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/v1/health");
+        anonymous.setRemoteAddr("10.0.0.7");
+        MockHttpServletRequest opaque = new MockHttpServletRequest("GET", "/v1/health");
+        opaque.addHeader("Authorization", "Bearer not-a-jwt");
+        opaque.setRemoteAddr("10.0.0.8");
+
+        assertEquals("sub:alice", filter.callerKey(request("/v1/health", "alice")));
+        assertEquals("addr:10.0.0.7", filter.callerKey(anonymous));
+        assertEquals("addr:10.0.0.8", filter.callerKey(opaque));
+        assertEquals("addr:10.0.0.9", filter.callerKey(forged("/v1/health", "mallory")));
+    }
+
+    @Test
+    void forgedSubjectsShareTheBucketOfTheirAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertEquals(200, send(forged("/v1/health", "forged-" + i)).getStatus());
+        }
+
+        assertEquals(429, send(forged("/v1/health", "forged-2")).getStatus());
+    }
+
+    private MockHttpServletResponse get(String path, String subject) throws Exception {
+        return send(request(path, subject));
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> dispatches.incrementAndGet());
+        return response;
+    }
+
+    /**
+     * A request whose token {@link BearerTokenFilter} verified.
+     */
+    private static MockHttpServletRequest request(String path, String subject) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, new JwtClaims(subject, null, Map.of()));
+        return request;
+    }
+
+    /**
+     * An unsigned token with a made-up subject, as sent when authentication is off.
+     */
+    private static MockHttpServletRequest forged(String path, String subject) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr("10.0.0.9");
+        request.addHeader("Authorization", "Bearer " + jwt("{\"sub\":\"" + subject + "\"}"));
+        return request;
+    }
+
+    private static String jwt(String claims) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".";
+    }
+
+    private static OperationRoutes.Route route(String operationId, String path) {
+        return new OperationRoutes.Route(operationId, "GET", PathPatternParser.defaultInstance.parse(path),
+                AcceptHeaderNegotiator.register(operationId, List.of(MediaType.APPLICATION_JSON)));
+    }
+}
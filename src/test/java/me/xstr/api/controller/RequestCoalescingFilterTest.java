@@ -0,0 +1,183 @@
+package me.xstr.api.controller;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescingFilterTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final AtomicInteger dispatches = new AtomicInteger();
+
+    private final OperationRoutes routes = new OperationRoutes();
+
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(routes, Duration.ofSeconds(5));
+
+    RequestCoalescingFilterTest() {
+        routes.register(List.of(new OperationRoutes.Route("getThing", "GET",
+                PathPatternParser.defaultInstance.parse("/v1/things/{id}"),
+                AcceptHeaderNegotiator.register("getThing", List.of(MediaType.APPLICATION_JSON)))));
+    }
+
+    private SingleFlight<?, ?> flights() {
+        return filter.getFlights().get("getThing");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneDispatch() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (req, res) -> {
+            dispatches.incrementAndGet();
+            entered.countDown();
+            await(release);
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setHeader("ETag", "\"1\"");
+            ResponseBodyWriter.write(new ServletWebRequest((MockHttpServletRequest) req, response),
+                    EncodedBody.utf8("application/json", "{\"id\":1}"));
+        };
+
+        Future<MockHttpServletResponse> leader = executor.submit(() -> get("/v1/things/1", chain));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        List<Future<MockHttpServletResponse>> followers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            followers.add(executor.submit(() -> get("/v1/things/1", chain)));
+        }
+        while (flights().getCoalesced() < followers.size()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("{\"id\":1}", leader.get().getContentAsString());
+        for (Future<MockHttpServletResponse> follower : followers) {
+            MockHttpServletResponse response = follower.get();
+            assertEquals(200, response.getStatus());
+            assertEquals("{\"id\":1}", response.getContentAsString());
+            assertEquals("application/json", response.getContentType());
+            assertEquals(8, response.getContentLength());
+            assertEquals("\"1\"", response.getHeader("ETag"));
+        }
+        assertEquals(1, dispatches.get());
+        assertEquals(1, flights().getExecuted());
+    }
+
+    @Test
+    void differentCallersNeverShareAResponse() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (req, res) -> {
+            dispatches.incrementAndGet();
+            entered.countDown();
+            await(release);
+            String caller = ((MockHttpServletRequest) req).getHeader("Authorization");
+            ResponseBodyWriter.write((HttpServletResponse) res, "application/json",
+                    ("\"" + caller + "\"").getBytes(StandardCharsets.UTF_8));
+        };
+
+        Future<MockHttpServletResponse> alice = executor.submit(() -> get("/v1/things/1", "Bearer alice", chain));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Future<MockHttpServletResponse> bob = executor.submit(() -> get("/v1/things/1", "Bearer bob", chain));
+        while (dispatches.get() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("\"Bearer alice\"", alice.get().getContentAsString());
+        assertEquals("\"Bearer bob\"", bob.get().getContentAsString());
+        assertEquals(0, flights().getCoalesced());
+    }
+
+    @Test
+    void differentPathVariablesNeverShareAResponse() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = (req, res) -> {
+            dispatches.incrementAndGet();
+            entered.countDown();
+            await(release);
+            String path = ((MockHttpServletRequest) req).getRequestURI();
+            ResponseBodyWriter.write((HttpServletResponse) res, "application/json",
+                    ("\"" + path + "\"").getBytes(StandardCharsets.UTF_8));
+        };
+
+        Future<MockHttpServletResponse> first = executor.submit(() -> get("/v1/things/1", chain));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Future<MockHttpServletResponse> second = executor.submit(() -> get("/v1/things/2", chain));
+        while (dispatches.get() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals("\"/v1/things/1\"", first.get().getContentAsString());
+        assertEquals("\"/v1/things/2\"", second.get().getContentAsString());
+        assertEquals(0, flights().getCoalesced());
+    }
+
+    @Test
+    void sequentialAndUnmatchedRequestsDispatchEachTime() throws Exception {
+        FilterChain chain = (req, res) -> {
+            dispatches.incrementAndGet();
+            ResponseBodyWriter.write((HttpServletResponse) res, "application/json", new byte[] {'1'});
+        };
+
+        get("/v1/things/1", chain);
+        get("/v1/things/1", chain);
+        assertEquals("1", get("/v1/other", chain).getContentAsString());
+
+        MockHttpServletRequest notAcceptable = new MockHttpServletRequest("GET", "/v1/things/1");
+        notAcceptable.addHeader("Accept", "text/plain");
+        filter.doFilter(notAcceptable, new MockHttpServletResponse(), chain);
+
+        assertEquals(4, dispatches.get());
+        assertEquals(2, flights().getExecuted());
+        assertEquals(0, flights().getCoalesced());
+    }
+
+    private MockHttpServletResponse get(String path, FilterChain chain) throws Exception {
+        return get(path, null, chain);
+    }
+
+    private MockHttpServletResponse get(String path, String authorization, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Accept", "application/json");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package me.xstr.api.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBodyWriterTest {
+
+    private static final String LARGE = "{\"message\":\"" + "x".repeat(4096) + "\"}";
+
+    @Test
+    void writesIdentityWithContentLength() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseBodyWriter.write(new ServletWebRequest(new MockHttpServletRequest(), response),
+                EncodedBody.utf8("application/json", "{\"a\":1}"));
+
+        assertEquals("{\"a\":1}", response.getContentAsString());
+        assertEquals(7, response.getContentLength());
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Vary"));
+    }
+
+    @Test
+    void writesGzipVariantWhenAccepted() throws Exception {
+        EncodedBody body = EncodedBody.utf8("application/json", LARGE);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "br, gzip;q=0.8");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseBodyWriter.write(new ServletWebRequest(request, response), body);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals(body.getGzip().length, response.getContentLength());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(LARGE, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void writesIdentityWhenGzipRefused() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip;q=0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseBodyWriter.write(new ServletWebRequest(request, response), EncodedBody.utf8("application/json", LARGE));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals(LARGE, response.getContentAsString());
+    }
+
+    @Test
+    void writesByteBufferRemaining() throws Exception {
+        ByteBuffer direct = ByteBuffer.allocateDirect(16).put("__hello".getBytes(StandardCharsets.US_ASCII)).flip();
+        direct.position(2);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseBodyWriter.write(response, "text/plain", direct);
+
+        assertEquals("hello", response.getContentAsString());
+        assertEquals(5, response.getContentLength());
+        assertEquals(2, direct.position());
+    }
+
+    @Test
+    void parsesAcceptEncoding() {
+        assertTrue(ResponseBodyWriter.acceptsGzip("gzip"));
+        assertTrue(ResponseBodyWriter.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ResponseBodyWriter.acceptsGzip("*"));
+        assertFalse(ResponseBodyWriter.acceptsGzip(null));
+        assertFalse(ResponseBodyWriter.acceptsGzip("br, deflate"));
+        assertFalse(ResponseBodyWriter.acceptsGzip("gzip; q=0.0"));
+    }
+
+    @Test
+    void skipsGzipForSmallBodies() {
+        assertNull(EncodedBody.utf8("application/json", "{}").getGzip());
+        assertNotNull(EncodedBody.utf8("application/json", LARGE).getGzip());
+    }
+}
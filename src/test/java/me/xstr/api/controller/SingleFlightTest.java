@@ -0,0 +1,84 @@
+package me.xstr.api.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void failureReachesLeaderAndFollowersAndIsNotKept() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute("k", () -> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("boom");
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                followers.add(executor.submit(() -> flights.execute("k", () -> "unused")));
+            }
+            while (flights.getCoalesced() < followers.size()) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            ExecutionException e = assertThrows(ExecutionException.class, leader::get);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            for (Future<String> follower : followers) {
+                assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, follower::get).getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals("ok", flights.execute("k", () -> {
+            calls.incrementAndGet();
+            return "ok";
+        }));
+        assertEquals(1, calls.get());
+        assertEquals(2, flights.getExecuted());
+    }
+
+    @Test
+    void followerRunsAloneWhenLeaderOverrunsMaxWait() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute("k", () -> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "leader";
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            assertEquals("follower", flights.execute("k", () -> "follower"));
+            assertEquals(0, flights.getCoalesced());
+            assertEquals(2, flights.getExecuted());
+
+            release.countDown();
+            assertEquals("leader", leader.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package me.xstr.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticDocsControllerTest {
+
+    private final StaticDocsController controller = new StaticDocsController(Duration.ofDays(7));
+
+    @Test
+    void servesSpecAsJson() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getSpecJson(new MockHttpServletRequest("GET", "/v3/api-docs"), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("max-age=604800, public", response.getHeader("Cache-Control"));
+        JsonNode spec = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertEquals("3.0.3", spec.get("openapi").asText());
+        assertTrue(spec.get("paths").has("/health"));
+    }
+
+    @Test
+    void servesGzipVariantWithItsOwnETag() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", StaticDocsController.DOCS_PATH);
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getDocs(request, response);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertTrue(response.getHeader("ETag").endsWith("-gzip\""));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertTrue(new String(in.readAllBytes()).contains("<html"));
+        }
+    }
+
+    @Test
+    void answersMatchingETagWithNotModified() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        controller.getSpecYaml(new MockHttpServletRequest("GET", "/v3/api-docs.yaml"), first);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v3/api-docs.yaml");
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getSpecYaml(request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void identityETagDoesNotMatchGzipVariant() {
+        MockHttpServletResponse identity = new MockHttpServletResponse();
+        controller.getDocs(new MockHttpServletRequest("GET", StaticDocsController.DOCS_PATH), identity);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", StaticDocsController.DOCS_PATH);
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", identity.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        controller.getDocs(request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+    }
+}
@@ -0,0 +1,191 @@
+package me.xstr.api.health;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthAggregatorTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowCheckTimesOutWithoutDelayingOthers() {
+        CountDownLatch release = new CountDownLatch(1);
+        HealthAggregator aggregator = new HealthAggregator(executor, List.of(
+                check(new CountingContributor("slow", () -> {
+                    release.await();
+                    return HealthCheckResult.up(null);
+                }), Duration.ofMillis(100), Duration.ZERO),
+                check(new CountingContributor("fast", () -> HealthCheckResult.up("ok")), Duration.ofSeconds(5), Duration.ZERO)));
+
+        long start = System.nanoTime();
+        Map<String, HealthCheckResult> results = aggregator.evaluate();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertFalse(results.get("slow").isUp());
+        assertEquals("timed out after 100 ms", results.get("slow").getDetail());
+        assertTrue(results.get("fast").isUp());
+        assertTrue(elapsedMillis < 2_000, elapsedMillis + " ms");
+        assertEquals(List.of("slow", "fast"), List.copyOf(results.keySet()));
+    }
+
+    @Test
+    void hungCheckIsInterruptedAndRerunOnNextEvaluation() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountingContributor contributor = new CountingContributor("hung", () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return HealthCheckResult.up(null);
+        });
+        HealthAggregator aggregator = new HealthAggregator(executor, List.of(check(contributor, Duration.ofMillis(100), Duration.ofMinutes(1))));
+
+        assertEquals("timed out after 100 ms", aggregator.evaluate().get("hung").getDetail());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        // The interrupted run still has to return before the check can start again
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contributor.calls.get() < 2 && System.nanoTime() < deadline) {
+            assertEquals("timed out after 100 ms", aggregator.evaluate().get("hung").getDetail());
+        }
+        assertEquals(2, contributor.calls.get());
+    }
+
+    @Test
+    void checkIgnoringInterruptsIsNotRunAgainUntilItReturns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountingContributor contributor = new CountingContributor("stuck", () -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                // Like blocking file I/O: the interrupt is noticed, but the call goes on
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            return HealthCheckResult.up(null);
+        });
+        HealthAggregator aggregator = new HealthAggregator(executor, List.of(check(contributor, Duration.ofMillis(50), Duration.ZERO)));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("timed out after 50 ms", aggregator.evaluate().get("stuck").getDetail());
+            Thread.sleep(60);
+        }
+        assertEquals(1, contributor.calls.get());
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contributor.calls.get() < 2 && System.nanoTime() < deadline) {
+            aggregator.evaluate();
+        }
+        assertEquals(2, contributor.calls.get());
+        assertEquals(1, maxConcurrent.get());
+    }
+
+    @Test
+    void reusesResultForTtl() {
+        CountingContributor contributor = new CountingContributor("disk", () -> HealthCheckResult.up(null));
+        HealthAggregator cached = new HealthAggregator(executor, List.of(check(contributor, Duration.ofSeconds(1), Duration.ofMinutes(1))));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(cached.evaluate().get("disk").isUp());
+        }
+        assertEquals(1, contributor.calls.get());
+
+        CountingContributor uncached = new CountingContributor("disk", () -> HealthCheckResult.up(null));
+        HealthAggregator aggregator = new HealthAggregator(executor, List.of(check(uncached, Duration.ofSeconds(1), Duration.ZERO)));
+        aggregator.evaluate();
+        aggregator.evaluate();
+        assertEquals(2, uncached.calls.get());
+    }
+
+    @Test
+    void concurrentCallersShareOneRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingContributor contributor = new CountingContributor("downstream", () -> {
+            release.await();
+            return HealthCheckResult.down("refused");
+        });
+        HealthAggregator aggregator = new HealthAggregator(executor, List.of(check(contributor, Duration.ofSeconds(5), Duration.ZERO)));
+
+        List<Future<Map<String, HealthCheckResult>>> callers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            callers.add(executor.submit(aggregator::evaluate));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        for (Future<Map<String, HealthCheckResult>> caller : callers) {
+            assertEquals("refused", caller.get().get("downstream").getDetail());
+        }
+        assertEquals(1, contributor.calls.get());
+    }
+
+    @Test
+    void exceptionsAndNullResultsAreDown() {
+        HealthAggregator aggregator = new HealthAggregator(Runnable::run, List.of(
+                check(new CountingContributor("throws", () -> {
+                    throw new IllegalStateException("boom");
+                }), Duration.ofSeconds(1), Duration.ZERO),
+                check(new CountingContributor("null", () -> null), Duration.ofSeconds(1), Duration.ZERO)));
+
+        Map<String, HealthCheckResult> results = aggregator.evaluate();
+
+        assertEquals("java.lang.IllegalStateException: boom", results.get("throws").getDetail());
+        assertFalse(results.get("null").isUp());
+    }
+
+    private static HealthAggregator.Check check(HealthContributor contributor, Duration timeout, Duration ttl) {
+        return new HealthAggregator.Check(contributor, timeout, ttl);
+    }
+
+    private interface CheckBody {
+        HealthCheckResult run() throws Exception;
+    }
+
+    private static final class CountingContributor implements HealthContributor {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        private final String name;
+
+        private final CheckBody body;
+
+        CountingContributor(String name, CheckBody body) {
+            this.name = name;
+            this.body = body;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public HealthCheckResult check() throws Exception {
+            calls.incrementAndGet();
+            return body.run();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package me.xstr.api.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long WINDOW = 100_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 10, 200, 1.5, WINDOW, now::get);
+
+    @Test
+    void rejectsRequestsOverTheLimit() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limit.tryAcquire() >= 0);
+        }
+
+        assertEquals(-1, limit.tryAcquire());
+        assertEquals(20, limit.getInFlight());
+
+        limit.release(0, false);
+        assertTrue(limit.tryAcquire() >= 0);
+    }
+
+    @Test
+    void growsWhileLatencyHoldsAndShrinksWhenRequestsQueue() {
+        for (int i = 0; i < 20; i++) {
+            window(limit.getLimit(), 1_000_000L);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 20, "limit " + grown);
+
+        for (int i = 0; i < 20; i++) {
+            window(limit.getLimit(), 10_000_000L);
+        }
+        assertTrue(limit.getLimit() < grown / 2, "limit " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 10);
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() {
+        for (int i = 0; i < 20; i++) {
+            window(5, 1_000_000L);
+        }
+
+        assertEquals(20, limit.getLimit());
+    }
+
+    /**
+     * Runs up to {@code concurrency} requests of {@code rtt} nanoseconds at once, twice, then moves to the next window.
+     */
+    private void window(int concurrency, long rtt) {
+        for (int round = 0; round < 2; round++) {
+            long[] starts = new long[Math.min(concurrency, limit.getLimit())];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = limit.tryAcquire();
+                assertTrue(starts[i] >= 0);
+            }
+            now.addAndGet(rtt);
+            for (long start : starts) {
+                limit.release(start, true);
+            }
+        }
+        now.addAndGet(WINDOW);
+    }
+}
@@ -0,0 +1,84 @@
+package me.xstr.api.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(42);
+
+    @Test
+    void spendsTheBurstThenRefillsAtTheRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(new RateLimitPolicy(10, Duration.ofSeconds(1), 3), 16, now::get);
+
+        assertEquals(2, limiter.tryAcquire("a"));
+        assertEquals(1, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(-SECOND / 10, limiter.tryAcquire("a"));
+        assertEquals(2, limiter.tryAcquire("b"));
+
+        now.addAndGet(SECOND / 10);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(3 * SECOND / 10, limiter.resetNanos(0));
+
+        now.addAndGet(SECOND);
+        assertEquals(2, limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void evictsFullBucketsBeforeBusyOnes() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(new RateLimitPolicy(1, Duration.ofSeconds(1), 2), 4, now::get);
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("idle-" + i);
+        }
+        now.addAndGet(SECOND);
+
+        // Refilled callers are replaced first; "busy" is still a permit short and keeps its bucket
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, limiter.tryAcquire("new-" + i));
+        }
+        assertEquals(0, limiter.tryAcquire("busy"));
+        assertTrue(limiter.tryAcquire("busy") < 0);
+    }
+
+    @Test
+    void grantsExactlyTheBurstUnderContention() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(new RateLimitPolicy(1, Duration.ofHours(1), 1000), 1024, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> granted = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                granted.add(executor.submit(() -> {
+                    int n = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (limiter.tryAcquire("shared") >= 0) {
+                            n++;
+                        }
+                    }
+                    return n;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> future : granted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(1000, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
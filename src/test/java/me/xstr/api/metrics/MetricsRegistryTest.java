@@ -0,0 +1,62 @@
+package me.xstr.api.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void writesPrometheusTextFormat() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        OperationMetrics version = registry.forOperation("getVersion");
+        OperationMetrics health = registry.forOperation("getHealth");
+        health.stop(health.start() - 2_000_000_000L, 200);
+        health.stop(health.start(), 503);
+        version.start();
+        registry.register(writer -> writer.write(PrometheusTextWriter.ascii("extra 1\n")));
+
+        String text = scrape(registry);
+
+        assertTrue(text.startsWith("# HELP xstr_http_requests_total "), text);
+        assertTrue(text.contains("""
+                # TYPE xstr_http_requests_total counter
+                xstr_http_requests_total{operation="getHealth",status="200"} 1
+                xstr_http_requests_total{operation="getHealth",status="503"} 1
+                """), text);
+        assertTrue(text.contains("""
+                xstr_http_requests_in_flight{operation="getHealth"} 0
+                xstr_http_requests_in_flight{operation="getVersion"} 1
+                """), text);
+        assertTrue(text.contains("# TYPE xstr_http_request_duration_seconds histogram\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_bucket{operation=\"getHealth\",le=\"0.0005\"} 1\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_bucket{operation=\"getHealth\",le=\"1\"} 1\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_bucket{operation=\"getHealth\",le=\"2.5\"} 2\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_bucket{operation=\"getHealth\",le=\"+Inf\"} 2\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_count{operation=\"getHealth\"} 2\n"), text);
+        assertTrue(text.contains("xstr_http_request_duration_seconds_sum{operation=\"getHealth\"} 2."), text);
+        assertTrue(text.indexOf("operation=\"getHealth\"") < text.indexOf("operation=\"getVersion\""), text);
+        assertTrue(text.endsWith("extra 1\n"), text);
+    }
+
+    @Test
+    void writesNumbersWithoutStrings() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrometheusTextWriter writer = new PrometheusTextWriter(out);
+        writer.write(0L).write(' ').write(-42L).write(' ').write(Long.MAX_VALUE).write(' ')
+                .seconds(0L).write(' ').seconds(1_500_000_000L).write(' ').seconds(123L).write(' ').seconds(2_000_000_000L);
+        writer.write(PrometheusTextWriter.ascii(" " + PrometheusTextWriter.quote("a\"b\\c\nd")));
+        writer.flush();
+
+        assertEquals("0 -42 9223372036854775807 0 1.5 0.000000123 2 \"a\\\"b\\\\c\\nd\"", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    private static String scrape(MetricsRegistry registry) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        registry.writeTo(out);
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+}
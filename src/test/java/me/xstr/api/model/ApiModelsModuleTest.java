@@ -0,0 +1,72 @@
+package me.xstr.api.model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import me.xstr.api.time.CachedClock;
+import me.xstr.api.time.RFC3339Module;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiModelsModuleTest {
+
+    private final ObjectMapper generated = mapper().registerModule(new ApiModelsModule());
+
+    private final ObjectMapper introspected = mapper();
+
+    private static ObjectMapper mapper() {
+        return new ObjectMapper()
+                .registerModule(new RFC3339Module(new CachedClock()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void writesSameJsonAsBeanSerializer() throws Exception {
+        OffsetDateTime timestamp = OffsetDateTime.parse("2025-05-27T10:30:00.123Z");
+        List<Object> models = List.of(
+                new HealthResponse().status(HealthResponse.StatusEnum.UNHEALTHY).timestamp(timestamp)
+                        .version("0.0.1-alpha").uptime("2d 5h 30m"),
+                new HealthResponse().status(HealthResponse.StatusEnum.HEALTHY),
+                new VersionResponse("0.0.1-alpha", "abc123def").timestamp(timestamp),
+                new ErrorResponse("SERVICE_UNAVAILABLE", "unavailable")
+                        .details(Map.of("retryAfterSeconds", 5, "nested", List.of("a", "b"))).timestamp(timestamp),
+                new ErrorResponse("E", "m"));
+        for (Object model : models) {
+            assertEquals(introspected.writeValueAsString(model), generated.writeValueAsString(model));
+        }
+    }
+
+    @Test
+    void roundTrips() throws Exception {
+        ErrorResponse error = new ErrorResponse("E", "m")
+                .details(Map.of("retryAfterSeconds", 5))
+                .timestamp(OffsetDateTime.parse("2025-05-27T10:30:00Z"));
+        assertEquals(error, generated.readValue(generated.writeValueAsBytes(error), ErrorResponse.class));
+
+        HealthResponse health = generated.readValue(
+                "{\"status\":\"unhealthy\",\"timestamp\":null,\"uptime\":\"1m\"}", HealthResponse.class);
+        assertEquals(HealthResponse.StatusEnum.UNHEALTHY, health.getStatus());
+        assertNull(health.getTimestamp());
+        assertEquals("1m", health.getUptime());
+    }
+
+    @Test
+    void reportsUnknownFieldsAndBadEnumsLikeBeanDeserializer() throws Exception {
+        String unknown = "{\"version\":\"1\",\"build\":\"c\",\"extra\":1}";
+        assertThrows(UnrecognizedPropertyException.class, () -> generated.readValue(unknown, VersionResponse.class));
+        VersionResponse lenient = generated.copy()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(unknown, VersionResponse.class);
+        assertEquals("c", lenient.getBuild());
+
+        assertThrows(InvalidFormatException.class,
+                () -> generated.readValue("{\"status\":\"sideways\"}", HealthResponse.class));
+    }
+}
@@ -0,0 +1,112 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.health.HealthAggregator;
+import me.xstr.api.health.HealthCheckResult;
+import me.xstr.api.health.HealthContributor;
+import me.xstr.api.model.ErrorResponse;
+import me.xstr.api.model.HealthResponse;
+import me.xstr.api.model.VersionResponse;
+import me.xstr.api.time.CachedClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthSnapshotServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ModelCodecs codecs = new ModelCodecs(objectMapper);
+
+    private final VersionService versionService = new VersionService(codecs, new VersionResponse("1.2.3", "abc123"));
+
+    private HealthSnapshotService service(HealthContributor... contributors) {
+        List<HealthAggregator.Check> checks = Arrays.stream(contributors)
+                .map(c -> new HealthAggregator.Check(c, Duration.ofSeconds(1), Duration.ZERO))
+                .toList();
+        return new HealthSnapshotService(codecs, new CachedClock(), versionService,
+                new HealthAggregator(Runnable::run, checks));
+    }
+
+    private static HealthContributor contributor(String name, HealthCheckResult result) {
+        return new HealthContributor() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public HealthCheckResult check() {
+                return result;
+            }
+        };
+    }
+
+    @Test
+    void snapshotBodyMatchesModel() throws Exception {
+        HealthSnapshotService service = service();
+
+        HealthSnapshot snapshot = service.getSnapshot();
+        HealthResponse decoded = objectMapper.readValue(snapshot.getBody().get(ModelFormat.JSON).getIdentity(), HealthResponse.class);
+
+        assertEquals(HttpStatus.OK, snapshot.getStatus());
+        assertEquals(HealthResponse.StatusEnum.HEALTHY, decoded.getStatus());
+        assertEquals("1.2.3", decoded.getVersion());
+        assertEquals(snapshot.getResponse().getTimestamp().toInstant(), decoded.getTimestamp().toInstant());
+    }
+
+    @Test
+    void failingCheckYieldsServiceUnavailable() throws Exception {
+        HealthSnapshotService service = service(
+                contributor("disk", HealthCheckResult.up("plenty")),
+                contributor("downstream", HealthCheckResult.down("connection refused")));
+
+        HealthSnapshot snapshot = service.getSnapshot();
+        ErrorResponse decoded = objectMapper.readValue(snapshot.getBody().get(ModelFormat.JSON).getIdentity(), ErrorResponse.class);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, snapshot.getStatus());
+        assertEquals(HealthResponse.StatusEnum.UNHEALTHY, snapshot.getResponse().getStatus());
+        assertEquals(HealthSnapshotService.UNHEALTHY_CODE, decoded.getError());
+        assertEquals(Map.of(
+                "disk", Map.of("status", "up", "detail", "plenty"),
+                "downstream", Map.of("status", "down", "detail", "connection refused")), decoded.getDetails());
+    }
+
+    @Test
+    void snapshotBodyIsEncodedInEveryFormat() throws Exception {
+        HealthSnapshot snapshot = service().getSnapshot();
+
+        for (ModelFormat format : ModelFormat.values()) {
+            assertEquals(format.getContentType(), snapshot.getBody().get(format).getContentType());
+            HealthResponse decoded = codecs.getMapper(format).readValue(snapshot.getBody().get(format).getIdentity(),
+                    HealthResponse.class);
+            assertEquals(snapshot.getResponse().getStatus(), decoded.getStatus());
+            assertEquals("1.2.3", decoded.getVersion());
+        }
+    }
+
+    @Test
+    void refreshReplacesSnapshot() {
+        HealthSnapshotService service = service();
+        HealthSnapshot before = service.getSnapshot();
+
+        service.refresh();
+
+        assertNotSame(before, service.getSnapshot());
+    }
+
+    @Test
+    void formatsUptime() {
+        assertEquals("0d 0h 0m", HealthSnapshotService.formatUptime(59_999L));
+        assertEquals("2d 5h 30m", HealthSnapshotService.formatUptime(((2L * 24 + 5) * 60 + 30) * 60_000L));
+    }
+}
@@ -0,0 +1,160 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.health.HealthAggregator;
+import me.xstr.api.health.HealthCheckResult;
+import me.xstr.api.health.HealthContributor;
+import me.xstr.api.model.VersionResponse;
+import me.xstr.api.time.CachedClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthStreamBroadcasterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final AtomicReference<HealthCheckResult> check = new AtomicReference<>(HealthCheckResult.up("fine"));
+
+    private final AtomicLong now = new AtomicLong(42);
+
+    private final HealthSnapshotService healthSnapshotService = new HealthSnapshotService(new ModelCodecs(objectMapper), new CachedClock(),
+            new VersionService(new ModelCodecs(objectMapper), new VersionResponse("1.2.3", "abc123")),
+            new HealthAggregator(Runnable::run, List.of(new HealthAggregator.Check(new HealthContributor() {
+                @Override
+                public String getName() {
+                    return "downstream";
+                }
+
+                @Override
+                public HealthCheckResult check() {
+                    return check.get();
+                }
+            }, Duration.ofSeconds(1), Duration.ZERO))));
+
+    private final HealthStreamBroadcaster broadcaster = new HealthStreamBroadcaster(healthSnapshotService, objectMapper,
+            Duration.ofSeconds(30), now::get);
+
+    @Test
+    void sendsTheStatusOnConnectThenOnlyChangesAndHeartbeats() throws Exception {
+        Connection connection = subscribe();
+        assertTrue(connection.request.isAsyncStarted());
+        assertEquals("text/event-stream", connection.response.getContentType());
+        assertEquals("", connection.received());
+
+        connection.out.listener.onWritePossible();
+        assertTrue(connection.received().startsWith("event: health\ndata: {\"status\":\"healthy\""));
+        assertTrue(connection.received().endsWith("}\n\n"));
+
+        healthSnapshotService.refresh();
+        String connected = connection.received();
+        check.set(HealthCheckResult.down("connection refused"));
+        healthSnapshotService.refresh();
+        String changed = connection.received().substring(connected.length());
+        assertTrue(changed.startsWith("event: health\ndata: {\"status\":\"unhealthy\""));
+
+        broadcaster.heartbeat();
+        assertTrue(connection.received().endsWith("}\n\n: heartbeat\n\n"));
+    }
+
+    @Test
+    void sendsSlowSubscribersOnlyTheLatestStatus() throws Exception {
+        Connection connection = subscribe();
+        connection.out.listener.onWritePossible();
+        String connected = connection.received();
+
+        connection.out.ready = false;
+        check.set(HealthCheckResult.down("connection refused"));
+        healthSnapshotService.refresh();
+        check.set(HealthCheckResult.up("fine"));
+        healthSnapshotService.refresh();
+        broadcaster.heartbeat();
+        connection.out.ready = true;
+        connection.out.listener.onWritePossible();
+
+        String sent = connection.received().substring(connected.length());
+        assertTrue(sent.startsWith("event: health\ndata: {\"status\":\"healthy\""));
+        assertEquals(1, sent.split("\n\n").length);
+    }
+
+    @Test
+    void disconnectsSubscribersThatStopReading() throws Exception {
+        Connection stalled = subscribe();
+        Connection reading = subscribe();
+        stalled.out.listener.onWritePossible();
+        reading.out.listener.onWritePossible();
+        assertEquals(2, broadcaster.getSubscriberCount());
+
+        stalled.out.ready = false;
+        broadcaster.heartbeat();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        broadcaster.heartbeat();
+
+        assertFalse(stalled.request.isAsyncStarted());
+        assertTrue(reading.request.isAsyncStarted());
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    private Connection subscribe() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/health/stream");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        TestOutputStream out = new TestOutputStream();
+        broadcaster.subscribe(request, new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return out;
+            }
+        });
+        return new Connection(request, response, out);
+    }
+
+    private record Connection(MockHttpServletRequest request, MockHttpServletResponse response, TestOutputStream out) {
+
+        String received() {
+            return out.written.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Non-blocking output whose readiness the test controls.
+     */
+    private static final class TestOutputStream extends ServletOutputStream {
+
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        boolean ready = true;
+
+        WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void write(int b) {
+            written.write(b);
+        }
+    }
+}
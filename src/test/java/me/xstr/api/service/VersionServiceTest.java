@@ -0,0 +1,64 @@
+package me.xstr.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.xstr.api.controller.ModelCodecs;
+import me.xstr.api.controller.ModelFormat;
+import me.xstr.api.model.VersionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.info.GitProperties;
+
+import java.time.Instant;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void buildsFromBuildMetadata() {
+        Properties build = new Properties();
+        build.setProperty("version", "1.2.3");
+        build.setProperty("time", Instant.parse("2025-05-27T08:00:00Z").toString());
+        Properties git = new Properties();
+        git.setProperty("commit.id", "abc123def4567890");
+
+        VersionResponse response = VersionService.fromBuildMetadata(
+                new BuildProperties(build), new GitProperties(git), "fallback");
+
+        assertEquals("1.2.3", response.getVersion());
+        assertEquals("abc123d", response.getBuild());
+        assertEquals(Instant.parse("2025-05-27T08:00:00Z"), response.getTimestamp().toInstant());
+    }
+
+    @Test
+    void fallsBackWithoutBuildMetadata() {
+        VersionResponse response = VersionService.fromBuildMetadata(null, null, "0.0.1-alpha");
+
+        assertEquals("0.0.1-alpha", response.getVersion());
+        assertEquals(VersionService.UNKNOWN_BUILD, response.getBuild());
+        assertNull(response.getTimestamp());
+    }
+
+    @Test
+    void eTagIsStrongAndStable() throws Exception {
+        VersionService first = new VersionService(new ModelCodecs(objectMapper), new VersionResponse("1.2.3", "abc123"));
+        VersionService second = new VersionService(new ModelCodecs(objectMapper), new VersionResponse("1.2.3", "abc123"));
+
+        assertTrue(first.getETag(ModelFormat.JSON).startsWith("\"") && first.getETag(ModelFormat.JSON).endsWith("\""));
+        assertEquals(first.getETag(ModelFormat.JSON), second.getETag(ModelFormat.JSON));
+        assertEquals("1.2.3", objectMapper.readValue(first.getBody().get(ModelFormat.JSON).getIdentity(), VersionResponse.class).getVersion());
+    }
+
+    @Test
+    void eTagDiffersPerFormat() {
+        VersionService service = new VersionService(new ModelCodecs(objectMapper), new VersionResponse("1.2.3", "abc123"));
+
+        assertNotEquals(service.getETag(ModelFormat.JSON), service.getETag(ModelFormat.CBOR));
+        assertNotEquals(service.getETag(ModelFormat.JSON), service.getETag(ModelFormat.SMILE));
+        assertNotEquals(service.getETag(ModelFormat.CBOR), service.getETag(ModelFormat.SMILE));
+    }
+}
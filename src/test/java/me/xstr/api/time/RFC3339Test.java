@@ -0,0 +1,131 @@
+package me.xstr.api.time;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.xstr.api.RFC3339DateFormat;
+import me.xstr.api.model.ErrorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RFC3339Test {
+
+    @Test
+    void formatsLikeIsoInstant() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long epochSecond = -62167219200L + (long) (random.nextDouble() * (253402300799L + 62167219200L));
+            int nanos = random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000);
+            Instant instant = Instant.ofEpochSecond(epochSecond, nanos);
+            String formatted = RFC3339.format(instant.atOffset(ZoneOffset.UTC));
+            assertEquals(instant, Instant.parse(formatted), formatted);
+            assertEquals(instant, RFC3339.parse(formatted).toInstant(), formatted);
+        }
+    }
+
+    @Test
+    void formatsFractionInThreeDigitGroups() {
+        assertEquals("2025-05-27T10:30:00Z", RFC3339.format(OffsetDateTime.parse("2025-05-27T10:30:00Z")));
+        assertEquals("2025-05-27T10:30:00.120Z", RFC3339.format(OffsetDateTime.parse("2025-05-27T10:30:00.12Z")));
+        assertEquals("2025-05-27T10:30:00.000120Z", RFC3339.format(OffsetDateTime.parse("2025-05-27T10:30:00.00012Z")));
+        assertEquals("1969-12-31T23:59:59.999Z", RFC3339.formatEpochMilli(-1L));
+    }
+
+    @Test
+    void parsesOffsetsAndNormalizesToUtc() {
+        OffsetDateTime parsed = RFC3339.parse("2025-05-27T12:30:00.5+02:00");
+        assertEquals(ZoneOffset.UTC, parsed.getOffset());
+        assertEquals(Instant.parse("2025-05-27T10:30:00.5Z"), parsed.toInstant());
+        assertEquals(Instant.parse("2025-05-27T00:00:00Z"), RFC3339.parse("2025-05-27").toInstant());
+        assertEquals(Instant.parse("2025-05-27T10:30:00Z"), RFC3339.parse("2025-05-27t10:30:00z").toInstant());
+    }
+
+    @Test
+    void rejectsInvalidTimestamps() {
+        for (String text : new String[] {"", "2025-5-27", "2025-05-27T10:30", "2025-05-27T10:30:00",
+                "2025-13-01T00:00:00Z", "2025-02-30T00:00:00Z", "2025-05-27T10:30:00.Z", "2025-05-27T10:30:00Zx"}) {
+            assertThrows(DateTimeException.class, () -> RFC3339.parse(text), text);
+        }
+    }
+
+    @Test
+    void dateFormatIsSafeToShare() throws Exception {
+        RFC3339DateFormat format = new RFC3339DateFormat();
+        assertSame(format, format.clone());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        Date date = new Date(random.nextLong() % 253402300799000L);
+                        if (date.getTime() < -62167219200000L) {
+                            continue;
+                        }
+                        String text = format.format(date);
+                        assertEquals(date, format.parse(text, new ParsePosition(0)), text);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void dateFormatReportsErrorIndex() {
+        ParsePosition pos = new ParsePosition(0);
+        assertNull(new RFC3339DateFormat().parse("2025-05X", pos));
+        assertTrue(pos.getErrorIndex() >= 0);
+    }
+
+    @Test
+    void moduleWritesCachedSecondAndRoundTrips() throws Exception {
+        CachedClock clock = new CachedClock();
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new RFC3339Module(clock))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CachedClock.Tick tick = clock.tick();
+
+        String json = mapper.writeValueAsString(new ErrorResponse("E", "m").timestamp(tick.getDateTime()));
+        assertTrue(json.contains("\"timestamp\":\"" + tick.getText() + "\""), json);
+
+        OffsetDateTime other = OffsetDateTime.parse("2025-05-27T10:30:00.123Z");
+        ErrorResponse decoded = mapper.readValue(
+                mapper.writeValueAsString(new ErrorResponse("E", "m").timestamp(other)), ErrorResponse.class);
+        assertEquals(other, decoded.getTimestamp());
+    }
+
+    @Test
+    void moduleReusesScratchBufferAcrossLengths() throws Exception {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new RFC3339Module(new CachedClock()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        char[] buf = RFC3339.buffer();
+
+        for (String text : List.of("2025-05-27T10:30:00.123456789Z", "2001-01-01T00:00:00Z", "2025-05-27T10:30:00.5Z")) {
+            OffsetDateTime dateTime = OffsetDateTime.parse(text);
+            String json = mapper.writeValueAsString(new ErrorResponse("E", "m").timestamp(dateTime));
+            assertTrue(json.contains("\"timestamp\":\"" + RFC3339.format(dateTime) + "\""), json);
+        }
+        assertSame(buf, RFC3339.buffer());
+    }
+}
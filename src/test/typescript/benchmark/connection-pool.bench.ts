@@ -0,0 +1,116 @@
+import { fork, ChildProcess } from 'child_process';
+import * as http from 'http';
+import * as path from 'path';
+import { HealthApi } from '../../../main/typescript/me/xstr/api/apis/health-api';
+import { Configuration } from '../../../main/typescript/configuration';
+import { ConcurrencyLimiter } from '../../../main/typescript/concurrency-limiter';
+import {
+  createConnectionPool,
+  destroyConnectionPool,
+} from '../../../main/typescript/connection-pool';
+
+// Compares a client without pooling (a new socket per request) and one with a keep-alive
+// connection pool and concurrency limiter, firing BENCH_REQUESTS calls in bursts of
+// BENCH_BURST against a stub server. Run with `npm run bench`.
+const requests = Number(process.env.BENCH_REQUESTS ?? 20000);
+const burst = Number(process.env.BENCH_BURST ?? 500);
+const maxConcurrent = Number(process.env.BENCH_MAX_CONCURRENT ?? 64);
+
+interface Result {
+  variant: string;
+  'requests/s': number;
+  'p50 ms': number;
+  'p99 ms': number;
+  errors: number;
+  connections: number;
+}
+
+describe('connection pool benchmark', () => {
+  let server: ChildProcess;
+  let basePath: string;
+
+  const ask = <T>(message: string, key: keyof T): Promise<T[keyof T]> =>
+    new Promise(resolve => {
+      const listener = (reply: T) => {
+        if (reply[key] !== undefined) {
+          server.off('message', listener);
+          resolve(reply[key]);
+        }
+      };
+      server.on('message', listener);
+      if (message) {
+        server.send(message);
+      }
+    });
+
+  beforeAll(async () => {
+    server = fork(path.join(__dirname, 'stub-server.js'));
+    const port = await ask<{ port: number }>('', 'port');
+    basePath = `http://127.0.0.1:${port}/v1`;
+  });
+
+  afterAll(() => {
+    server.disconnect();
+  });
+
+  const run = async (variant: string, configuration: Configuration): Promise<Result> => {
+    const api = new HealthApi(configuration);
+    const before = await ask<{ connections: number }>('connections', 'connections');
+    const latencies: number[] = [];
+    let errors = 0;
+    const start = process.hrtime.bigint();
+    for (let sent = 0; sent < requests; sent += burst) {
+      const calls: Promise<unknown>[] = [];
+      for (let i = sent; i < Math.min(sent + burst, requests); i++) {
+        const callStart = process.hrtime.bigint();
+        calls.push(
+          api.getHealth().then(
+            () => latencies.push(Number(process.hrtime.bigint() - callStart) / 1e6),
+            () => errors++
+          )
+        );
+      }
+      await Promise.all(calls);
+    }
+    const seconds = Number(process.hrtime.bigint() - start) / 1e9;
+    const after = await ask<{ connections: number }>('connections', 'connections');
+    latencies.sort((a, b) => a - b);
+    const percentile = (p: number) =>
+      latencies.length ? Math.round(latencies[Math.min(latencies.length - 1, Math.floor(latencies.length * p))] * 10) / 10 : NaN;
+    return {
+      variant,
+      'requests/s': Math.round(latencies.length / seconds),
+      'p50 ms': percentile(0.5),
+      'p99 ms': percentile(0.99),
+      errors,
+      connections: after - before,
+    };
+  };
+
+  it('compares throughput with and without pooling', async () => {
+    const results: Result[] = [];
+
+    const unpooled = new http.Agent({ keepAlive: false });
+    results.push(
+      await run('unpooled', new Configuration({ basePath, baseOptions: { httpAgent: unpooled } }))
+    );
+    unpooled.destroy();
+
+    const pool = createConnectionPool({ maxSockets: maxConcurrent, maxFreeSockets: maxConcurrent });
+    results.push(
+      await run(
+        'pooled',
+        new Configuration({
+          basePath,
+          connectionPool: pool,
+          concurrencyLimiter: new ConcurrencyLimiter({ maxConcurrent, maxQueued: requests }),
+        })
+      )
+    );
+    destroyConnectionPool(pool);
+
+    console.table(results);
+    expect(results[1].errors).toBe(0);
+    expect(results[1].connections).toBeLessThanOrEqual(maxConcurrent);
+  }, 600000);
+});
@@ -0,0 +1,37 @@
+// Stub of GET /v1/health for the client benchmark, run in its own process so that server work
+// does not share the event loop with the client being measured. Reports its port and, on
+// request, the number of connections it has accepted.
+const http = require('http');
+
+const delayMs = Number(process.env.STUB_DELAY_MS ?? 2);
+const body = JSON.stringify({
+  status: 'HEALTHY',
+  timestamp: '2025-06-03T10:00:00Z',
+  version: '1.0.0',
+});
+
+let connections = 0;
+
+const server = http.createServer((req, res) => {
+  setTimeout(() => {
+    res.writeHead(200, {
+      'Content-Type': 'application/json',
+      'Content-Length': Buffer.byteLength(body),
+    });
+    res.end(body);
+  }, delayMs);
+});
+server.keepAliveTimeout = 60000;
+server.maxConnections = Number(process.env.STUB_MAX_CONNECTIONS ?? 100000);
+server.on('connection', () => connections++);
+
+server.listen(0, '127.0.0.1', () => {
+  process.send({ port: server.address().port });
+});
+
+process.on('message', message => {
+  if (message === 'connections') {
+    process.send({ connections });
+  }
+});
+process.on('disconnect', () => process.exit(0));
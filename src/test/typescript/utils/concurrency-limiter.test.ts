@@ -0,0 +1,105 @@
+import {
+  ConcurrencyLimiter,
+  ConcurrencyLimitExceededError,
+} from '../../../main/typescript/concurrency-limiter';
+import { Configuration } from '../../../main/typescript/configuration';
+import { HealthApi } from '../../../main/typescript/me/xstr/api/apis/health-api';
+import { AxiosInstance } from 'axios';
+
+describe('ConcurrencyLimiter', () => {
+  const deferred = () => {
+    let resolve: (value: string) => void = () => undefined;
+    let reject: (reason: Error) => void = () => undefined;
+    const promise = new Promise<string>((res, rej) => {
+      resolve = res;
+      reject = rej;
+    });
+    return { promise, resolve, reject };
+  };
+
+  it('should queue tasks over the limit and start them in order', async () => {
+    const limiter = new ConcurrencyLimiter({ maxConcurrent: 2 });
+    const tasks = [deferred(), deferred(), deferred(), deferred()];
+    const started: number[] = [];
+
+    const results = tasks.map((task, i) =>
+      limiter.run(() => {
+        started.push(i);
+        return task.promise;
+      })
+    );
+
+    expect(started).toEqual([0, 1]);
+    expect(limiter.active).toBe(2);
+    expect(limiter.queued).toBe(2);
+
+    tasks[1].resolve('b');
+    await results[1];
+    expect(started).toEqual([0, 1, 2]);
+
+    tasks[0].reject(new Error('failed'));
+    await expect(results[0]).rejects.toThrow('failed');
+    expect(started).toEqual([0, 1, 2, 3]);
+
+    tasks[2].resolve('c');
+    tasks[3].resolve('d');
+    await expect(Promise.all(results.slice(2))).resolves.toEqual(['c', 'd']);
+    expect(limiter.active).toBe(0);
+  });
+
+  it('should reject tasks when the queue is full', async () => {
+    const limiter = new ConcurrencyLimiter({ maxConcurrent: 1, maxQueued: 1 });
+    const task = deferred();
+
+    const first = limiter.run(() => task.promise);
+    const second = limiter.run(() => Promise.resolve('queued'));
+    await expect(limiter.run(() => Promise.resolve('rejected'))).rejects.toBeInstanceOf(
+      ConcurrencyLimitExceededError
+    );
+
+    task.resolve('first');
+    await expect(first).resolves.toBe('first');
+    await expect(second).resolves.toBe('queued');
+  });
+
+  it('should release the slot when a task throws', async () => {
+    const limiter = new ConcurrencyLimiter({ maxConcurrent: 1 });
+
+    await expect(
+      limiter.run(() => {
+        throw new Error('sync');
+      })
+    ).rejects.toThrow('sync');
+    await expect(limiter.run(() => Promise.resolve('next'))).resolves.toBe('next');
+  });
+
+  it('should limit requests of a configuration', async () => {
+    const mockAxios = {
+      request: jest.fn(),
+      defaults: {} as any,
+      interceptors: {} as any,
+    } as unknown as jest.Mocked<AxiosInstance>;
+    const response = deferred();
+    mockAxios.request.mockReturnValue(response.promise as any);
+    const limiter = new ConcurrencyLimiter({ maxConcurrent: 1 });
+    const api = new HealthApi(new Configuration({ concurrencyLimiter: limiter }), undefined, mockAxios);
+
+    const calls = [api.getHealth(), api.getHealth()];
+    await new Promise(r => setImmediate(r));
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(1);
+    expect(limiter.queued).toBe(1);
+    response.resolve('ok');
+    await Promise.all(calls);
+    expect(mockAxios.request).toHaveBeenCalledTimes(2);
+  });
+
+  it('should set the agents of a connection pool on every request', () => {
+    const pool = { httpAgent: {} as any, httpsAgent: {} as any };
+
+    const configuration = new Configuration({ connectionPool: pool });
+
+    expect(configuration.baseOptions.httpAgent).toBe(pool.httpAgent);
+    expect(configuration.baseOptions.httpsAgent).toBe(pool.httpsAgent);
+  });
+});
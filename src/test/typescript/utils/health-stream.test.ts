@@ -0,0 +1,87 @@
+import { subscribeHealth, HealthSubscription } from '../../../main/typescript/health-stream';
+import { Configuration } from '../../../main/typescript/configuration';
+import type { HealthResponse } from '../../../main/typescript/me/xstr/api/models';
+
+describe('subscribeHealth', () => {
+  let subscription: HealthSubscription | undefined;
+
+  afterEach(() => subscription?.close());
+
+  // Sends the chunks and leaves the stream open, as the server does
+  const eventStream = (chunks: string[]) => {
+    const encoder = new TextEncoder();
+    return new Response(
+      new ReadableStream<Uint8Array>({
+        start(controller) {
+          chunks.forEach(chunk => controller.enqueue(encoder.encode(chunk)));
+        },
+      }),
+      { status: 200, headers: { 'Content-Type': 'text/event-stream' } }
+    );
+  };
+
+  const healthy = 'event: health\ndata: {"status":"healthy","timestamp":"2025-05-27T10:30:00Z"}\n\n';
+
+  const received = (count: number, subscribe: (onHealth: (health: HealthResponse) => void) => HealthSubscription) =>
+    new Promise<HealthResponse[]>(resolve => {
+      const events: HealthResponse[] = [];
+      subscription = subscribe(health => {
+        events.push(health);
+        if (events.length === count) {
+          resolve(events);
+        }
+      });
+    });
+
+  it('should deliver health events and skip heartbeats', async () => {
+    const fetch = jest.fn().mockResolvedValue(
+      eventStream([
+        healthy,
+        ': heartbeat\n\n',
+        'event: health\nda',
+        'ta: {"status":"unhealthy","timestamp":"2025-05-27T10:31:00Z"}\n\n',
+      ])
+    );
+
+    const events = await received(2, onHealth =>
+      subscribeHealth(
+        { onHealth, fetch },
+        new Configuration({ basePath: 'https://api.xstr.me/v1', accessToken: 'token' })
+      )
+    );
+
+    expect(events.map(e => e.status)).toEqual(['healthy', 'unhealthy']);
+    const [url, init] = fetch.mock.calls[0];
+    expect(url).toBe('https://api.xstr.me/v1/health/stream');
+    expect(init.headers).toEqual({ Authorization: 'Bearer token', Accept: 'text/event-stream' });
+  });
+
+  it('should reconnect after a failure', async () => {
+    const onError = jest.fn();
+    const fetch = jest
+      .fn()
+      .mockRejectedValueOnce(new Error('connection refused'))
+      .mockResolvedValueOnce(new Response('', { status: 503 }))
+      .mockImplementation(() => Promise.resolve(eventStream([healthy])));
+
+    const events = await received(1, onHealth =>
+      subscribeHealth({ onHealth, onError, fetch, reconnectDelay: 1 }, new Configuration({ basePath: 'http://localhost' }))
+    );
+
+    expect(events[0].status).toBe('healthy');
+    expect(fetch).toHaveBeenCalledTimes(3);
+    expect(onError).toHaveBeenCalledTimes(2);
+  });
+
+  it('should replace a silent connection', async () => {
+    const fetch = jest
+      .fn()
+      .mockResolvedValueOnce(eventStream([]))
+      .mockImplementation(() => Promise.resolve(eventStream([healthy])));
+
+    await received(1, onHealth => subscribeHealth({ onHealth, fetch, idleTimeout: 20, reconnectDelay: 1 }));
+
+    expect(fetch).toHaveBeenCalledTimes(2);
+    expect(fetch.mock.calls[0][1].signal.aborted).toBe(true);
+  });
+});
@@ -0,0 +1,135 @@
+import { ResponseCache } from '../../../main/typescript/response-cache';
+import { Configuration } from '../../../main/typescript/configuration';
+import { InfoApi } from '../../../main/typescript/me/xstr/api/apis/info-api';
+import { AxiosInstance } from 'axios';
+
+describe('ResponseCache', () => {
+  let mockAxios: jest.Mocked<AxiosInstance>;
+
+  const versionResponse = (status: number, headers: Record<string, string>) => ({
+    data: status === 304 ? '' : { version: '1.0.0' },
+    status,
+    statusText: '',
+    headers,
+    config: {},
+  });
+
+  beforeEach(() => {
+    mockAxios = {
+      request: jest.fn(),
+      defaults: {} as any,
+      interceptors: {} as any,
+    } as unknown as jest.Mocked<AxiosInstance>;
+  });
+
+  const infoApi = (cache: ResponseCache) =>
+    new InfoApi(
+      new Configuration({ basePath: 'https://api.xstr.me/v1', responseCache: cache }),
+      undefined,
+      mockAxios
+    );
+
+  it('should share one request between concurrent identical calls', async () => {
+    let resolve: (value: unknown) => void = () => undefined;
+    mockAxios.request.mockReturnValueOnce(new Promise(r => (resolve = r)));
+    const api = infoApi(new ResponseCache());
+
+    const calls = [api.getVersion(), api.getVersion(), api.getVersion()];
+    await new Promise(r => setImmediate(r));
+    resolve(versionResponse(200, {}));
+    const results = await Promise.all(calls);
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(1);
+    expect(results[1]).toBe(results[0]);
+    expect(results[2].data.version).toBe('1.0.0');
+  });
+
+  it('should serve fresh responses from the cache', async () => {
+    mockAxios.request.mockResolvedValue(versionResponse(200, {}));
+    const api = infoApi(new ResponseCache({ ttl: 60000 }));
+
+    await api.getVersion();
+    const result = await api.getVersion();
+
+    expect(result.data.version).toBe('1.0.0');
+    expect(mockAxios.request).toHaveBeenCalledTimes(1);
+  });
+
+  it('should use max-age when no ttl is configured', async () => {
+    mockAxios.request.mockResolvedValue(
+      versionResponse(200, { 'cache-control': 'public, max-age=60' })
+    );
+    const api = infoApi(new ResponseCache());
+
+    await api.getVersion();
+    await api.getVersion();
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(1);
+  });
+
+  it('should revalidate with If-None-Match and treat 304 as a hit', async () => {
+    const first = versionResponse(200, { etag: '"v1"' });
+    mockAxios.request
+      .mockResolvedValueOnce(first)
+      .mockResolvedValueOnce(versionResponse(304, { etag: '"v1"' }));
+    const api = infoApi(new ResponseCache());
+
+    await api.getVersion();
+    const result = await api.getVersion();
+
+    expect(result).toBe(first);
+    expect(mockAxios.request).toHaveBeenCalledTimes(2);
+    const revalidation = mockAxios.request.mock.calls[1][0];
+    expect(revalidation.headers).toMatchObject({ 'If-None-Match': '"v1"' });
+    expect(revalidation.validateStatus!(304)).toBe(true);
+    expect(revalidation.validateStatus!(500)).toBe(false);
+  });
+
+  it('should not cache no-store responses or failures', async () => {
+    mockAxios.request
+      .mockResolvedValueOnce(versionResponse(200, { etag: '"v1"', 'cache-control': 'no-store' }))
+      .mockRejectedValueOnce(new Error('Network Error'))
+      .mockResolvedValueOnce(versionResponse(200, {}));
+    const api = infoApi(new ResponseCache({ ttl: 60000 }));
+
+    await api.getVersion();
+    await expect(api.getVersion()).rejects.toThrow('Network Error');
+    await api.getVersion();
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(3);
+    expect(mockAxios.request.mock.calls[1][0].headers).not.toHaveProperty('If-None-Match');
+  });
+
+  it('should keep calls with different headers apart', async () => {
+    mockAxios.request.mockResolvedValue(versionResponse(200, {}));
+    const cache = new ResponseCache({ ttl: 60000 });
+    const api = infoApi(cache);
+
+    await api.getVersion();
+    await api.getVersion({ headers: { Accept: 'application/json' } });
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(2);
+  });
+
+  it('should evict the least recently used response', async () => {
+    mockAxios.request.mockResolvedValue(versionResponse(200, {}));
+    const cache = new ResponseCache({ ttl: 60000, maxEntries: 1 });
+    const api = infoApi(cache);
+
+    await api.getVersion();
+    await api.getVersion({ headers: { Accept: 'application/json' } });
+    await api.getVersion();
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(3);
+  });
+
+  it('should always send calls other than GET', async () => {
+    mockAxios.request.mockResolvedValue(versionResponse(200, {}));
+    const cache = new ResponseCache({ ttl: 60000 });
+
+    await cache.request(mockAxios, { url: '/batch', method: 'POST' });
+    await cache.request(mockAxios, { url: '/batch', method: 'POST' });
+
+    expect(mockAxios.request).toHaveBeenCalledTimes(2);
+  });
+});